@@ -1,13 +1,256 @@
 package main;
 
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
+import main.cache.ResultCache;
+import main.diagnostic.DiagnosticFormat;
+import main.diagnostic.DiagnosticWriter;
+import main.driver.BatchCompiler;
+import main.driver.CompileDaemon;
+import main.instrumentation.DecisionProfile;
+import main.instrumentation.StatsReport;
+import main.parse.ByteBufferCharStream;
+import main.parse.PredictionCache;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 public class Cmm {
+    public static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+    public static final int USAGE_ERROR_STATUS = 2;
+    private static final String USAGE = "usage: java main.Cmm [options] sources...\n"
+            + "options: -j N, --max-errors N, --fail-fast, --format text|jsonl|sarif, --abort-on-syntax-error,\n"
+            + "         --parallel-parse, --stats, --profile-parser, --cache DIR, --cache-size MB, --dfa-cache FILE,\n"
+            + "         --warm-up, --daemon, --daemon-port N";
+
     public static void main(String[] args) throws IOException {
-        CharStream reader = CharStreams.fromFileName(args[0]);
-        CmmCompiler cmmCompiler = new CmmCompiler();
-        cmmCompiler.compile(reader);
+        //System.out flushes on every line; the compiler output is flushed once instead
+        System.setOut(new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), OUTPUT_BUFFER_SIZE), false));
+        int status;
+        try {
+            status = run(args);
+        } catch (UsageError e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            status = USAGE_ERROR_STATUS;
+        } finally {
+            System.out.flush();
+        }
+        if (status != 0)
+            System.exit(status);
+    }
+
+    private static int run(String[] args) throws IOException, UsageError {
+        List<String> sources = new ArrayList<>();
+        int jobs = 0;
+        boolean daemon = false;
+        int daemonPort = -1;
+        boolean stats = false;
+        DecisionProfile decisionProfile = null;
+        boolean parallelParsing = false;
+        boolean abortOnSyntaxError = false;
+        DiagnosticFormat format = null;
+        int maxErrors = 0;
+        String cacheDirectory = null;
+        long cacheMegabytes = ResultCache.DEFAULT_MAX_BYTES >> 20;
+        boolean warmUp = false;
+        String dfaCache = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-j") || args[i].equals("--jobs"))
+                jobs = number(args[i], value(args, i++), 1, Integer.MAX_VALUE);
+            else if (args[i].equals("--stats"))
+                stats = true;
+            else if (args[i].equals("--parallel-parse"))
+                parallelParsing = true;
+            else if (args[i].equals("--abort-on-syntax-error"))
+                abortOnSyntaxError = true;
+            else if (args[i].equals("--profile-parser"))
+                decisionProfile = new DecisionProfile();
+            else if (args[i].equals("--max-errors"))
+                maxErrors = number(args[i], value(args, i++), 1, Integer.MAX_VALUE);
+            else if (args[i].equals("--fail-fast"))
+                maxErrors = 1;
+            else if (args[i].equals("--cache"))
+                cacheDirectory = value(args, i++);
+            else if (args[i].equals("--cache-size"))
+                cacheMegabytes = number(args[i], value(args, i++), 1, Integer.MAX_VALUE);
+            else if (args[i].equals("--warm-up"))
+                warmUp = true;
+            else if (args[i].equals("--dfa-cache"))
+                dfaCache = value(args, i++);
+            else if (args[i].equals("--format"))
+                format = format(value(args, i++));
+            else if (args[i].equals("--daemon"))
+                daemon = true;
+            else if (args[i].equals("--daemon-port")) {
+                daemon = true;
+                daemonPort = number(args[i], value(args, i++), 0, 65535);
+            }
+            else if (args[i].startsWith("-"))
+                throw new UsageError("Unknown option: " + args[i]);
+            else
+                sources.add(args[i]);
+        }
+        //the daemon may be started without sources; it reads them from its requests
+        if (sources.isEmpty() && !daemon)
+            throw new UsageError("No sources given");
+
+        if (dfaCache != null)
+            restorePredictions(Paths.get(dfaCache));
+        if (warmUp)
+            PredictionCache.warmUp(PredictionCache.bundledCorpus());
+
+        ResultCache resultCache = cacheDirectory == null ? null : new ResultCache(Paths.get(cacheDirectory), cacheMegabytes << 20);
+        BatchCompiler batchCompiler = new BatchCompiler();
+        if (daemon) {
+            for (String source : sources)
+                batchCompiler.addSource(source);
+            CompileDaemon compileDaemon = new CompileDaemon();
+            compileDaemon.getCompiler().setMaxErrors(maxErrors);
+            compileDaemon.getCompiler().setResultCache(resultCache);
+            compileDaemon.getCompiler().setParallelParsing(parallelParsing);
+            compileDaemon.getCompiler().setAbortOnSyntaxError(abortOnSyntaxError);
+            compileDaemon.setFormat(format);
+            StatsReport statsReport = null;
+            if (stats) {
+                statsReport = new StatsReport();
+                compileDaemon.getCompiler().setInstrumented(true);
+                compileDaemon.setStatsReport(statsReport);
+            }
+            compileDaemon.warmUp(batchCompiler.getSources());
+            //the warm-up is not profiled
+            compileDaemon.getCompiler().setDecisionProfile(decisionProfile);
+            if (daemonPort >= 0) {
+                //the daemon serves until it is stopped
+                StatsReport finalStatsReport = statsReport;
+                DecisionProfile finalDecisionProfile = decisionProfile;
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> printReports(finalStatsReport, finalDecisionProfile)));
+                compileDaemon.listen(daemonPort);
+            }
+            else {
+                compileDaemon.serve(new BufferedReader(new InputStreamReader(System.in)), System.out);
+                printReports(statsReport, decisionProfile);
+            }
+            return 0;
+        }
+
+        if (format == null && sources.size() == 1 && Files.isRegularFile(Paths.get(sources.get(0)))) {
+            CmmCompiler cmmCompiler = new CmmCompiler();
+            cmmCompiler.setInstrumented(stats);
+            cmmCompiler.setMaxErrors(maxErrors);
+            cmmCompiler.setResultCache(resultCache);
+            cmmCompiler.setDecisionProfile(decisionProfile);
+            cmmCompiler.setParallelParsing(parallelParsing);
+            cmmCompiler.setAbortOnSyntaxError(abortOnSyntaxError);
+            CompilationResult result = cmmCompiler.compile(ByteBufferCharStream.read(Paths.get(sources.get(0))), sources.get(0), null);
+            result.print(System.out);
+            StatsReport statsReport = null;
+            if (stats) {
+                statsReport = new StatsReport();
+                statsReport.add(result);
+            }
+            printReports(statsReport, decisionProfile);
+            return result.isSuccess() ? 0 : 1;
+        }
+
+        batchCompiler.setJobs(jobs);
+        batchCompiler.getCompiler().setMaxErrors(maxErrors);
+        batchCompiler.getCompiler().setResultCache(resultCache);
+        batchCompiler.getCompiler().setDecisionProfile(decisionProfile);
+        batchCompiler.getCompiler().setParallelParsing(parallelParsing);
+        batchCompiler.getCompiler().setAbortOnSyntaxError(abortOnSyntaxError);
+        for (String source : sources)
+            batchCompiler.addSource(source);
+        if (stats) {
+            batchCompiler.getCompiler().setInstrumented(true);
+            batchCompiler.setStatsReport(new StatsReport());
+        }
+        DiagnosticWriter diagnosticWriter = null;
+        if (format != null) {
+            diagnosticWriter = format.create(System.out);
+            batchCompiler.setDiagnosticWriter(diagnosticWriter);
+        }
+        int failed = batchCompiler.run();
+        if (diagnosticWriter != null)
+            diagnosticWriter.close();
+        printReports(batchCompiler.getStatsReport(), decisionProfile);
+        return failed > 0 ? 1 : 0;
+    }
+
+    //the argument after the option at i; callers pass i++ to step over it
+    private static String value(String[] args, int i) throws UsageError {
+        if (i + 1 == args.length)
+            throw new UsageError(args[i] + " expects a value");
+        return args[i + 1];
+    }
+
+    //the value of a numeric option, which must be an integer from min to max
+    private static int number(String option, String value, int min, int max) throws UsageError {
+        int number;
+        try {
+            number = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new UsageError(option + " expects a number, not " + value);
+        }
+        if (number < min || number > max) {
+            String range = max == Integer.MAX_VALUE ? "of at least " + min : "from " + min + " to " + max;
+            throw new UsageError(option + " expects a number " + range + ", not " + value);
+        }
+        return number;
+    }
+
+    //the format named by --format; null for text
+    private static DiagnosticFormat format(String name) throws UsageError {
+        if (name.equalsIgnoreCase("text"))
+            return null;
+        try {
+            return DiagnosticFormat.fromName(name);
+        } catch (IllegalArgumentException e) {
+            throw new UsageError("Unknown format: " + name + " (expected text, jsonl or sarif)");
+        }
+    }
+
+    //prints the reports asked for with --stats and --profile-parser to stderr
+    private static void printReports(StatsReport statsReport, DecisionProfile decisionProfile) {
+        if (statsReport != null)
+            statsReport.print(System.err);
+        if (decisionProfile != null)
+            decisionProfile.print(System.err, DecisionProfile.DEFAULT_TOP);
+    }
+
+    //Loads the parser DFAs saved by an earlier run and saves them again at exit if this run added states.
+    //The file only makes parsing faster, so a missing, stale or unreadable one is ignored.
+    private static void restorePredictions(Path path) {
+        try {
+            PredictionCache.load(path);
+        } catch (IOException e) {
+            //parse without it
+        }
+        int loaded = PredictionCache.size();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (PredictionCache.size() > loaded) {
+                try {
+                    PredictionCache.save(path);
+                } catch (IOException e) {
+                    //the next run warms up again
+                }
+            }
+        }));
+    }
+
+    //a bad command line; main prints it with the usage and exits with USAGE_ERROR_STATUS
+    private static class UsageError extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        UsageError(String message) {
+            super(message, null, false, false);
+        }
     }
 }
@@ -1,39 +1,336 @@
 package main;
 
+import main.cache.ResultCache;
+import main.compileError.CompileError;
+import main.diagnostic.DiagnosticListener;
+import main.instrumentation.DecisionProfile;
+import main.instrumentation.PhaseRecorder;
+import main.parse.ArrayTokenStream;
+import main.parse.ByteBufferCharStream;
+import main.parse.FastCmmLexer;
+import main.parse.IncrementalParser;
+import main.parse.ParallelParser;
+import main.parse.ParserPool;
+import main.parse.SyntaxErrorCollector;
+import main.parse.TwoStageParser;
+import main.symbolTable.SymbolTableStack;
 import main.visitor.*;
 import main.visitor.name.*;
 import main.visitor.type.*;
 import parsers.*;
+import main.ast.compact.CompactProgram;
 import main.ast.nodes.Program;
 import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 
+//Holds no state between calls but a pool of lexers and parsers, so one instance may compile many sources concurrently.
+//Never prints and never exits; everything is reported through the CompilationResult.
 public class CmmCompiler {
-    public void compile(CharStream textStream) {
-        CmmLexer cmmLexer = new CmmLexer(textStream);
-        CommonTokenStream tokenStream = new CommonTokenStream(cmmLexer);
-        CmmParser cmmParser = new CmmParser(tokenStream);
-        Program program = cmmParser.cmm().cmmProgram;
-        ErrorReporter errorReporter = new ErrorReporter();
+    //part of every ResultCache key; change it whenever the diagnostics for some source change
+    public static final String VERSION = "cmm-semantic-2";
 
-        NameAnalyser nameAnalyser = new NameAnalyser();
-        program.accept(nameAnalyser);
+    private boolean keepProgram = false;
+    private boolean compactProgram = false;
+    private boolean instrumented = false;
+    private int maxErrors = 0;
+    private ResultCache resultCache;
+    private boolean fastLexer = true;
+    private boolean twoStageParsing = true;
+    private boolean parallelParsing = false;
+    private boolean abortOnSyntaxError = false;
+    private DecisionProfile decisionProfile;
+    private final ParserPool parserPool = new ParserPool();
 
-        int numberOfErrors = program.accept(errorReporter);
-        if(numberOfErrors > 0)
-            System.exit(1);
+    public boolean isKeepProgram() {
+        return keepProgram;
+    }
+    public void setKeepProgram(boolean keepProgram) {
+        this.keepProgram = keepProgram;
+    }
+
+    //keep the checked tree as a CompactProgram instead of its nodes
+    public boolean isCompactProgram() {
+        return compactProgram;
+    }
+    public void setCompactProgram(boolean compactProgram) {
+        this.compactProgram = compactProgram;
+    }
+
+    //also measure allocation and counts of every phase, not only wall time
+    public boolean isInstrumented() {
+        return instrumented;
+    }
+    public void setInstrumented(boolean instrumented) {
+        this.instrumented = instrumented;
+    }
+
+    //stop the analysis once this many errors were found, 0 means no limit and 1 is fail-fast.
+    //The reported errors are the first ones found, listed in tree order.
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+    public void setMaxErrors(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    //lex with the hand-written FastCmmLexer instead of the generated CmmLexer; the tokens are the same
+    public boolean isFastLexer() {
+        return fastLexer;
+    }
+    public void setFastLexer(boolean fastLexer) {
+        this.fastLexer = fastLexer;
+    }
+
+    //parse with SLL prediction first and fall back to full LL only on a syntax error; the output is the same
+    public boolean isTwoStageParsing() {
+        return twoStageParsing;
+    }
+    public void setTwoStageParsing(boolean twoStageParsing) {
+        this.twoStageParsing = twoStageParsing;
+    }
+
+    //parse the top-level declarations of large sources concurrently in the common ForkJoinPool
+    public boolean isParallelParsing() {
+        return parallelParsing;
+    }
+    public void setParallelParsing(boolean parallelParsing) {
+        this.parallelParsing = parallelParsing;
+    }
+
+    //stop at the first syntax error and report only it, without analysing the source
+    public boolean isAbortOnSyntaxError() {
+        return abortOnSyntaxError;
+    }
+    public void setAbortOnSyntaxError(boolean abortOnSyntaxError) {
+        this.abortOnSyntaxError = abortOnSyntaxError;
+    }
+
+    //when set, every parse is profiled per grammar decision into it, which makes parsing much slower
+    public DecisionProfile getDecisionProfile() {
+        return decisionProfile;
+    }
+    public void setDecisionProfile(DecisionProfile decisionProfile) {
+        this.decisionProfile = decisionProfile;
+    }
+
+    //consulted by compile(byte[], ...) for the diagnostics, except while the program is kept, and for the parsed program
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+    public void setResultCache(ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    public CompilationResult compile(byte[] source, String sourceName, DiagnosticListener listener) throws IOException {
+        return compile(ByteBuffer.wrap(source), sourceName, listener);
+    }
+
+    //Compiles the remaining UTF-8 bytes of the buffer, which may be a memory-mapped file; they are lexed in place.
+    //With a ResultCache, an unchanged source compiled with the same settings before skips every phase and
+    //only replays the cached diagnostics. Otherwise an unchanged source that parsed without syntax errors
+    //before is not lexed and parsed again but its program is loaded from the cache.
+    public CompilationResult compile(ByteBuffer source, String sourceName, DiagnosticListener listener) throws IOException {
+        return compile(source, sourceName, null, listener);
+    }
+
+    //Compiles the UTF-8 bytes as the new text of the source an IncrementalParser keeps, which parses again only
+    //the declarations that changed since its last text, with its own lexer and parsers; otherwise like
+    //compile(ByteBuffer, ...), the ResultCache included. Concurrent compilations sharing the parser take turns.
+    public CompilationResult compile(ByteBuffer source, IncrementalParser incrementalParser, DiagnosticListener listener) throws IOException {
+        return compile(source, incrementalParser.getSourceName(), incrementalParser, listener);
+    }
+
+    private CompilationResult compile(ByteBuffer source, String sourceName, IncrementalParser incrementalParser,
+                                      DiagnosticListener listener) throws IOException {
+        if (resultCache == null || keepProgram)
+            return compileSource(source, sourceName, incrementalParser, listener);
+        String key = ResultCache.key(VERSION, "maxErrors=" + maxErrors + ",abortOnSyntaxError=" + abortOnSyntaxError, source);
+        ResultCache.Entry entry = resultCache.get(key);
+        if (entry != null) {
+            CompilationResult result = new CompilationResult();
+            result.setFromCache(true);
+            for (CompileError error : entry.getDiagnostics()) {
+                result.getDiagnostics().add(error);
+                if (listener != null)
+                    listener.report(error);
+            }
+            if (entry.getErrorLimit() > 0)
+                result.setErrorLimitReached(new ErrorLimitReached(entry.getErrorLimit()));
+            return result;
+        }
+        CompilationResult result = compileSource(source, sourceName, incrementalParser, listener);
+        ErrorLimitReached errorLimitReached = result.getErrorLimitReached();
+        try {
+            resultCache.put(key, new ResultCache.Entry(result.getDiagnostics(), errorLimitReached == null ? 0 : errorLimitReached.getLimit()));
+        } catch (IOException ignore) {
+            //a cache that cannot be written only costs the next run its hit
+        }
+        return result;
+    }
+
+    //the diagnostics of a source that are not in the resultCache
+    private CompilationResult compileSource(ByteBuffer source, String sourceName, IncrementalParser incrementalParser,
+                                            DiagnosticListener listener) {
+        if (incrementalParser != null)
+            return compile(StandardCharsets.UTF_8.decode(source.duplicate()).toString(), incrementalParser, listener);
+        return compile(ByteBufferCharStream.fromBuffer(source, sourceName), resultCache == null ? null : programKey(source), listener);
+    }
+
+    //the key of the parsed program of the source in the ResultCache
+    private static String programKey(ByteBuffer source) {
+        return ResultCache.key(VERSION, "program", source);
+    }
+
+    public CompilationResult compile(CharStream textStream) {
+        return compile(textStream, null);
+    }
 
-        TypeChecker typeChecker = new TypeChecker();
-        program.accept(typeChecker);
+    //the listener, when given, receives every diagnostic as soon as it is reported
+    public CompilationResult compile(CharStream textStream, DiagnosticListener listener) {
+        return compile(textStream, null, listener);
+    }
+
+    //programKey, when given, is the key of the parsed program in the resultCache
+    private CompilationResult compile(CharStream textStream, String programKey, DiagnosticListener listener) {
+        return compile(listener, (recorder, syntaxErrors) -> parse(textStream, programKey, recorder, syntaxErrors));
+    }
+
+    //The syntax errors of the incremental parse are reported as if they were found now, so that the budget and
+    //abortOnSyntaxError stop where a parse of the whole text would. Lexing is timed as part of parsing.
+    //The next edit undoes what the analysis changed in the Program, so the parser is held until it is checked.
+    private CompilationResult compile(String text, IncrementalParser incrementalParser, DiagnosticListener listener) {
+        synchronized (incrementalParser) {
+            return compile(listener, (recorder, syntaxErrors) -> {
+                incrementalParser.setDecisionProfile(decisionProfile);
+                Program program = incrementalParser.setText(text);
+                for (CompileError error : incrementalParser.getSyntaxErrors())
+                    syntaxErrors.report(error);
+                return program;
+            });
+        }
+    }
+
+    //parse gives the program, or null when the syntax errors it reported leave nothing to analyse
+    private CompilationResult compile(DiagnosticListener listener, BiFunction<PhaseRecorder, SyntaxErrorCollector, Program> parse) {
+        CompilationContext context = new CompilationContext();
+        context.setMaxErrors(maxErrors);
+        CompilationResult result = new CompilationResult();
+        PhaseRecorder recorder = new PhaseRecorder(result, instrumented);
+
+        SyntaxErrorCollector syntaxErrors = new SyntaxErrorCollector(context, result.getDiagnostics(), listener, abortOnSyntaxError);
+        try {
+            Program program = parse.apply(recorder, syntaxErrors);
+            if (program == null)
+                return result;
+            recorder.end(CompilationPhase.PARSING, () -> program.accept(new NodeCounter()));
+            if (keepProgram && !compactProgram)
+                result.setProgram(program);
+            analyse(program, context, result, new ErrorReporter(context, result.getDiagnostics(), listener), recorder);
+            if (keepProgram && compactProgram)
+                result.setCompactProgram(CompactProgram.encode(program));
+        } catch (ErrorLimitReached e) {
+            result.setErrorLimitReached(e);
+        } catch (ParseCancellationException e) {
+            //stopped at the first syntax error
+        } catch (RuntimeException e) {
+            //error recovery leaves holes in the tree that the grammar actions and the analysis may trip over;
+            //the syntax errors already say what is wrong with the source
+            if (syntaxErrors.getCount() == 0)
+                throw e;
+        }
+        return result;
+    }
 
-        numberOfErrors = program.accept(errorReporter);
+    private void analyse(Program program, CompilationContext context, CompilationResult result, ErrorReporter errorReporter,
+                         PhaseRecorder recorder) {
+        SymbolTableStack symbolTables = context.getSymbolTables();
+        NameAnalyser nameAnalyser = new NameAnalyser(context);
+        try {
+            program.accept(nameAnalyser);
+        } catch (ErrorLimitReached e) {
+            result.setErrorLimitReached(e);
+        }
+        int nameSymbols = symbolTables.getDeclaredSymbols();
+        recorder.end(CompilationPhase.NAME_ANALYSIS, () -> nameSymbols);
+
+        int numberOfErrors = program.accept(errorReporter);
+        recorder.end(CompilationPhase.NAME_ERROR_REPORT, () -> numberOfErrors);
         if(numberOfErrors > 0)
-            System.exit(1);
+            return;
 
-        System.out.println("Compilation successful");
+        TypeChecker typeChecker = new TypeChecker(context);
+        try {
+            program.accept(typeChecker);
+        } catch (ErrorLimitReached e) {
+            result.setErrorLimitReached(e);
+        }
+        recorder.end(CompilationPhase.TYPE_CHECKING, () -> symbolTables.getDeclaredSymbols() - nameSymbols);
+
+        int numberOfTypeErrors = program.accept(errorReporter);
+        recorder.end(CompilationPhase.TYPE_ERROR_REPORT, () -> numberOfTypeErrors);
 
 //        ASTTreePrinter astTreePrinter = new ASTTreePrinter();
 //        program.accept(astTreePrinter);
+    }
+
+    //The program the resultCache holds under programKey, which then makes up the whole parsing phase.
+    //Otherwise parses the source and, when it has no syntax errors, stores its program under the key.
+    private Program parse(CharStream textStream, String programKey, PhaseRecorder recorder, SyntaxErrorCollector syntaxErrors) {
+        if (programKey == null)
+            return parse(textStream, recorder, syntaxErrors);
+        CompactProgram cached = resultCache.getProgram(programKey);
+        if (cached != null) {
+            try {
+                return cached.toProgram();
+            } catch (RuntimeException e) {
+                //an entry whose nodes do not fit together is replaced below
+            }
+        }
+        Program program = parse(textStream, recorder, syntaxErrors);
+        if (syntaxErrors.getCount() == 0) {
+            try {
+                resultCache.putProgram(programKey, CompactProgram.encode(program));
+            } catch (IOException ignore) {
+                //a cache that cannot be written only costs the next run its hit
+            }
+        }
+        return program;
+    }
+
+    //lexes and parses with pooled instances, except when profiling, lexing with the generated lexer or parsing in parallel
+    private Program parse(CharStream textStream, PhaseRecorder recorder, SyntaxErrorCollector syntaxErrors) {
+        boolean parallel = parallelParsing && twoStageParsing;
+        if (fastLexer && decisionProfile == null && !parallel) {
+            ParserPool.Parsers parsers = parserPool.acquire();
+            try {
+                ArrayTokenStream tokenStream = parsers.lex(textStream, syntaxErrors);
+                recorder.end(CompilationPhase.LEXING, tokenStream::size);
+                TwoStageParser parser = parsers.getParser();
+                return twoStageParsing ? parser.parse(tokenStream) : parser.parseLL(tokenStream);
+            } finally {
+                parserPool.release(parsers);
+            }
+        }
 
+        Lexer lexer = fastLexer ? new FastCmmLexer(textStream) : new CmmLexer(textStream);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(syntaxErrors);
+        CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+        tokenStream.fill();
+        recorder.end(CompilationPhase.LEXING, tokenStream::size);
+        if (parallel) {
+            ParallelParser parser = new ParallelParser(ForkJoinPool.commonPool(), decisionProfile, textStream.getSourceName());
+            parser.setErrorListener(syntaxErrors);
+            return parser.parse(tokenStream);
+        }
+        TwoStageParser parser = new TwoStageParser(decisionProfile, textStream.getSourceName());
+        parser.setErrorListener(syntaxErrors);
+        return twoStageParsing ? parser.parse(tokenStream) : parser.parseLL(tokenStream);
     }
 }
@@ -0,0 +1,67 @@
+package main;
+
+import main.ast.nodes.Node;
+import main.compileError.CompileError;
+import main.diagnostic.DiagnosticSink;
+import main.symbolTable.SymbolTableStack;
+
+//State owned by a single compilation, shared by its visitors
+public class CompilationContext {
+    private final SymbolTableStack symbolTables = new SymbolTableStack();
+    private final DiagnosticSink errors = new DiagnosticSink();
+    private boolean catchErrors = true;
+    private int maxErrors = 0;
+    private int numberOfErrors = 0;
+
+    public SymbolTableStack getSymbolTables() {
+        return symbolTables;
+    }
+
+    //the errors reported at the nodes and not yet moved out by ErrorReporter
+    public DiagnosticSink getErrors() {
+        return errors;
+    }
+
+    public boolean isCatchErrors() {
+        return catchErrors;
+    }
+    public void setCatchErrors(boolean catchErrors) {
+        this.catchErrors = catchErrors;
+    }
+
+    //0 means no limit
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+    public void setMaxErrors(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    //the errors reported so far, syntax errors included
+    public int getNumberOfErrors() {
+        return numberOfErrors;
+    }
+
+    //Throws ErrorLimitReached, which stops the analysis, when the pending errors fill what is left of the error
+    //budget. They are only charged to it as ErrorReporter reports them, all of them, so exactly that many are.
+    public void addError(Node node, CompileError error) {
+        if (!catchErrors)
+            return;
+        errors.add(node, error);
+        if (numberOfErrors + errors.size() == maxErrors)
+            throw new ErrorLimitReached(maxErrors);
+    }
+
+    //charges an error that is reported as soon as it is found, such as a syntax error;
+    //throws ErrorLimitReached when it uses up the error budget
+    public void countError() {
+        numberOfErrors += 1;
+        if (numberOfErrors == maxErrors)
+            throw new ErrorLimitReached(maxErrors);
+    }
+
+    //charges an error ErrorReporter reported; when it uses up the budget, addError already stopped the analysis
+    public void countReportedError() {
+        numberOfErrors += 1;
+    }
+}
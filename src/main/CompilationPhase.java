@@ -0,0 +1,21 @@
+package main;
+
+public enum CompilationPhase {
+    LEXING("tokens"),
+    PARSING("nodes"),
+    NAME_ANALYSIS("symbols"),
+    NAME_ERROR_REPORT("errors"),
+    TYPE_CHECKING("symbols"),
+    TYPE_ERROR_REPORT("errors");
+
+    private final String countUnit;
+
+    CompilationPhase(String countUnit) {
+        this.countUnit = countUnit;
+    }
+
+    //what the instrumentation counts in this phase
+    public String getCountUnit() {
+        return countUnit;
+    }
+}
@@ -0,0 +1,88 @@
+package main;
+
+import main.ast.compact.CompactProgram;
+import main.ast.nodes.Program;
+import main.compileError.CompileError;
+import main.instrumentation.PhaseStats;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+//Outcome of one CmmCompiler.compile call
+public class CompilationResult {
+    private final List<CompileError> diagnostics = new ArrayList<>();
+    private final Map<CompilationPhase, PhaseStats> phaseStats = new EnumMap<>(CompilationPhase.class);
+    private Program program;
+    private CompactProgram compactProgram;
+    private ErrorLimitReached errorLimitReached;
+    private boolean fromCache = false;
+
+    public boolean isSuccess() {
+        return diagnostics.isEmpty();
+    }
+
+    //in the order the compiler reports them
+    public List<CompileError> getDiagnostics() {
+        return diagnostics;
+    }
+
+    //wall time of every phase that ran, in nanoseconds
+    public Map<CompilationPhase, Long> getPhaseTimes() {
+        Map<CompilationPhase, Long> phaseTimes = new EnumMap<>(CompilationPhase.class);
+        for (Map.Entry<CompilationPhase, PhaseStats> entry : phaseStats.entrySet())
+            phaseTimes.put(entry.getKey(), entry.getValue().getWallNanos());
+        return phaseTimes;
+    }
+
+    public Map<CompilationPhase, PhaseStats> getPhaseStats() {
+        return phaseStats;
+    }
+    public void setPhaseStats(CompilationPhase phase, PhaseStats stats) {
+        phaseStats.put(phase, stats);
+    }
+
+    //the checked tree, only kept when CmmCompiler.setKeepProgram(true) was called
+    public Program getProgram() {
+        return program;
+    }
+    public void setProgram(Program program) {
+        this.program = program;
+    }
+
+    //the checked tree when CmmCompiler.setCompactProgram(true) was called too; null when the compilation
+    //stopped at a syntax error before the analysis was done
+    public CompactProgram getCompactProgram() {
+        return compactProgram;
+    }
+    public void setCompactProgram(CompactProgram compactProgram) {
+        this.compactProgram = compactProgram;
+    }
+
+    //true when the diagnostics were replayed from a ResultCache and no phase ran
+    public boolean isFromCache() {
+        return fromCache;
+    }
+    public void setFromCache(boolean fromCache) {
+        this.fromCache = fromCache;
+    }
+
+    //set when the analysis was stopped early because the error budget was used up
+    public ErrorLimitReached getErrorLimitReached() {
+        return errorLimitReached;
+    }
+    public void setErrorLimitReached(ErrorLimitReached errorLimitReached) {
+        this.errorLimitReached = errorLimitReached;
+    }
+
+    public void print(PrintStream out) {
+        for (CompileError error : diagnostics)
+            out.println(error.getMessage());
+        if (errorLimitReached != null)
+            out.println(errorLimitReached.getMessage());
+        if (isSuccess())
+            out.println("Compilation successful");
+    }
+}
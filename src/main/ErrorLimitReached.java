@@ -0,0 +1,18 @@
+package main;
+
+//Thrown by CompilationContext.addError once the error budget is used up, to unwind out of the visitors.
+//Carries no stack trace, it is always caught by CmmCompiler.
+public class ErrorLimitReached extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final int limit;
+
+    public ErrorLimitReached(int limit) {
+        super("Analysis stopped after " + limit + (limit == 1 ? " error" : " errors"), null, false, false);
+        this.limit = limit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
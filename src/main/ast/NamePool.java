@@ -0,0 +1,48 @@
+package main.ast;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+//Gives every distinct identifier text of the process a dense int id, from 0 on, as the parser creates the
+//Identifiers. Names are compared and symbols are looked up by id, and all Identifiers of a name share one
+//String. Ids are never freed, so the pool grows with the number of distinct names a process has seen.
+public class NamePool {
+    public static final int NO_NAME = -1;
+
+    private static final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[1024];
+    private static int size = 0;
+
+    private NamePool() {
+    }
+
+    //NO_NAME for null
+    public static int idOf(String name) {
+        if (name == null)
+            return NO_NAME;
+        Integer id = ids.get(name);
+        return id != null ? id : add(name);
+    }
+
+    private static synchronized int add(String name) {
+        Integer id = ids.get(name);
+        if (id != null)
+            return id;
+        if (size == names.length)
+            names = Arrays.copyOf(names, size * 2);
+        //the name is in the array before its id can be read from the map
+        names[size] = name;
+        ids.put(name, size);
+        return size++;
+    }
+
+    //null for NO_NAME
+    public static String nameOf(int id) {
+        return id == NO_NAME ? null : names[id];
+    }
+
+    //number of names seen so far
+    public static int size() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,1053 @@
+package main.ast.compact;
+
+import main.ast.nodes.Node;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.declaration.VariableDeclaration;
+import main.ast.nodes.declaration.struct.StructDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.operators.BinaryOperator;
+import main.ast.nodes.expression.operators.UnaryOperator;
+import main.ast.nodes.expression.values.primitive.BoolValue;
+import main.ast.nodes.expression.values.primitive.IntValue;
+import main.ast.nodes.statement.*;
+import main.ast.types.FptrType;
+import main.ast.types.ListType;
+import main.ast.types.NoType;
+import main.ast.types.StructType;
+import main.ast.types.Type;
+import main.ast.types.primitives.BoolType;
+import main.ast.types.primitives.IntType;
+import main.ast.types.primitives.VoidType;
+import main.visitor.IVisitor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+//A Program kept in a few primitive arrays instead of one object per node, for holding on to large
+//checked programs; it takes about a fifth of the memory of the nodes.
+//Nodes are numbered in tree order from the Program at 0, and a node is followed by its children and their
+//subtrees, so a node is one byte of kind, one int of data and its line: the data of a node with children is
+//the end of its subtree (but for the Program, whose subtree is all nodes), and the children of node n are found with
+//    for (int child = n + 1; child < getEnd(n); child = getEnd(child))
+//The data of a leaf is its value. A missing child is a MISSING leaf, and a node reached a second time in
+//the tree (a Type shared by the variables of one declaration) a SHARED leaf whose value is the node, so
+//decoding gives back the same sharing; getChild resolves both. Types are nodes too, on the line of the
+//node before them, and names are indexes into one table of distinct names. Lines are kept as the step
+//from the node before, with the full line of every LINE_BLOCK-th node and of the nodes with a larger step.
+//The passes written against the nodes run on a decoded copy, see accept. write and read store the arrays
+//as they are, so a program parsed once can be loaded again without lexing and parsing its source.
+//
+//children, in order, and value of every kind (the value is 0 when not listed):
+//  PROGRAM                  structs, functions, main; value: number of structs
+//  FUNCTION_DECLARATION     returnType, functionName, body, args
+//  MAIN_DECLARATION         body
+//  VARIABLE_DECLARATION     varName, varType, defaultValue
+//  STRUCT_DECLARATION       structName, body
+//  SET_GET_VAR_DECLARATION  varName, varType, setterBody, getterBody, args
+//  ASSIGNMENT_STMT          lValue, rValue
+//  BLOCK_STMT               statements
+//  CONDITIONAL_STMT         condition, thenBody, elseBody
+//  FUNCTION_CALL_STMT       functionCall
+//  DISPLAY_STMT             arg
+//  RETURN_STMT              returnedExpr
+//  LOOP_STMT                condition, body
+//  VAR_DEC_STMT             vars
+//  LIST_APPEND_STMT         listAppendExpr
+//  LIST_SIZE_STMT           listSizeExpr
+//  BINARY_EXPRESSION        firstOperand, secondOperand; value: BinaryOperator ordinal
+//  UNARY_EXPRESSION         operand; value: UnaryOperator ordinal
+//  FUNCTION_CALL            instance, args
+//  IDENTIFIER               value: name index
+//  LIST_ACCESS_BY_INDEX     instance, index
+//  STRUCT_ACCESS            instance, element
+//  LIST_SIZE                arg
+//  LIST_APPEND              listArg, elementArg
+//  EXPR_IN_PAR              inputs
+//  INT_VALUE                value: the constant
+//  BOOL_VALUE               value: 1 for true
+//  LIST_TYPE                elementType
+//  STRUCT_TYPE              structName
+//  FPTR_TYPE                returnType, argsTypes
+//  SHARED                   value: the node
+//An operator or a name that is missing is NONE.
+public class CompactProgram {
+    public static final int NONE = -1;
+    public static final int LINE_BLOCK = 32;
+    //the step of a node whose line is kept in farLines
+    private static final byte FAR = Byte.MIN_VALUE;
+
+    private static final NodeKind[] KINDS = NodeKind.values();
+    private static final BinaryOperator[] BINARY_OPERATORS = BinaryOperator.values();
+    private static final UnaryOperator[] UNARY_OPERATORS = UnaryOperator.values();
+    //the code of a node is the ordinal of its kind, or for an expression with an operator one of these plus the operator's ordinal
+    private static final int BINARY_CODES = KINDS.length;
+    private static final int UNARY_CODES = BINARY_CODES + BINARY_OPERATORS.length;
+    private static final int NUMBER_OF_CODES = UNARY_CODES + UNARY_OPERATORS.length;
+
+    private static final int MAGIC = 0x434d4d50;
+    private static final int FORMAT_VERSION = 1;
+
+    private final byte[] codes;
+    private final int[] data;
+    private final byte[] lineSteps;
+    private final int[] blockLines;
+    //the nodes whose step does not fit in a byte, in order, and their lines
+    private final int[] farNodes;
+    private final int[] farLines;
+    private final String[] names;
+
+    private CompactProgram(byte[] codes, int[] data, int[] lines, String[] names) {
+        this.codes = codes;
+        this.data = data;
+        this.names = names;
+        lineSteps = new byte[lines.length];
+        blockLines = new int[(lines.length + LINE_BLOCK - 1) / LINE_BLOCK];
+        int numberOfFarNodes = 0;
+        for (int node = 0; node < lines.length; node++) {
+            if (node % LINE_BLOCK == 0) {
+                blockLines[node / LINE_BLOCK] = lines[node];
+                continue;
+            }
+            long step = (long) lines[node] - lines[node - 1];
+            if (step > FAR && step <= Byte.MAX_VALUE) {
+                lineSteps[node] = (byte) step;
+            } else {
+                lineSteps[node] = FAR;
+                numberOfFarNodes++;
+            }
+        }
+        farNodes = new int[numberOfFarNodes];
+        farLines = new int[numberOfFarNodes];
+        for (int node = 0, far = 0; far < numberOfFarNodes; node++) {
+            if (lineSteps[node] == FAR && node % LINE_BLOCK != 0) {
+                farNodes[far] = node;
+                farLines[far++] = lines[node];
+            }
+        }
+    }
+
+    private CompactProgram(byte[] codes, int[] data, byte[] lineSteps, int[] blockLines, int[] farNodes, int[] farLines,
+                           String[] names) {
+        this.codes = codes;
+        this.data = data;
+        this.lineSteps = lineSteps;
+        this.blockLines = blockLines;
+        this.farNodes = farNodes;
+        this.farLines = farLines;
+        this.names = names;
+    }
+
+    public static CompactProgram encode(Program program) {
+        Encoder encoder = new Encoder();
+        encoder.node(program);
+        return encoder.build();
+    }
+
+    //number of nodes, types and MISSING and SHARED leaves included
+    public int size() {
+        return codes.length;
+    }
+
+    public NodeKind getKind(int node) {
+        int code = codes[node];
+        if (code < BINARY_CODES)
+            return KINDS[code];
+        return code < UNARY_CODES ? NodeKind.BINARY_EXPRESSION : NodeKind.UNARY_EXPRESSION;
+    }
+
+    public int getLine(int node) {
+        int line = blockLines[node / LINE_BLOCK];
+        for (int next = node - node % LINE_BLOCK + 1; next <= node; next++)
+            line = nextLine(next, line);
+        return line;
+    }
+
+    //the line of a node that is not the first of its block, from the line of the node before
+    private int nextLine(int node, int previousLine) {
+        byte step = lineSteps[node];
+        return step == FAR ? farLines[Arrays.binarySearch(farNodes, node)] : previousLine + step;
+    }
+
+    //see the table above
+    public int getValue(int node) {
+        int code = codes[node];
+        if (code >= UNARY_CODES)
+            return code - UNARY_CODES;
+        if (code >= BINARY_CODES)
+            return code - BINARY_CODES;
+        if (code == NodeKind.BINARY_EXPRESSION.ordinal() || code == NodeKind.UNARY_EXPRESSION.ordinal())
+            return NONE;
+        if (code == NodeKind.PROGRAM.ordinal())
+            return data[node];
+        return KINDS[code].hasChildren() ? 0 : data[node];
+    }
+
+    //the node after the subtree of the node
+    public int getEnd(int node) {
+        NodeKind kind = getKind(node);
+        if (kind == NodeKind.PROGRAM)
+            return codes.length;
+        return kind.hasChildren() ? data[node] : node + 1;
+    }
+
+    //the node a child stands for: NONE for a MISSING one, the node stored before for a SHARED one
+    public int resolve(int child) {
+        if (child == NONE)
+            return NONE;
+        switch (getKind(child)) {
+            case MISSING: return NONE;
+            case SHARED: return data[child];
+            default: return child;
+        }
+    }
+
+    public int getNumberOfChildren(int node) {
+        int numberOfChildren = 0;
+        for (int child = node + 1; child < getEnd(node); child = getEnd(child))
+            numberOfChildren++;
+        return numberOfChildren;
+    }
+
+    //the child at the position, resolved; walks over the children before it
+    public int getChild(int node, int position) {
+        int child = node + 1;
+        for (int i = 0; i < position; i++)
+            child = getEnd(child);
+        if (child >= getEnd(node))
+            throw new IndexOutOfBoundsException("node " + node + " has no child " + position);
+        return resolve(child);
+    }
+
+    //the name of an IDENTIFIER
+    public String getName(int node) {
+        int name = data[node];
+        return name == NONE ? null : names[name];
+    }
+
+    //the distinct names of the program
+    public int getNumberOfNames() {
+        return names.length;
+    }
+
+    //rough number of bytes the arrays and names take
+    public long getBytes() {
+        long bytes = 7 * 16 + codes.length + lineSteps.length
+                + 4L * (data.length + blockLines.length + farNodes.length + farLines.length + names.length);
+        for (String name : names)
+            bytes += 40 + name.length();
+        return bytes;
+    }
+
+    //Writes the program in one pass over the arrays, through one buffer and without an object per node:
+    //a header (magic, format version, number of codes, nodes, names and far lines), the codes and line steps
+    //as bytes, then the data, the block and far lines and the UTF-8 names as variable-length ints. The end
+    //of a subtree and the node of a SHARED leaf are written as the distance to their node, mostly one byte.
+    public void write(OutputStream out) throws IOException {
+        Output output = new Output(out);
+        output.writeInt(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt(NUMBER_OF_CODES);
+        output.writeInt(codes.length);
+        output.writeInt(names.length);
+        output.writeInt(farLines.length);
+        output.write(codes);
+        output.write(lineSteps);
+        for (int node = 0; node < codes.length; node++) {
+            NodeKind kind = getKind(node);
+            if (kind == NodeKind.SHARED)
+                output.writeVarInt(node - data[node]);
+            else if (kind != NodeKind.PROGRAM && kind.hasChildren())
+                output.writeVarInt(data[node] - node);
+            else
+                output.writeVarInt(data[node]);
+        }
+        for (int line : blockLines)
+            output.writeVarInt(line);
+        for (int line : farLines)
+            output.writeVarInt(line);
+        for (String name : names) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            output.writeVarInt(bytes.length);
+            output.write(bytes);
+        }
+        output.flush();
+    }
+
+    //Reads a program written by write up to the end of the input. Throws an IOException for input that is
+    //not such a program, or is damaged so that its subtrees, shared nodes or names would not hold together.
+    public static CompactProgram read(InputStream in) throws IOException {
+        try {
+            return read(ByteBuffer.wrap(in.readAllBytes()));
+        } catch (BufferUnderflowException | NegativeArraySizeException | IndexOutOfBoundsException e) {
+            throw new IOException("Damaged compact program", e);
+        }
+    }
+
+    private static CompactProgram read(ByteBuffer input) throws IOException {
+        if (input.getInt() != MAGIC || input.getInt() != FORMAT_VERSION || input.getInt() != NUMBER_OF_CODES)
+            throw new IOException("Not a compact program of this compiler");
+        int size = input.getInt();
+        int numberOfNames = input.getInt();
+        int numberOfFarLines = input.getInt();
+        //every node takes at least three bytes
+        if (size < 1 || size > input.remaining() / 3 || numberOfNames < 0 || numberOfNames > input.remaining()
+                || numberOfFarLines < 0 || numberOfFarLines > size)
+            throw damaged();
+        byte[] codes = new byte[size];
+        input.get(codes);
+        byte[] lineSteps = new byte[size];
+        input.get(lineSteps);
+        int[] data = new int[size];
+        for (int node = 0; node < size; node++) {
+            int code = codes[node];
+            if (code < 0 || code >= NUMBER_OF_CODES || (node == 0) != (code == NodeKind.PROGRAM.ordinal()))
+                throw damaged();
+            NodeKind kind = code < BINARY_CODES ? KINDS[code] : NodeKind.BINARY_EXPRESSION;
+            int value = readVarInt(input);
+            if (kind == NodeKind.SHARED)
+                data[node] = node - value;
+            else if (kind != NodeKind.PROGRAM && kind.hasChildren())
+                data[node] = node + value;
+            else
+                data[node] = value;
+        }
+        int[] blockLines = new int[(size + LINE_BLOCK - 1) / LINE_BLOCK];
+        for (int block = 0; block < blockLines.length; block++)
+            blockLines[block] = readVarInt(input);
+        int[] farNodes = new int[numberOfFarLines];
+        int[] farLines = new int[numberOfFarLines];
+        for (int node = 0, far = 0; node < size; node++) {
+            if (lineSteps[node] == FAR && node % LINE_BLOCK != 0) {
+                farNodes[far] = node;
+                farLines[far++] = readVarInt(input);
+            }
+        }
+        String[] names = new String[numberOfNames];
+        for (int name = 0; name < numberOfNames; name++) {
+            int length = readVarInt(input);
+            names[name] = new String(input.array(), input.position(), length, StandardCharsets.UTF_8);
+            input.position(input.position() + length);
+        }
+        if (input.hasRemaining())
+            throw damaged();
+        CompactProgram program = new CompactProgram(codes, data, lineSteps, blockLines, farNodes, farLines, names);
+        program.check();
+        return program;
+    }
+
+    //that the far lines match the steps, subtrees nest, shared nodes come before their leaf and names are in the table
+    private void check() throws IOException {
+        int numberOfFarNodes = 0;
+        for (int node = 1; node < codes.length; node++) {
+            if (lineSteps[node] == FAR && node % LINE_BLOCK != 0)
+                numberOfFarNodes++;
+        }
+        if (numberOfFarNodes != farNodes.length || data[0] < 0)
+            throw damaged();
+        //the ends of the subtrees the node is in, innermost last
+        int[] ends = new int[codes.length];
+        int depth = 0;
+        ends[depth++] = codes.length;
+        for (int node = 1; node < codes.length; node++) {
+            while (ends[depth - 1] <= node)
+                depth--;
+            NodeKind kind = getKind(node);
+            if (kind == NodeKind.SHARED) {
+                int shared = data[node];
+                if (shared < 0 || shared >= node || getKind(shared) == NodeKind.MISSING || getKind(shared) == NodeKind.SHARED)
+                    throw damaged();
+            } else if (kind == NodeKind.IDENTIFIER) {
+                if (data[node] < NONE || data[node] >= names.length)
+                    throw damaged();
+            } else if (kind.hasChildren()) {
+                if (data[node] <= node || data[node] > ends[depth - 1])
+                    throw damaged();
+                ends[depth++] = data[node];
+            }
+        }
+    }
+
+    private static IOException damaged() {
+        return new IOException("Damaged compact program");
+    }
+
+    //zigzag, so that small negative values take one byte too
+    private static int readVarInt(ByteBuffer input) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = input.get();
+            value |= (b & 0x7f) << shift;
+            if (b >= 0)
+                return (value >>> 1) ^ -(value & 1);
+        }
+        throw damaged();
+    }
+
+    //buffered output of write, without the synchronization of BufferedOutputStream
+    private static class Output {
+        private final OutputStream out;
+        private final byte[] buffer = new byte[8192];
+        private int position = 0;
+
+        Output(OutputStream out) {
+            this.out = out;
+        }
+
+        void writeByte(int b) throws IOException {
+            if (position == buffer.length)
+                drain();
+            buffer[position++] = (byte) b;
+        }
+
+        void writeInt(int value) throws IOException {
+            for (int shift = 24; shift >= 0; shift -= 8)
+                writeByte(value >>> shift);
+        }
+
+        void writeVarInt(int value) throws IOException {
+            int zigzag = (value << 1) ^ (value >> 31);
+            while ((zigzag & ~0x7f) != 0) {
+                writeByte(zigzag & 0x7f | 0x80);
+                zigzag >>>= 7;
+            }
+            writeByte(zigzag);
+        }
+
+        void write(byte[] bytes) throws IOException {
+            if (bytes.length > buffer.length - position) {
+                drain();
+                if (bytes.length > buffer.length) {
+                    out.write(bytes);
+                    return;
+                }
+            }
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void drain() throws IOException {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+
+        void flush() throws IOException {
+            drain();
+            out.flush();
+        }
+    }
+
+    //the Program as nodes again; every call makes a new copy
+    public Program toProgram() {
+        return (Program) new Decoder().node(0);
+    }
+
+    //the subtree of a node as nodes (or a Type for a type kind), null for NONE
+    public Object decode(int node) {
+        Decoder decoder = new Decoder();
+        return node != NONE && getKind(resolve(node)).isType() ? decoder.type(node) : decoder.node(node);
+    }
+
+    //runs a pass over a decoded copy of the program, which is dropped afterwards
+    public <T> T accept(IVisitor<T> visitor) {
+        return toProgram().accept(visitor);
+    }
+
+    //runs a pass over a decoded copy of a subtree, e.g. one declaration at a time
+    public <T> T accept(int node, IVisitor<T> visitor) {
+        return ((Node) decode(node)).accept(visitor);
+    }
+
+    private static int binaryCode(BinaryOperator operator) {
+        return operator == null ? NodeKind.BINARY_EXPRESSION.ordinal() : BINARY_CODES + operator.ordinal();
+    }
+
+    private static int unaryCode(UnaryOperator operator) {
+        return operator == null ? NodeKind.UNARY_EXPRESSION.ordinal() : UNARY_CODES + operator.ordinal();
+    }
+
+    private static class Encoder implements IVisitor<Integer> {
+        private byte[] codes = new byte[256];
+        private int[] data = new int[256];
+        private int[] lines = new int[256];
+        private int size = 0;
+        private final ArrayList<String> names = new ArrayList<>();
+        private final HashMap<String, Integer> nameIndexes = new HashMap<>();
+        //nodes and types already stored
+        private final IdentityHashMap<Object, Integer> indexes = new IdentityHashMap<>();
+
+        CompactProgram build() {
+            return new CompactProgram(Arrays.copyOf(codes, size), Arrays.copyOf(data, size), Arrays.copyOf(lines, size),
+                    names.toArray(new String[0]));
+        }
+
+        private int add(int code, int line, int value) {
+            if (size == codes.length) {
+                int capacity = size * 2;
+                codes = Arrays.copyOf(codes, capacity);
+                data = Arrays.copyOf(data, capacity);
+                lines = Arrays.copyOf(lines, capacity);
+            }
+            int node = size++;
+            codes[node] = (byte) code;
+            lines[node] = line;
+            data[node] = value;
+            return node;
+        }
+
+        //the line of a node without one, which keeps the step to it 0
+        private int lastLine() {
+            return size == 0 ? 0 : lines[size - 1];
+        }
+
+        private int leaf(Object object, NodeKind kind, int line, int value) {
+            int node = add(kind.ordinal(), line, value);
+            indexes.put(object, node);
+            return node;
+        }
+
+        //stores a node whose children follow; close() marks their end
+        private int open(Object object, int code, int line) {
+            int node = add(code, line, 0);
+            indexes.put(object, node);
+            return node;
+        }
+
+        private int open(Node node, NodeKind kind) {
+            return open(node, kind.ordinal(), node.getLine());
+        }
+
+        private int open(Node node, int code) {
+            return open(node, code, node.getLine());
+        }
+
+        private int close(int node) {
+            data[node] = size;
+            return node;
+        }
+
+        //a null or already stored node or type as a leaf; NONE when it still has to be stored
+        private int reference(Object object) {
+            if (object == null)
+                return add(NodeKind.MISSING.ordinal(), lastLine(), 0);
+            Integer index = indexes.get(object);
+            if (index != null)
+                return add(NodeKind.SHARED.ordinal(), lastLine(), index);
+            return NONE;
+        }
+
+        private int node(Node node) {
+            int reference = reference(node);
+            return reference != NONE ? reference : node.accept(this);
+        }
+
+        private void nodes(ArrayList<? extends Node> nodes) {
+            for (Node node : nodes)
+                node(node);
+        }
+
+        private int type(Type type) {
+            int reference = reference(type);
+            if (reference != NONE)
+                return reference;
+            if (type instanceof ListType) {
+                int node = open(type, NodeKind.LIST_TYPE.ordinal(), lastLine());
+                type(((ListType) type).getType());
+                return close(node);
+            }
+            if (type instanceof StructType) {
+                int node = open(type, NodeKind.STRUCT_TYPE.ordinal(), lastLine());
+                node(((StructType) type).getStructName());
+                return close(node);
+            }
+            if (type instanceof FptrType) {
+                FptrType fptrType = (FptrType) type;
+                int node = open(type, NodeKind.FPTR_TYPE.ordinal(), lastLine());
+                type(fptrType.getReturnType());
+                for (Type argType : fptrType.getArgsType())
+                    type(argType);
+                return close(node);
+            }
+            if (type instanceof IntType)
+                return leaf(type, NodeKind.INT_TYPE, lastLine(), 0);
+            if (type instanceof BoolType)
+                return leaf(type, NodeKind.BOOL_TYPE, lastLine(), 0);
+            if (type instanceof VoidType)
+                return leaf(type, NodeKind.VOID_TYPE, lastLine(), 0);
+            if (type instanceof NoType)
+                return leaf(type, NodeKind.NO_TYPE, lastLine(), 0);
+            throw new IllegalArgumentException("unknown type " + type.getClass().getName());
+        }
+
+        private int name(String name) {
+            if (name == null)
+                return NONE;
+            Integer index = nameIndexes.get(name);
+            if (index == null) {
+                index = names.size();
+                names.add(name);
+                nameIndexes.put(name, index);
+            }
+            return index;
+        }
+
+        @Override
+        public Integer visit(Program program) {
+            int node = open(program, NodeKind.PROGRAM);
+            nodes(program.getStructs());
+            nodes(program.getFunctions());
+            node(program.getMain());
+            data[node] = program.getStructs().size();
+            return node;
+        }
+
+        @Override
+        public Integer visit(FunctionDeclaration functionDeclaration) {
+            int node = open(functionDeclaration, NodeKind.FUNCTION_DECLARATION);
+            type(functionDeclaration.getReturnType());
+            node(functionDeclaration.getFunctionName());
+            node(functionDeclaration.getBody());
+            nodes(functionDeclaration.getArgs());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(MainDeclaration mainDeclaration) {
+            int node = open(mainDeclaration, NodeKind.MAIN_DECLARATION);
+            node(mainDeclaration.getBody());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(VariableDeclaration variableDeclaration) {
+            int node = open(variableDeclaration, NodeKind.VARIABLE_DECLARATION);
+            node(variableDeclaration.getVarName());
+            type(variableDeclaration.getVarType());
+            node(variableDeclaration.getDefaultValue());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(StructDeclaration structDeclaration) {
+            int node = open(structDeclaration, NodeKind.STRUCT_DECLARATION);
+            node(structDeclaration.getStructName());
+            node(structDeclaration.getBody());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(SetGetVarDeclaration setGetVarDeclaration) {
+            int node = open(setGetVarDeclaration, NodeKind.SET_GET_VAR_DECLARATION);
+            node(setGetVarDeclaration.getVarName());
+            type(setGetVarDeclaration.getVarType());
+            node(setGetVarDeclaration.getSetterBody());
+            node(setGetVarDeclaration.getGetterBody());
+            nodes(setGetVarDeclaration.getArgs());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(AssignmentStmt assignmentStmt) {
+            int node = open(assignmentStmt, NodeKind.ASSIGNMENT_STMT);
+            node(assignmentStmt.getLValue());
+            node(assignmentStmt.getRValue());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(BlockStmt blockStmt) {
+            int node = open(blockStmt, NodeKind.BLOCK_STMT);
+            nodes(blockStmt.getStatements());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(ConditionalStmt conditionalStmt) {
+            int node = open(conditionalStmt, NodeKind.CONDITIONAL_STMT);
+            node(conditionalStmt.getCondition());
+            node(conditionalStmt.getThenBody());
+            node(conditionalStmt.getElseBody());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(FunctionCallStmt functionCallStmt) {
+            int node = open(functionCallStmt, NodeKind.FUNCTION_CALL_STMT);
+            node(functionCallStmt.getFunctionCall());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(DisplayStmt displayStmt) {
+            int node = open(displayStmt, NodeKind.DISPLAY_STMT);
+            node(displayStmt.getArg());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(ReturnStmt returnStmt) {
+            int node = open(returnStmt, NodeKind.RETURN_STMT);
+            node(returnStmt.getReturnedExpr());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(LoopStmt loopStmt) {
+            int node = open(loopStmt, NodeKind.LOOP_STMT);
+            node(loopStmt.getCondition());
+            node(loopStmt.getBody());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(VarDecStmt varDecStmt) {
+            int node = open(varDecStmt, NodeKind.VAR_DEC_STMT);
+            nodes(varDecStmt.getVars());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(ListAppendStmt listAppendStmt) {
+            int node = open(listAppendStmt, NodeKind.LIST_APPEND_STMT);
+            node(listAppendStmt.getListAppendExpr());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(ListSizeStmt listSizeStmt) {
+            int node = open(listSizeStmt, NodeKind.LIST_SIZE_STMT);
+            node(listSizeStmt.getListSizeExpr());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(BinaryExpression binaryExpression) {
+            int node = open(binaryExpression, binaryCode(binaryExpression.getBinaryOperator()));
+            node(binaryExpression.getFirstOperand());
+            node(binaryExpression.getSecondOperand());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(UnaryExpression unaryExpression) {
+            int node = open(unaryExpression, unaryCode(unaryExpression.getOperator()));
+            node(unaryExpression.getOperand());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(FunctionCall functionCall) {
+            int node = open(functionCall, NodeKind.FUNCTION_CALL);
+            node(functionCall.getInstance());
+            nodes(functionCall.getArgs());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(Identifier identifier) {
+            return leaf(identifier, NodeKind.IDENTIFIER, identifier.getLine(), name(identifier.getName()));
+        }
+
+        @Override
+        public Integer visit(ListAccessByIndex listAccessByIndex) {
+            int node = open(listAccessByIndex, NodeKind.LIST_ACCESS_BY_INDEX);
+            node(listAccessByIndex.getInstance());
+            node(listAccessByIndex.getIndex());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(StructAccess structAccess) {
+            int node = open(structAccess, NodeKind.STRUCT_ACCESS);
+            node(structAccess.getInstance());
+            node(structAccess.getElement());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(ListSize listSize) {
+            int node = open(listSize, NodeKind.LIST_SIZE);
+            node(listSize.getArg());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(ListAppend listAppend) {
+            int node = open(listAppend, NodeKind.LIST_APPEND);
+            node(listAppend.getListArg());
+            node(listAppend.getElementArg());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(ExprInPar exprInPar) {
+            int node = open(exprInPar, NodeKind.EXPR_IN_PAR);
+            nodes(exprInPar.getInputs());
+            return close(node);
+        }
+
+        @Override
+        public Integer visit(IntValue intValue) {
+            return leaf(intValue, NodeKind.INT_VALUE, intValue.getLine(), intValue.getConstant());
+        }
+
+        @Override
+        public Integer visit(BoolValue boolValue) {
+            return leaf(boolValue, NodeKind.BOOL_VALUE, boolValue.getLine(), boolValue.getConstant() ? 1 : 0);
+        }
+    }
+
+    private class Decoder {
+        //what every node and type decoded so far became, for the shared ones
+        private final Object[] decoded = new Object[size()];
+        //the last node whose line was looked up, as nodes are mostly decoded in order
+        private int lineNode = -1;
+        private int line;
+
+        private <N extends Node> N lined(int node, N decodedNode) {
+            if (lineNode >= 0 && lineNode < node && lineNode / LINE_BLOCK == node / LINE_BLOCK) {
+                while (lineNode < node)
+                    line = nextLine(++lineNode, line);
+            } else {
+                line = getLine(node);
+                lineNode = node;
+            }
+            decodedNode.setLine(line);
+            decoded[node] = decodedNode;
+            return decodedNode;
+        }
+
+        private Node child(int node, int child) {
+            return node(getChild(node, child));
+        }
+
+        private Expression expression(int node, int child) {
+            return (Expression) child(node, child);
+        }
+
+        private Statement statement(int node, int child) {
+            return (Statement) child(node, child);
+        }
+
+        private Identifier identifier(int node, int child) {
+            return (Identifier) child(node, child);
+        }
+
+        //the children from the given position on
+        @SuppressWarnings("unchecked")
+        private <N extends Node> ArrayList<N> list(int node, int first) {
+            ArrayList<N> list = new ArrayList<>();
+            int end = getEnd(node);
+            int child = node + 1;
+            for (int i = 0; i < first; i++)
+                child = getEnd(child);
+            for (; child < end; child = getEnd(child))
+                list.add((N) node(child));
+            return list;
+        }
+
+        Node node(int node) {
+            node = resolve(node);
+            if (node == NONE)
+                return null;
+            if (decoded[node] != null)
+                return (Node) decoded[node];
+            switch (getKind(node)) {
+                case PROGRAM: {
+                    Program program = lined(node, new Program());
+                    ArrayList<Node> declarations = list(node, 0);
+                    int numberOfStructs = getValue(node);
+                    for (int i = 0; i < numberOfStructs; i++)
+                        program.addStruct((StructDeclaration) declarations.get(i));
+                    for (int i = numberOfStructs; i < declarations.size() - 1; i++)
+                        program.addFunction((FunctionDeclaration) declarations.get(i));
+                    program.setMain((MainDeclaration) declarations.get(declarations.size() - 1));
+                    return program;
+                }
+                case FUNCTION_DECLARATION: {
+                    FunctionDeclaration functionDeclaration = lined(node, new FunctionDeclaration());
+                    functionDeclaration.setReturnType(type(getChild(node, 0)));
+                    functionDeclaration.setFunctionName(identifier(node, 1));
+                    functionDeclaration.setBody(statement(node, 2));
+                    functionDeclaration.setArgs(list(node, 3));
+                    return functionDeclaration;
+                }
+                case MAIN_DECLARATION: {
+                    MainDeclaration mainDeclaration = lined(node, new MainDeclaration());
+                    mainDeclaration.setBody(statement(node, 0));
+                    return mainDeclaration;
+                }
+                case VARIABLE_DECLARATION: {
+                    VariableDeclaration variableDeclaration = lined(node, new VariableDeclaration(null, null));
+                    variableDeclaration.setVarName(identifier(node, 0));
+                    variableDeclaration.setVarType(type(getChild(node, 1)));
+                    variableDeclaration.setDefaultValue(expression(node, 2));
+                    return variableDeclaration;
+                }
+                case STRUCT_DECLARATION: {
+                    StructDeclaration structDeclaration = lined(node, new StructDeclaration());
+                    structDeclaration.setStructName(identifier(node, 0));
+                    structDeclaration.setBody(statement(node, 1));
+                    return structDeclaration;
+                }
+                case SET_GET_VAR_DECLARATION: {
+                    SetGetVarDeclaration setGetVarDeclaration = lined(node, new SetGetVarDeclaration());
+                    setGetVarDeclaration.setVarName(identifier(node, 0));
+                    setGetVarDeclaration.setVarType(type(getChild(node, 1)));
+                    setGetVarDeclaration.setSetterBody(statement(node, 2));
+                    setGetVarDeclaration.setGetterBody(statement(node, 3));
+                    setGetVarDeclaration.setArgs(list(node, 4));
+                    return setGetVarDeclaration;
+                }
+                case ASSIGNMENT_STMT: {
+                    AssignmentStmt assignmentStmt = lined(node, new AssignmentStmt(null, null));
+                    assignmentStmt.setLValue(expression(node, 0));
+                    assignmentStmt.setRValue(expression(node, 1));
+                    return assignmentStmt;
+                }
+                case BLOCK_STMT: {
+                    BlockStmt blockStmt = lined(node, new BlockStmt());
+                    blockStmt.setStatements(list(node, 0));
+                    return blockStmt;
+                }
+                case CONDITIONAL_STMT: {
+                    ConditionalStmt conditionalStmt = lined(node, new ConditionalStmt(null));
+                    conditionalStmt.setCondition(expression(node, 0));
+                    conditionalStmt.setThenBody(statement(node, 1));
+                    conditionalStmt.setElseBody(statement(node, 2));
+                    return conditionalStmt;
+                }
+                case FUNCTION_CALL_STMT: {
+                    FunctionCallStmt functionCallStmt = lined(node, new FunctionCallStmt(null));
+                    functionCallStmt.setFunctionCall((FunctionCall) child(node, 0));
+                    return functionCallStmt;
+                }
+                case DISPLAY_STMT: {
+                    DisplayStmt displayStmt = lined(node, new DisplayStmt(null));
+                    displayStmt.setArg(expression(node, 0));
+                    return displayStmt;
+                }
+                case RETURN_STMT: {
+                    ReturnStmt returnStmt = lined(node, new ReturnStmt());
+                    returnStmt.setReturnedExpr(expression(node, 0));
+                    return returnStmt;
+                }
+                case LOOP_STMT: {
+                    LoopStmt loopStmt = lined(node, new LoopStmt());
+                    loopStmt.setCondition(expression(node, 0));
+                    loopStmt.setBody(statement(node, 1));
+                    return loopStmt;
+                }
+                case VAR_DEC_STMT: {
+                    VarDecStmt varDecStmt = lined(node, new VarDecStmt());
+                    varDecStmt.setVars(list(node, 0));
+                    return varDecStmt;
+                }
+                case LIST_APPEND_STMT: {
+                    ListAppendStmt listAppendStmt = lined(node, new ListAppendStmt(null));
+                    listAppendStmt.setListAppendExpr((ListAppend) child(node, 0));
+                    return listAppendStmt;
+                }
+                case LIST_SIZE_STMT: {
+                    ListSizeStmt listSizeStmt = lined(node, new ListSizeStmt(null));
+                    listSizeStmt.setListSizeExpr((ListSize) child(node, 0));
+                    return listSizeStmt;
+                }
+                case BINARY_EXPRESSION: {
+                    int operator = getValue(node);
+                    BinaryExpression binaryExpression = lined(node, new BinaryExpression(null, null,
+                            operator == NONE ? null : BinaryOperator.values()[operator]));
+                    binaryExpression.setFirstOperand(expression(node, 0));
+                    binaryExpression.setSecondOperand(expression(node, 1));
+                    return binaryExpression;
+                }
+                case UNARY_EXPRESSION: {
+                    int operator = getValue(node);
+                    UnaryExpression unaryExpression = lined(node, new UnaryExpression(null,
+                            operator == NONE ? null : UnaryOperator.values()[operator]));
+                    unaryExpression.setOperand(expression(node, 0));
+                    return unaryExpression;
+                }
+                case FUNCTION_CALL: {
+                    FunctionCall functionCall = lined(node, new FunctionCall(null));
+                    functionCall.setInstance(expression(node, 0));
+                    functionCall.setArgs(list(node, 1));
+                    return functionCall;
+                }
+                case IDENTIFIER:
+                    return lined(node, new Identifier(getName(node)));
+                case LIST_ACCESS_BY_INDEX: {
+                    ListAccessByIndex listAccessByIndex = lined(node, new ListAccessByIndex(null, null));
+                    listAccessByIndex.setInstance(expression(node, 0));
+                    listAccessByIndex.setIndex(expression(node, 1));
+                    return listAccessByIndex;
+                }
+                case STRUCT_ACCESS: {
+                    StructAccess structAccess = lined(node, new StructAccess(null, null));
+                    structAccess.setInstance(expression(node, 0));
+                    structAccess.setElement(identifier(node, 1));
+                    return structAccess;
+                }
+                case LIST_SIZE: {
+                    ListSize listSize = lined(node, new ListSize(null));
+                    listSize.setArg(expression(node, 0));
+                    return listSize;
+                }
+                case LIST_APPEND: {
+                    ListAppend listAppend = lined(node, new ListAppend(null, null));
+                    listAppend.setListArg(expression(node, 0));
+                    listAppend.setElementArg(expression(node, 1));
+                    return listAppend;
+                }
+                case EXPR_IN_PAR: {
+                    ExprInPar exprInPar = lined(node, new ExprInPar(null));
+                    exprInPar.setInputs(list(node, 0));
+                    return exprInPar;
+                }
+                case INT_VALUE:
+                    return lined(node, new IntValue(getValue(node)));
+                case BOOL_VALUE:
+                    return lined(node, new BoolValue(getValue(node) != 0));
+                default:
+                    throw new IllegalStateException("node " + node + " is a " + getKind(node));
+            }
+        }
+
+        Type type(int node) {
+            node = resolve(node);
+            if (node == NONE)
+                return null;
+            if (decoded[node] != null)
+                return (Type) decoded[node];
+            Type type;
+            switch (getKind(node)) {
+                case INT_TYPE: type = new IntType(); break;
+                case BOOL_TYPE: type = new BoolType(); break;
+                case VOID_TYPE: type = new VoidType(); break;
+                case NO_TYPE: type = new NoType(); break;
+                case LIST_TYPE: type = new ListType(type(getChild(node, 0))); break;
+                case STRUCT_TYPE: type = new StructType(identifier(node, 0)); break;
+                case FPTR_TYPE: {
+                    ArrayList<Type> argsTypes = new ArrayList<>();
+                    for (int child = getEnd(node + 1); child < getEnd(node); child = getEnd(child))
+                        argsTypes.add(type(child));
+                    type = new FptrType(argsTypes, type(getChild(node, 0)));
+                    break;
+                }
+                default:
+                    throw new IllegalStateException("node " + node + " is a " + getKind(node) + ", not a type");
+            }
+            decoded[node] = type;
+            return type;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package main.ast.compact;
+
+//The kind of a node of a CompactProgram: one per Node class and one per Type class, a missing child and a
+//second reference to a node stored before. The children and the value of each kind are listed in CompactProgram.
+public enum NodeKind {
+    PROGRAM,
+
+    FUNCTION_DECLARATION,
+    MAIN_DECLARATION,
+    VARIABLE_DECLARATION,
+    STRUCT_DECLARATION,
+    SET_GET_VAR_DECLARATION,
+
+    ASSIGNMENT_STMT,
+    BLOCK_STMT,
+    CONDITIONAL_STMT,
+    FUNCTION_CALL_STMT,
+    DISPLAY_STMT,
+    RETURN_STMT,
+    LOOP_STMT,
+    VAR_DEC_STMT,
+    LIST_APPEND_STMT,
+    LIST_SIZE_STMT,
+
+    BINARY_EXPRESSION,
+    UNARY_EXPRESSION,
+    FUNCTION_CALL,
+    IDENTIFIER(false),
+    LIST_ACCESS_BY_INDEX,
+    STRUCT_ACCESS,
+    LIST_SIZE,
+    LIST_APPEND,
+    EXPR_IN_PAR,
+
+    INT_VALUE(false),
+    BOOL_VALUE(false),
+
+    INT_TYPE(false),
+    BOOL_TYPE(false),
+    VOID_TYPE(false),
+    NO_TYPE(false),
+    LIST_TYPE,
+    STRUCT_TYPE,
+    FPTR_TYPE,
+
+    MISSING(false),
+    SHARED(false);
+
+    private final boolean hasChildren;
+
+    NodeKind() {
+        this(true);
+    }
+
+    NodeKind(boolean hasChildren) {
+        this.hasChildren = hasChildren;
+    }
+
+    //false for the kinds whose node is a single leaf, with a value instead of children
+    public boolean hasChildren() {
+        return hasChildren;
+    }
+
+    public boolean isType() {
+        return compareTo(INT_TYPE) >= 0 && compareTo(FPTR_TYPE) <= 0;
+    }
+}
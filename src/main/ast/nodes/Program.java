@@ -6,12 +6,15 @@ import main.ast.nodes.declaration.struct.StructDeclaration;
 import main.visitor.IVisitor;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 
 //line -> 1
 public class Program extends Node {
     private ArrayList<FunctionDeclaration> functions = new ArrayList<>();
     private ArrayList<StructDeclaration> structs = new ArrayList<>();
     private MainDeclaration main = new MainDeclaration();
+    //top-level declarations whose nodes still have the lines of an earlier text; null when there are none
+    private IdentityHashMap<Node, Integer> lineShifts;
 
     public ArrayList<FunctionDeclaration> getFunctions() {
         return functions;
@@ -40,6 +43,17 @@ public class Program extends Node {
         this.main = main;
     }
 
+    //what to add to the lines of the nodes of a top-level declaration to get its lines in the source.
+    //Only an IncrementalParser leaves them behind, and ErrorReporter adds them to the errors it reports.
+    public int getLineShift(Node declaration) {
+        return lineShifts == null ? 0 : lineShifts.getOrDefault(declaration, 0);
+    }
+    public void setLineShift(Node declaration, int lines) {
+        if (lineShifts == null)
+            lineShifts = new IdentityHashMap<>();
+        lineShifts.put(declaration, lines);
+    }
+
     @Override
     public String toString() {
         return "Program";
@@ -1,20 +1,28 @@
 package main.ast.nodes.expression;
 
+import main.ast.NamePool;
 import main.visitor.IVisitor;
 
 //line -> IDENTIFIER
 public class Identifier extends Expression{
     private String name;
+    private int id;
 
     public Identifier(String name) {
-        this.name = name;
+        setName(name);
     }
 
     public String getName() {
         return name;
     }
     public void setName(String name) {
-        this.name = name;
+        this.id = NamePool.idOf(name);
+        this.name = NamePool.nameOf(id);
+    }
+
+    //the NamePool id of the name
+    public int getId() {
+        return id;
     }
 
     @Override
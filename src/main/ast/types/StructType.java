@@ -10,6 +10,8 @@ public class StructType extends Type {
     }
 
     public Identifier getStructName() { return structName; }
+    //the NamePool id of the struct's name
+    public int getStructNameId() { return structName.getId(); }
     public void setStructName(Identifier structName) {
         this.structName = structName;
     }
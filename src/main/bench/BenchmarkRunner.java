@@ -0,0 +1,108 @@
+package main.bench;
+
+import main.driver.BatchCompiler;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+//Runs every CompilerBenchmark on every source: warm-up iterations first, then measured
+//iterations of a fixed duration. Reports time and bytes allocated per operation.
+//usage: BenchmarkRunner [-w warmups] [-i iterations] [-t millis per iteration] [-b benchmark]... sources...
+public class BenchmarkRunner {
+    private static final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private int warmupIterations = 5;
+    private int iterations = 5;
+    private long iterationMillis = 500;
+    private final Set<CompilerBenchmark> benchmarks = EnumSet.noneOf(CompilerBenchmark.class);
+    private final List<String> sourceNames = new ArrayList<>();
+    private final List<String> sources = new ArrayList<>();
+    private int sink; //keeps the results of the timed operations alive
+
+    public static void main(String[] args) throws IOException {
+        BenchmarkRunner runner = new BenchmarkRunner();
+        BatchCompiler files = new BatchCompiler();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-w": runner.warmupIterations = Integer.parseInt(args[++i]); break;
+                case "-i": runner.iterations = Integer.parseInt(args[++i]); break;
+                case "-t": runner.iterationMillis = Long.parseLong(args[++i]); break;
+                case "-b": runner.benchmarks.add(CompilerBenchmark.valueOf(args[++i].toUpperCase())); break;
+                default: files.addSource(args[i]);
+            }
+        }
+        for (Path file : files.getSources())
+            runner.addSource(file.toString(), Files.readString(file));
+        runner.run();
+    }
+
+    public void addSource(String name, String source) {
+        sourceNames.add(name);
+        sources.add(source);
+    }
+
+    public void run() {
+        if (benchmarks.isEmpty())
+            benchmarks.addAll(EnumSet.allOf(CompilerBenchmark.class));
+        System.out.printf("%-16s %-32s %8s %14s %10s %14s%n", "benchmark", "source", "tokens", "ns/op", "error %", "B/op");
+        for (CompilerBenchmark benchmark : benchmarks) {
+            for (int i = 0; i < sources.size(); i++) {
+                String source = sources.get(i);
+                for (int w = 0; w < warmupIterations; w++)
+                    iteration(benchmark, source);
+                double[] nanosPerOp = new double[iterations];
+                double bytesPerOp = 0;
+                for (int m = 0; m < iterations; m++) {
+                    double[] measured = iteration(benchmark, source);
+                    nanosPerOp[m] = measured[0];
+                    bytesPerOp += measured[1] / iterations;
+                }
+                System.out.printf("%-16s %-32s %8d %14.0f %10.1f %14.0f%n", benchmark.name(), sourceNames.get(i),
+                        CompilerBenchmark.lex(source).size(), mean(nanosPerOp), relativeError(nanosPerOp), bytesPerOp);
+            }
+        }
+    }
+
+    //returns nanoseconds and allocated bytes per operation, counting only the timed part of each operation
+    private double[] iteration(CompilerBenchmark benchmark, String source) {
+        long deadline = System.nanoTime() + iterationMillis * 1_000_000;
+        long operations = 0;
+        long nanos = 0;
+        long bytes = 0;
+        do {
+            Object state = benchmark.prepare(source);
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            Object result = benchmark.run(state);
+            nanos += System.nanoTime() - start;
+            bytes += threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+            sink += System.identityHashCode(result);
+            operations += 1;
+        } while (System.nanoTime() < deadline);
+        return new double[] {(double) nanos / operations, (double) bytes / operations};
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values)
+            sum += value;
+        return sum / values.length;
+    }
+
+    //half width of the min..max range relative to the mean
+    private static double relativeError(double[] values) {
+        double min = Double.MAX_VALUE, max = 0;
+        for (double value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return (max - min) / 2 / mean(values) * 100;
+    }
+}
@@ -0,0 +1,140 @@
+package main.bench;
+
+import main.CompilationContext;
+import main.ast.nodes.Program;
+import main.compileError.CompileError;
+import main.parse.ArrayTokenStream;
+import main.parse.FastCmmLexer;
+import main.parse.ParallelParser;
+import main.parse.TwoStageParser;
+import main.visitor.ErrorReporter;
+import main.visitor.name.NameAnalyser;
+import main.visitor.type.TypeChecker;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import parsers.CmmLexer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+//One benchmark per compiler stage. prepare() builds the untimed input of a single
+//operation (the passes mutate the tree, so every operation gets a fresh one) and run() is the timed part.
+public enum CompilerBenchmark {
+    LEXER {
+        Object prepare(String source) {
+            return source;
+        }
+        Object run(Object state) {
+            return new ArrayTokenStream(new FastCmmLexer(CharStreams.fromString((String) state))).size();
+        }
+    },
+    //the generated lexer the compiler used before FastCmmLexer
+    LEXER_GENERATED {
+        Object prepare(String source) {
+            return source;
+        }
+        Object run(Object state) {
+            CommonTokenStream tokenStream = new CommonTokenStream(new CmmLexer(CharStreams.fromString((String) state)));
+            tokenStream.fill();
+            return tokenStream.size();
+        }
+    },
+    PARSER {
+        Object prepare(String source) {
+            return new ArrayTokenStream(new FastCmmLexer(CharStreams.fromString(source)));
+        }
+        Object run(Object state) {
+            return new TwoStageParser().parse((ArrayTokenStream) state);
+        }
+    },
+    //the same parse from the CommonTokenStream the compiler used before ArrayTokenStream
+    PARSER_COMMON_STREAM {
+        Object prepare(String source) {
+            return lex(source);
+        }
+        Object run(Object state) {
+            @SuppressWarnings("unchecked")
+            List<Token> tokens = (List<Token>) state;
+            return parse(tokens);
+        }
+    },
+    //the single full-LL parse the compiler used before two-stage parsing
+    PARSER_LL {
+        Object prepare(String source) {
+            return lex(source);
+        }
+        Object run(Object state) {
+            @SuppressWarnings("unchecked")
+            List<Token> tokens = (List<Token>) state;
+            return new TwoStageParser().parseLL(new CommonTokenStream(new ListTokenSource(tokens)));
+        }
+    },
+    //the top-level declarations parsed concurrently in the common pool
+    PARSER_PARALLEL {
+        Object prepare(String source) {
+            return lex(source);
+        }
+        Object run(Object state) {
+            @SuppressWarnings("unchecked")
+            List<Token> tokens = (List<Token>) state;
+            return new ParallelParser(ForkJoinPool.commonPool(), null, null).parse(new CommonTokenStream(new ListTokenSource(tokens)));
+        }
+    },
+    NAME_ANALYSER {
+        Object prepare(String source) {
+            return parse(lex(source));
+        }
+        Object run(Object state) {
+            Program program = (Program) state;
+            program.accept(new NameAnalyser(new CompilationContext()));
+            return program;
+        }
+    },
+    TYPE_CHECKER {
+        Object prepare(String source) {
+            Program program = parse(lex(source));
+            CompilationContext context = new CompilationContext();
+            program.accept(new NameAnalyser(context));
+            program.accept(new ErrorReporter(context, new ArrayList<>()));
+            return new Object[] {program, context};
+        }
+        Object run(Object state) {
+            Program program = (Program) ((Object[]) state)[0];
+            program.accept(new TypeChecker((CompilationContext) ((Object[]) state)[1]));
+            return program;
+        }
+    },
+    ERROR_REPORTER {
+        Object prepare(String source) {
+            Program program = parse(lex(source));
+            CompilationContext context = new CompilationContext();
+            program.accept(new NameAnalyser(context));
+            program.accept(new TypeChecker(context));
+            return new Object[] {program, context};
+        }
+        Object run(Object state) {
+            Program program = (Program) ((Object[]) state)[0];
+            CompilationContext context = (CompilationContext) ((Object[]) state)[1];
+            List<CompileError> errors = new ArrayList<>();
+            program.accept(new ErrorReporter(context, errors));
+            return errors;
+        }
+    };
+
+    abstract Object prepare(String source);
+
+    abstract Object run(Object state);
+
+    static List<Token> lex(String source) {
+        CommonTokenStream tokenStream = new CommonTokenStream(new FastCmmLexer(CharStreams.fromString(source)));
+        tokenStream.fill();
+        return tokenStream.getTokens();
+    }
+
+    static Program parse(List<Token> tokens) {
+        return new TwoStageParser().parse(new CommonTokenStream(new ListTokenSource(tokens)));
+    }
+}
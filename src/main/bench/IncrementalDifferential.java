@@ -0,0 +1,131 @@
+package main.bench;
+
+import main.CmmCompiler;
+import main.CompilationResult;
+import main.driver.BatchCompiler;
+import main.parse.IncrementalParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+//Checks that compiling through an IncrementalParser prints the same as compiling the whole text, on random
+//edits of the given sources: blank lines, duplicated and deleted lines, duplicated declarations (which make
+//duplicate names), renamed identifiers and random Cmm fragments, now and then going back to the source as it was.
+//Every text is compiled incrementally twice, as the daemon does when a source is requested again unchanged.
+//Prints the first difference of every source that differs; the exit status is 1 if any did.
+//usage: IncrementalDifferential [-edits count] [-seed n] [-max-errors n] [-abort-on-syntax-error] sources...
+public class IncrementalDifferential {
+    public static void main(String[] args) throws IOException {
+        BatchCompiler files = new BatchCompiler();
+        CmmCompiler cmmCompiler = new CmmCompiler();
+        int edits = 100;
+        long seed = 1;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-edits": edits = Integer.parseInt(args[++i]); break;
+                case "-seed": seed = Long.parseLong(args[++i]); break;
+                case "-max-errors": cmmCompiler.setMaxErrors(Integer.parseInt(args[++i])); break;
+                case "-abort-on-syntax-error": cmmCompiler.setAbortOnSyntaxError(true); break;
+                default: files.addSource(args[i]);
+            }
+        }
+        Random random = new Random(seed);
+        int checked = 0;
+        int incremental = 0;
+        int differing = 0;
+        for (Path file : files.getSources()) {
+            String original = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            String text = original;
+            IncrementalParser incrementalParser = new IncrementalParser(file.toString());
+            for (int i = 0; i <= edits; i++) {
+                if (i > 0)
+                    text = random.nextInt(10) == 0 ? original : edit(random, text);
+                checked++;
+                String expected = compile(cmmCompiler, text, file.toString(), null);
+                String actual = compile(cmmCompiler, text, file.toString(), incrementalParser);
+                if (!incrementalParser.isFullReparse())
+                    incremental++;
+                String again = compile(cmmCompiler, text, file.toString(), incrementalParser);
+                if (!expected.equals(actual) || !expected.equals(again)) {
+                    System.out.println(file + ", edit " + i + ": whole text\n" + expected + "but incrementally\n"
+                            + (expected.equals(actual) ? again : actual));
+                    differing++;
+                    break;
+                }
+            }
+        }
+        System.out.println(checked + " texts checked, " + incremental + " parsed incrementally, " + differing + " sources differ");
+        if (differing > 0)
+            System.exit(1);
+    }
+
+    //the output of the compiler for the text
+    static String compile(CmmCompiler cmmCompiler, String text, String sourceName, IncrementalParser incrementalParser) throws IOException {
+        ByteBuffer source = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+        try {
+            CompilationResult result = incrementalParser == null ? cmmCompiler.compile(source, sourceName, null)
+                    : cmmCompiler.compile(source, incrementalParser, null);
+            result.print(out);
+        } catch (RuntimeException e) {
+            out.println("Internal compiler error: " + e);
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    static String edit(Random random, String text) {
+        int lineStart = lineStart(text, random.nextInt(text.length() + 1));
+        int lineEnd = text.indexOf('\n', lineStart) + 1;
+        if (lineEnd == 0)
+            lineEnd = text.length();
+        switch (random.nextInt(6)) {
+            case 0:
+                return text.substring(0, lineStart) + "\n" + text.substring(lineStart);
+            case 1:
+                return text.substring(0, lineEnd) + text.substring(lineStart, lineEnd) + text.substring(lineEnd);
+            case 2:
+                return text.substring(0, lineStart) + text.substring(lineEnd);
+            case 3:
+                for (int i = lineStart; i < lineEnd; i++) {
+                    if (Character.isLetter(text.charAt(i)) && random.nextBoolean())
+                        return text.substring(0, i) + (char) ('a' + random.nextInt(3)) + text.substring(i + 1);
+                }
+                return text;
+            case 4:
+                return duplicateDeclaration(random, text);
+            default:
+                int at = random.nextInt(text.length() + 1);
+                return text.substring(0, at) + LexerDifferential.randomInput(random, 3) + text.substring(at);
+        }
+    }
+
+    //copies a top-level declaration, from a line starting with a letter up to the next one, right after it
+    static String duplicateDeclaration(Random random, String text) {
+        List<Integer> starts = new ArrayList<>();
+        for (int i = 0; i < text.length(); i = text.indexOf('\n', i) + 1) {
+            if (Character.isLetter(text.charAt(i)))
+                starts.add(i);
+            if (text.indexOf('\n', i) < 0)
+                break;
+        }
+        if (starts.isEmpty())
+            return text;
+        int declaration = random.nextInt(starts.size());
+        int start = starts.get(declaration);
+        int end = declaration + 1 < starts.size() ? starts.get(declaration + 1) : text.length();
+        return text.substring(0, end) + text.substring(start, end) + text.substring(end);
+    }
+
+    private static int lineStart(String text, int offset) {
+        return text.lastIndexOf('\n', offset - 1) + 1;
+    }
+}
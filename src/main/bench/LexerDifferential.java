@@ -0,0 +1,111 @@
+package main.bench;
+
+import main.driver.BatchCompiler;
+import main.parse.ByteBufferCharStream;
+import main.parse.FastCmmLexer;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import parsers.CmmLexer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+//Checks that FastCmmLexer reading a ByteBufferCharStream and the generated CmmLexer reading a
+//CodePointCharStream produce the same tokens (type, channel, text, start and stop index, line and
+//column) and the same token recognition errors, on the given sources and on random inputs made of Cmm fragments, stray characters and unterminated comments.
+//Prints the first difference of every input that differs; the exit status is 1 if any did.
+//usage: LexerDifferential [-random count] [-seed n] [-length fragments] sources...
+public class LexerDifferential {
+    private static final String[] FRAGMENTS = {
+            "main", "return", "void", "size", "display", "append", "if", "else", "true", "false", "begin", "end",
+            "int", "bool", "list", "struct", "fptr", "get", "set", "while", "do", "mainx", "ifs", "do_", "Int",
+            "x", "_a1", "v42", "0", "00", "07", "123", "9a", "+", "-", "->", "-->", "*", "/", "/*", "*/", "/**/",
+            "=", "==", "===", ">", "<", "&", "|", "~", "#", "(", ")", "[", "]", ",", ".", ";",
+            " ", "  ", "\t", "\r", "\n", "\r\n", "$", "!", "@", "\"", "'", "\u00e9", "\u0000", "\ud83d\ude00"};
+
+    public static void main(String[] args) throws IOException {
+        BatchCompiler files = new BatchCompiler();
+        int randomInputs = 0;
+        long seed = 1;
+        int length = 200;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-random": randomInputs = Integer.parseInt(args[++i]); break;
+                case "-seed": seed = Long.parseLong(args[++i]); break;
+                case "-length": length = Integer.parseInt(args[++i]); break;
+                default: files.addSource(args[i]);
+            }
+        }
+        int checked = 0;
+        int differing = 0;
+        for (Path file : files.getSources()) {
+            checked++;
+            if (!same(file.toString(), CharStreams.fromPath(file).toString()))
+                differing++;
+        }
+        Random random = new Random(seed);
+        for (int i = 0; i < randomInputs; i++) {
+            checked++;
+            if (!same("random input " + i, randomInput(random, length)))
+                differing++;
+        }
+        System.out.println(checked + " inputs checked, " + differing + " differ");
+        if (differing > 0)
+            System.exit(1);
+    }
+
+    static String randomInput(Random random, int fragments) {
+        StringBuilder input = new StringBuilder();
+        int count = random.nextInt(fragments + 1);
+        for (int i = 0; i < count; i++)
+            input.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        return input.toString();
+    }
+
+    //the tokens and errors of the lexer as lines of text
+    static List<String> lex(Lexer lexer) {
+        List<String> lines = new ArrayList<>();
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                                    String msg, RecognitionException e) {
+                lines.add("error line " + line + ":" + charPositionInLine + " " + msg);
+            }
+        });
+        Token token;
+        do {
+            token = lexer.nextToken();
+            lines.add(token.getType() + " channel " + token.getChannel() + " " + token.getStartIndex() + ".."
+                    + token.getStopIndex() + " line " + token.getLine() + ":" + token.getCharPositionInLine()
+                    + " '" + token.getText() + "'");
+        } while (token.getType() != Token.EOF);
+        return lines;
+    }
+
+    static boolean same(String name, String source) {
+        CharStream generatedInput = CharStreams.fromString(source);
+        CharStream fastInput = ByteBufferCharStream.fromBuffer(ByteBuffer.wrap(source.getBytes(StandardCharsets.UTF_8)), null);
+        List<String> expected = lex(new CmmLexer(generatedInput));
+        List<String> actual = lex(new FastCmmLexer(fastInput));
+        for (int i = 0; i < Math.max(expected.size(), actual.size()); i++) {
+            String e = i < expected.size() ? expected.get(i) : "<none>";
+            String a = i < actual.size() ? actual.get(i) : "<none>";
+            if (!e.equals(a)) {
+                System.out.println(name + ": CmmLexer " + e.replace("\n", "\\n") + " but FastCmmLexer " + a.replace("\n", "\\n"));
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,283 @@
+package main.cache;
+
+import main.ast.compact.CompactProgram;
+import main.compileError.CompileError;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+//Content-addressed store of compilation outcomes on disk, shared by any number of processes.
+//An entry is keyed by the SHA-256 of the compiler version, the compile settings and the source bytes,
+//and lives in <directory>/<first two hex digits>/<key>. Entries are written to a temporary file and
+//moved into place, so readers never see a partial entry; unreadable entries count as misses.
+//Reading an entry touches its modification time, and once the directory grows past maxBytes the
+//least recently used entries are deleted under a lock file, so only one process evicts at a time.
+//Besides the diagnostics it keeps parsed programs, as CompactPrograms, under keys of their own, so that a
+//source whose diagnostics are not cached for the current settings need not be parsed again.
+public class ResultCache {
+    public static final long DEFAULT_MAX_BYTES = 256L << 20;
+    private static final int MAGIC = 0x434d4d43;
+    private static final int FORMAT_VERSION = 2;
+    private static final int PROGRAM_MAGIC = 0x434d4d41;
+    private static final String LOCK_FILE = "lock";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final long maxBytes;
+    private final AtomicLong approximateBytes = new AtomicLong(-1);
+
+    public static class Entry {
+        private final List<CompileError> diagnostics;
+        private final int errorLimit;
+
+        public Entry(List<CompileError> diagnostics, int errorLimit) {
+            this.diagnostics = diagnostics;
+            this.errorLimit = errorLimit;
+        }
+
+        public List<CompileError> getDiagnostics() {
+            return diagnostics;
+        }
+
+        //the budget that stopped the analysis, or 0 when it ran to the end
+        public int getErrorLimit() {
+            return errorLimit;
+        }
+    }
+
+    public ResultCache(Path directory) throws IOException {
+        this(directory, DEFAULT_MAX_BYTES);
+    }
+
+    public ResultCache(Path directory, long maxBytes) throws IOException {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        Files.createDirectories(directory);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public static String key(String compilerVersion, String settings, byte[] source) {
+        return key(compilerVersion, settings, ByteBuffer.wrap(source));
+    }
+
+    //hashes the remaining bytes of source without moving its position
+    public static String key(String compilerVersion, String settings, ByteBuffer source) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(compilerVersion.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(settings.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(source.duplicate());
+        byte[] hash = digest.digest();
+        StringBuilder key = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            key.append(Character.forDigit((b >> 4) & 0xf, 16));
+            key.append(Character.forDigit(b & 0xf, 16));
+        }
+        return key.toString();
+    }
+
+    private Path entryPath(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    //null on a miss
+    public Entry get(String key) {
+        Path path = entryPath(key);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            Entry entry = read(in);
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+            return entry;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            //written by an incompatible compiler or damaged; it is replaced by the next put
+            return null;
+        }
+    }
+
+    public void put(String key, Entry entry) throws IOException {
+        store(key, out -> write(out, entry));
+    }
+
+    //the parsed program stored under the key, null on a miss
+    public CompactProgram getProgram(String key) {
+        Path path = entryPath(key);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            DataInputStream data = new DataInputStream(in);
+            if (data.readInt() != PROGRAM_MAGIC)
+                return null;
+            CompactProgram program = CompactProgram.read(in);
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+            return program;
+        } catch (IOException e) {
+            //missing, written by an incompatible compiler or damaged
+            return null;
+        }
+    }
+
+    public void putProgram(String key, CompactProgram program) throws IOException {
+        store(key, out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(PROGRAM_MAGIC);
+            data.flush();
+            program.write(out);
+        });
+    }
+
+    private interface EntryWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private void store(String key, EntryWriter writer) throws IOException {
+        Path path = entryPath(key);
+        Files.createDirectories(path.getParent());
+        Path temp = Files.createTempFile(path.getParent(), key, TEMP_SUFFIX);
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                writer.write(out);
+            }
+            long size = Files.size(temp);
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (approximateBytes.get() < 0)
+                approximateBytes.compareAndSet(-1, measure());
+            if (approximateBytes.addAndGet(size) > maxBytes)
+                evict();
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void write(OutputStream out, Entry entry) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(entry.errorLimit);
+        data.flush();
+        ObjectOutputStream objects = new ObjectOutputStream(out);
+        objects.writeObject(new ArrayList<>(entry.diagnostics));
+        objects.flush();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Entry read(InputStream in) throws IOException, ClassNotFoundException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC || data.readInt() != FORMAT_VERSION)
+            throw new IOException("Not a cache entry");
+        int errorLimit = data.readInt();
+        ObjectInputStream objects = new ObjectInputStream(in);
+        //only diagnostics may be restored from the cache directory
+        objects.setObjectInputFilter(ObjectInputFilter.Config.createFilter(
+                "main.compileError.**;java.lang.**;java.util.ArrayList;java.util.Collections$*;!*"));
+        List<CompileError> diagnostics = (List<CompileError>) objects.readObject();
+        return new Entry(diagnostics, errorLimit);
+    }
+
+    private static class CachedFile {
+        final Path path;
+        final long size;
+        final long lastModified;
+
+        CachedFile(Path path, BasicFileAttributes attributes) {
+            this.path = path;
+            this.size = attributes.size();
+            this.lastModified = attributes.lastModifiedTime().toMillis();
+        }
+    }
+
+    private List<CachedFile> list() throws IOException {
+        List<CachedFile> files = new ArrayList<>();
+        try (DirectoryStream<Path> buckets = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path bucket : buckets) {
+                try (DirectoryStream<Path> entries = Files.newDirectoryStream(bucket)) {
+                    for (Path entry : entries) {
+                        try {
+                            files.add(new CachedFile(entry, Files.readAttributes(entry, BasicFileAttributes.class)));
+                        } catch (NoSuchFileException ignore) {
+                            //deleted by another process meanwhile
+                        }
+                    }
+                }
+            }
+        }
+        return files;
+    }
+
+    private long measure() throws IOException {
+        long total = 0;
+        for (CachedFile file : list())
+            total += file.size;
+        return total;
+    }
+
+    //deletes the least recently used entries until the cache is back to three quarters of its size bound
+    public synchronized void evict() throws IOException {
+        try (FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = channel.tryLock()) {
+            if (lock == null)
+                return; //another process is evicting
+            List<CachedFile> files = list();
+            long total = 0;
+            for (CachedFile file : files)
+                total += file.size;
+            files.sort(Comparator.comparingLong(file -> file.lastModified));
+            long target = maxBytes / 4 * 3;
+            for (CachedFile file : files) {
+                if (total <= target)
+                    break;
+                if (!file.path.getFileName().toString().endsWith(TEMP_SUFFIX)
+                        || file.lastModified < System.currentTimeMillis() - 60_000) {
+                    Files.deleteIfExists(file.path);
+                    total -= file.size;
+                }
+            }
+            approximateBytes.set(total);
+        } catch (OverlappingFileLockException e) {
+            //another cache on the same directory in this process is evicting
+        }
+    }
+}
@@ -1,15 +1,62 @@
 package main.compileError;
 
-public class CompileError extends Exception {
+import java.io.Serializable;
+
+//A diagnostic: its line, its code and the names it is about. It is not an exception and captures no
+//stack; the message is only put together when it is asked for.
+public class CompileError implements Serializable, Cloneable {
+    private static final long serialVersionUID = 1L;
+    protected static final String[] NO_ARGS = new String[0];
+
     private int line;
-    protected String message;
+    private final ErrorCode code;
+    private final String[] args;
 
-    public CompileError(int line, String message) {
+    public CompileError(int line, ErrorCode code, String... args) {
         this.line = line;
-        this.message = message;
+        this.code = code;
+        this.args = args;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    //a copy lines further down, for an error found in nodes that still have the lines of an earlier text
+    public CompileError moved(int lines) {
+        try {
+            CompileError moved = (CompileError) clone();
+            moved.line += lines;
+            return moved;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    public ErrorCode getCode() {
+        return code;
+    }
+
+    //the arguments of the message, in the order of the code's placeholders
+    public String getArg(int index) {
+        return args[index];
+    }
+
+    public int getNumberOfArgs() {
+        return args.length;
+    }
+
+    //the message without the line prefix
+    public String getDescription() {
+        return code.format(args);
     }
 
     public String getMessage() {
-        return "Line " + line + ": " + message;
+        return "Line " + line + ": " + getDescription();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + ": " + getMessage();
     }
 }
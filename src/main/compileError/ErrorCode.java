@@ -0,0 +1,60 @@
+package main.compileError;
+
+//What a CompileError reports, with the text of its message; {0}, {1} are replaced by the error's arguments
+public enum ErrorCode {
+    SYNTAX_ERROR("{0}"),
+
+    CYCLIC_DEPENDENCY("Struct {0} is in dependency cycle"),
+    DUPLICATE_FUNCTION("Duplicate function {0}"),
+    DUPLICATE_STRUCT("Duplicate struct {0}"),
+    DUPLICATE_VAR("Variable {0} is already declared"),
+    FUNCTION_STRUCT_CONFLICT("Name of function {0} conflicts with a struct's name"),
+    VAR_FUNCTION_CONFLICT("Name of variable {0} conflicts with a function's name"),
+    VAR_STRUCT_CONFLICT("Name of variable {0} conflicts with a struct's name"),
+
+    ACCESS_BY_INDEX_ON_NON_LIST("Access by index on a non-list"),
+    ACCESS_ON_NON_STRUCT("Access on a non-struct"),
+    APPEND_TO_NON_LIST("Append to a non-list"),
+    ARGS_IN_FUNCTION_CALL_NOT_MATCH_DEFINITION("Args in function call do not match with definition"),
+    CALL_ON_NONE_FPTR_TYPE("Calling a non-callable"),
+    CANNOT_USE_DEFINE_VAR("Cannot define a new variable in this scope"),
+    CANNOT_USE_RETURN("Cannot use return statement in this scope"),
+    CANT_USE_VALUE_OF_VOID_FUNCTION("Cannot use return value of a function having void return type"),
+    CONDITION_NOT_BOOL("Condition must be bool"),
+    GET_SIZE_OF_NON_LIST("Get size of a non-list"),
+    LEFT_SIDE_NOT_LVALUE("Left side of the assignment must be a valid lvalue"),
+    LIST_INDEX_NOT_INT("List index is not an integer"),
+    MISSING_RETURN_STATEMENT("Missing return statement for function {0}"),
+    NEW_ELEMENT_TYPE_NOT_MATCH_LIST_TYPE("New element type does not match with list type"),
+    RETURN_VALUE_NOT_MATCH_FUNCTION_RETURN_TYPE("Return value does not match with function return type"),
+    STRUCT_MEMBER_NOT_FOUND("There is no member named {1} in struct {0}"),
+    STRUCT_NOT_DECLARED("Struct {0} is not declared"),
+    UNSUPPORTED_OPERAND_TYPE("Unsupported operand type for operator {0}"),
+    UNSUPPORTED_TYPE_FOR_DISPLAY("Unsupported type for display"),
+    VAR_NOT_DECLARED("Variable {0} is not declared");
+
+    private final String template;
+
+    ErrorCode(String template) {
+        this.template = template;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    //the message with the arguments filled in
+    public String format(String[] args) {
+        if (args.length == 0)
+            return template;
+        StringBuilder message = new StringBuilder(template.length() + 16 * args.length);
+        int from = 0;
+        int open;
+        while ((open = template.indexOf('{', from)) >= 0) {
+            message.append(template, from, open);
+            message.append(args[template.charAt(open + 1) - '0']);
+            from = open + 3;
+        }
+        return message.append(template, from, template.length()).toString();
+    }
+}
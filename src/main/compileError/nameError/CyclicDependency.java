@@ -1,9 +1,10 @@
 package main.compileError.nameError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class CyclicDependency extends CompileError {
     public CyclicDependency(int line, String structName) {
-        super(line, "Struct " + structName + " is in dependency cycle");
+        super(line, ErrorCode.CYCLIC_DEPENDENCY, structName);
     }
 }
@@ -1,9 +1,10 @@
 package main.compileError.nameError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class DuplicateFunction extends CompileError {
     public DuplicateFunction(int line, String functionName) {
-        super(line, "Duplicate function " + functionName);
+        super(line, ErrorCode.DUPLICATE_FUNCTION, functionName);
     }
 }
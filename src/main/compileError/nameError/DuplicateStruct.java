@@ -1,9 +1,10 @@
 package main.compileError.nameError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class DuplicateStruct extends CompileError {
     public DuplicateStruct(int line, String structName) {
-        super(line, "Duplicate struct " + structName);
+        super(line, ErrorCode.DUPLICATE_STRUCT, structName);
     }
 }
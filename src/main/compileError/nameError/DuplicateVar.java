@@ -1,9 +1,10 @@
 package main.compileError.nameError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class DuplicateVar extends CompileError {
     public DuplicateVar(int line, String varName) {
-        super(line, "Variable " + varName + " is already declared");
+        super(line, ErrorCode.DUPLICATE_VAR, varName);
     }
 }
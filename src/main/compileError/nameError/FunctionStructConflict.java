@@ -1,9 +1,10 @@
 package main.compileError.nameError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class FunctionStructConflict extends CompileError {
     public FunctionStructConflict(int line, String functionName) {
-        super(line, "Name of function " + functionName + " conflicts with a struct's name");
+        super(line, ErrorCode.FUNCTION_STRUCT_CONFLICT, functionName);
     }
 }
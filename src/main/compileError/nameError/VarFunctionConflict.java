@@ -1,9 +1,10 @@
 package main.compileError.nameError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class VarFunctionConflict extends CompileError {
     public VarFunctionConflict(int line, String varName) {
-        super(line, "Name of variable " + varName + " conflicts with a function's name");
+        super(line, ErrorCode.VAR_FUNCTION_CONFLICT, varName);
     }
 }
@@ -1,9 +1,10 @@
 package main.compileError.nameError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class VarStructConflict extends CompileError {
     public VarStructConflict(int line, String varName) {
-        super(line, "Name of variable " + varName + " conflicts with a struct's name");
+        super(line, ErrorCode.VAR_STRUCT_CONFLICT, varName);
     }
 }
@@ -0,0 +1,21 @@
+package main.compileError.syntaxError;
+
+import main.compileError.CompileError;
+import main.compileError.ErrorCode;
+
+//A token the lexer does not recognise, or tokens the parser does not expect; the message is ANTLR's
+public class SyntaxError extends CompileError {
+    private static final long serialVersionUID = 1L;
+
+    private final int column;
+
+    public SyntaxError(int line, int column, String message) {
+        super(line, ErrorCode.SYNTAX_ERROR, message);
+        this.column = column;
+    }
+
+    //0-based, as ANTLR counts it
+    public int getColumn() {
+        return column;
+    }
+}
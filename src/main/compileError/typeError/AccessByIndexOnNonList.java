@@ -1,9 +1,10 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class AccessByIndexOnNonList extends CompileError {
     public AccessByIndexOnNonList(int line) {
-        super(line, "Access by index on a non-list");
+        super(line, ErrorCode.ACCESS_BY_INDEX_ON_NON_LIST, NO_ARGS);
     }
 }
\ No newline at end of file
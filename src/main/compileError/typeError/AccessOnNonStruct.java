@@ -1,9 +1,10 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class AccessOnNonStruct extends CompileError {
     public AccessOnNonStruct(int line) {
-        super(line, "Access on a non-struct");
+        super(line, ErrorCode.ACCESS_ON_NON_STRUCT, NO_ARGS);
     }
 }
\ No newline at end of file
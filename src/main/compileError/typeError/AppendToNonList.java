@@ -1,9 +1,10 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class AppendToNonList extends CompileError {
     public AppendToNonList(int line) {
-        super(line, "Append to a non-list");
+        super(line, ErrorCode.APPEND_TO_NON_LIST, NO_ARGS);
     }
 }
\ No newline at end of file
@@ -1,11 +1,12 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class ArgsInFunctionCallNotMatchDefinition extends CompileError {
 
     public ArgsInFunctionCallNotMatchDefinition(int line) {
-        super(line, "Args in function call do not match with definition");
+        super(line, ErrorCode.ARGS_IN_FUNCTION_CALL_NOT_MATCH_DEFINITION, NO_ARGS);
     }
 
 }
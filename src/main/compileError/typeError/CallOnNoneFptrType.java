@@ -1,11 +1,12 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class CallOnNoneFptrType extends CompileError {
 
     public CallOnNoneFptrType(int line) {
-        super(line, "Calling a non-callable");
+        super(line, ErrorCode.CALL_ON_NONE_FPTR_TYPE, NO_ARGS);
     }
 
 }
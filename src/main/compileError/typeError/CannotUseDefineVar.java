@@ -1,9 +1,10 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class CannotUseDefineVar extends CompileError {
     public CannotUseDefineVar(int line) {
-        super(line, "Cannot define a new variable in this scope");
+        super(line, ErrorCode.CANNOT_USE_DEFINE_VAR, NO_ARGS);
     }
 }
\ No newline at end of file
@@ -1,9 +1,10 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class CannotUseReturn extends CompileError {
     public CannotUseReturn(int line) {
-        super(line, "Cannot use return statement in this scope");
+        super(line, ErrorCode.CANNOT_USE_RETURN, NO_ARGS);
     }
 }
\ No newline at end of file
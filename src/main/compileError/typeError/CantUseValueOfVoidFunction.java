@@ -1,11 +1,12 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class CantUseValueOfVoidFunction extends CompileError {
 
     public CantUseValueOfVoidFunction(int line) {
-        super(line, "Cannot use return value of a function having void return type");
+        super(line, ErrorCode.CANT_USE_VALUE_OF_VOID_FUNCTION, NO_ARGS);
     }
 
 }
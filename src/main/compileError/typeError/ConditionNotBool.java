@@ -1,11 +1,12 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class ConditionNotBool extends CompileError {
 
     public ConditionNotBool(int line) {
-        super(line, "Condition must be bool");
+        super(line, ErrorCode.CONDITION_NOT_BOOL, NO_ARGS);
     }
 
 }
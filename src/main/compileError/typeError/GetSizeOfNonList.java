@@ -1,9 +1,10 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class GetSizeOfNonList extends CompileError {
     public GetSizeOfNonList(int line) {
-        super(line, "Get size of a non-list");
+        super(line, ErrorCode.GET_SIZE_OF_NON_LIST, NO_ARGS);
     }
 }
\ No newline at end of file
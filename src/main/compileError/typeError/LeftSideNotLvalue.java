@@ -1,11 +1,12 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class LeftSideNotLvalue extends CompileError {
 
     public LeftSideNotLvalue(int line) {
-        super(line, "Left side of the assignment must be a valid lvalue");
+        super(line, ErrorCode.LEFT_SIDE_NOT_LVALUE, NO_ARGS);
     }
 
 }
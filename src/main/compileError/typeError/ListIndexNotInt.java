@@ -1,11 +1,12 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class ListIndexNotInt extends CompileError {
 
     public ListIndexNotInt(int line) {
-        super(line, "List index is not an integer");
+        super(line, ErrorCode.LIST_INDEX_NOT_INT, NO_ARGS);
     }
 
 }
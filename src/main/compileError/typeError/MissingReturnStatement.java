@@ -1,11 +1,12 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class MissingReturnStatement extends CompileError {
 
     public MissingReturnStatement(int line, String functionName) {
-        super(line, "Missing return statement for function " + functionName);
+        super(line, ErrorCode.MISSING_RETURN_STATEMENT, functionName);
     }
 
 }
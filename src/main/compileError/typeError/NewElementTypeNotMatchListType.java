@@ -1,11 +1,12 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class NewElementTypeNotMatchListType extends CompileError {
 
     public NewElementTypeNotMatchListType(int line) {
-        super(line, "New element type does not match with list type");
+        super(line, ErrorCode.NEW_ELEMENT_TYPE_NOT_MATCH_LIST_TYPE, NO_ARGS);
     }
 
 }
@@ -1,11 +1,12 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class ReturnValueNotMatchFunctionReturnType extends CompileError {
 
     public ReturnValueNotMatchFunctionReturnType(int line) {
-        super(line, "Return value does not match with function return type");
+        super(line, ErrorCode.RETURN_VALUE_NOT_MATCH_FUNCTION_RETURN_TYPE, NO_ARGS);
     }
 
 }
@@ -1,9 +1,10 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class StructMemberNotFound extends CompileError {
     public StructMemberNotFound(int line, String structName, String varName) {
-        super(line, "There is no member named " + varName + " in struct " + structName);
+        super(line, ErrorCode.STRUCT_MEMBER_NOT_FOUND, structName, varName);
     }
 }
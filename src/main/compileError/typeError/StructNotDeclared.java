@@ -1,9 +1,10 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class StructNotDeclared extends CompileError {
     public StructNotDeclared(int line, String structName) {
-        super(line, "Struct " + structName + " is not declared");
+        super(line, ErrorCode.STRUCT_NOT_DECLARED, structName);
     }
 }
@@ -1,9 +1,10 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class UnsupportedOperandType extends CompileError {
     public UnsupportedOperandType(int line, String operatorName) {
-        super(line, "Unsupported operand type for operator " + operatorName);
+        super(line, ErrorCode.UNSUPPORTED_OPERAND_TYPE, operatorName);
     }
 }
@@ -1,11 +1,12 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class UnsupportedTypeForDisplay extends CompileError {
 
     public UnsupportedTypeForDisplay(int line) {
-        super(line, "Unsupported type for display");
+        super(line, ErrorCode.UNSUPPORTED_TYPE_FOR_DISPLAY, NO_ARGS);
     }
 
 }
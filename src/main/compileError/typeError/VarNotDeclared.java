@@ -1,10 +1,11 @@
 package main.compileError.typeError;
 
 import main.compileError.CompileError;
+import main.compileError.ErrorCode;
 
 public class VarNotDeclared extends CompileError {
     public VarNotDeclared(int line, String varName) {
-        super(line, "Variable " + varName + " is not declared");
+        super(line, ErrorCode.VAR_NOT_DECLARED, varName);
     }
 
 }
@@ -0,0 +1,19 @@
+package main.diagnostic;
+
+import java.io.OutputStream;
+import java.util.Locale;
+
+public enum DiagnosticFormat {
+    JSONL,
+    SARIF;
+
+    public DiagnosticWriter create(OutputStream out) {
+        if (this == SARIF)
+            return new SarifDiagnosticWriter(out);
+        return new JsonLinesDiagnosticWriter(out);
+    }
+
+    public static DiagnosticFormat fromName(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,8 @@
+package main.diagnostic;
+
+import main.compileError.CompileError;
+
+//Receives every diagnostic of a compilation as soon as it is reported
+public interface DiagnosticListener {
+    void report(CompileError error);
+}
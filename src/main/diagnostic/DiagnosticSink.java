@@ -0,0 +1,55 @@
+package main.diagnostic;
+
+import main.ast.nodes.Node;
+import main.compileError.CompileError;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+//The errors a compilation's visitors report, by the node they were reported at, until ErrorReporter
+//moves them out in tree order. Only nodes with an error take room.
+public class DiagnosticSink {
+    private final IdentityHashMap<Node, List<CompileError>> pending = new IdentityHashMap<>();
+    //the nodes in the order they got their first error
+    private final List<Node> nodes = new ArrayList<>();
+    private int size = 0;
+
+    public void add(Node node, CompileError error) {
+        pending.computeIfAbsent(node, n -> {
+            nodes.add(n);
+            return new ArrayList<>(1);
+        }).add(error);
+        size += 1;
+    }
+
+    //the errors reported at the node, which are no longer pending; null when there are none
+    public List<CompileError> remove(Node node) {
+        List<CompileError> errors = pending.remove(node);
+        if (errors != null)
+            size -= errors.size();
+        return errors;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    //number of pending errors
+    public int size() {
+        return size;
+    }
+
+    //all errors still pending, by node in the order the nodes got their first error, which are no longer pending
+    public List<CompileError> removeAll() {
+        List<CompileError> errors = new ArrayList<>(size);
+        for (Node node : nodes) {
+            List<CompileError> nodeErrors = pending.remove(node);
+            if (nodeErrors != null)
+                errors.addAll(nodeErrors);
+        }
+        nodes.clear();
+        size = 0;
+        return errors;
+    }
+}
@@ -0,0 +1,90 @@
+package main.diagnostic;
+
+import main.compileError.CompileError;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+//Writes diagnostics of many sources to one buffered stream in a machine-readable format.
+//Every diagnostic is written once, straight from the CompileError; close() ends the document.
+public abstract class DiagnosticWriter implements Closeable {
+    public static final int BUFFER_SIZE = 1 << 16;
+
+    protected final Writer out;
+    private boolean closed = false;
+
+    protected DiagnosticWriter(OutputStream out) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    public synchronized void write(String source, CompileError error) {
+        try {
+            writeDiagnostic(source, error);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //a listener that writes the diagnostics of one source
+    public DiagnosticListener forSource(String source) {
+        return error -> write(source, error);
+    }
+
+    protected abstract void writeDiagnostic(String source, CompileError error) throws IOException;
+
+    protected void writeEnd() throws IOException {
+    }
+
+    public synchronized void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed)
+            return;
+        closed = true;
+        writeEnd();
+        out.flush();
+    }
+
+    //the CompileError subclass, e.g. VarNotDeclared
+    protected static String kind(CompileError error) {
+        return error.getClass().getSimpleName();
+    }
+
+    //the package of the CompileError subclass, e.g. typeError
+    protected static String category(CompileError error) {
+        String packageName = error.getClass().getPackageName();
+        return packageName.substring(packageName.lastIndexOf('.') + 1);
+    }
+
+    protected void writeString(String value) throws IOException {
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': out.write("\\\""); break;
+                case '\\': out.write("\\\\"); break;
+                case '\n': out.write("\\n"); break;
+                case '\r': out.write("\\r"); break;
+                case '\t': out.write("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        out.write("\\u00");
+                        out.write(Character.forDigit(c >> 4, 16));
+                        out.write(Character.forDigit(c & 0xf, 16));
+                    }
+                    else
+                        out.write(c);
+            }
+        }
+        out.write('"');
+    }
+}
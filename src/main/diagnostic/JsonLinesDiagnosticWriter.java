@@ -0,0 +1,29 @@
+package main.diagnostic;
+
+import main.compileError.CompileError;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+//One JSON object per line:
+//{"file":"a.cmm","line":3,"kind":"VarNotDeclared","category":"typeError","message":"Variable x is not declared"}
+public class JsonLinesDiagnosticWriter extends DiagnosticWriter {
+    public JsonLinesDiagnosticWriter(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    protected void writeDiagnostic(String source, CompileError error) throws IOException {
+        out.write("{\"file\":");
+        writeString(source);
+        out.write(",\"line\":");
+        out.write(Integer.toString(error.getLine()));
+        out.write(",\"kind\":");
+        writeString(kind(error));
+        out.write(",\"category\":");
+        writeString(category(error));
+        out.write(",\"message\":");
+        writeString(error.getDescription());
+        out.write("}\n");
+    }
+}
@@ -0,0 +1,57 @@
+package main.diagnostic;
+
+import main.compileError.CompileError;
+import main.compileError.syntaxError.SyntaxError;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+//A SARIF 2.1.0 log with a single run. The results are streamed one per line as they
+//are written; the enclosing document is opened with the first result and closed by close().
+public class SarifDiagnosticWriter extends DiagnosticWriter {
+    public static final String TOOL_NAME = "Cmm";
+
+    private boolean started = false;
+    private boolean firstResult = true;
+
+    public SarifDiagnosticWriter(OutputStream out) {
+        super(out);
+    }
+
+    private void start() throws IOException {
+        if (started)
+            return;
+        started = true;
+        out.write("{\"$schema\":\"https://json.schemastore.org/sarif-2.1.0.json\",\"version\":\"2.1.0\",\"runs\":[\n");
+        out.write("{\"tool\":{\"driver\":{\"name\":\"" + TOOL_NAME + "\"}},\"results\":[\n");
+    }
+
+    @Override
+    protected void writeDiagnostic(String source, CompileError error) throws IOException {
+        start();
+        if (!firstResult)
+            out.write(",\n");
+        firstResult = false;
+        out.write("{\"ruleId\":");
+        writeString(kind(error));
+        out.write(",\"level\":\"error\",\"message\":{\"text\":");
+        writeString(error.getDescription());
+        out.write("},\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":");
+        writeString(source.replace('\\', '/'));
+        out.write("},\"region\":{\"startLine\":");
+        out.write(Integer.toString(Math.max(error.getLine(), 1)));
+        if (error instanceof SyntaxError) {
+            out.write(",\"startColumn\":");
+            out.write(Integer.toString(((SyntaxError) error).getColumn() + 1));
+        }
+        out.write("}}}],\"properties\":{\"category\":");
+        writeString(category(error));
+        out.write("}}");
+    }
+
+    @Override
+    protected void writeEnd() throws IOException {
+        start();
+        out.write("\n]}\n]}\n");
+    }
+}
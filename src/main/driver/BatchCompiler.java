@@ -0,0 +1,191 @@
+package main.driver;
+
+import main.CmmCompiler;
+import main.CompilationResult;
+import main.compileError.CompileError;
+import main.diagnostic.DiagnosticListener;
+import main.diagnostic.DiagnosticWriter;
+import main.instrumentation.StatsReport;
+import main.parse.ByteBufferCharStream;
+import main.parse.IncrementalParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+//Compiles many sources in one process. A source argument is a .cmm file,
+//a directory (searched recursively for .cmm files) or @list (one path per line).
+//With more than one job the sources are checked on a work-stealing pool; the output
+//of every source is buffered and printed in input order, so it does not depend on scheduling.
+//With a DiagnosticWriter the diagnostics go to the writer instead, and everything else to stderr.
+public class BatchCompiler {
+    public static final String SOURCE_EXTENSION = ".cmm";
+
+    private final CmmCompiler cmmCompiler = new CmmCompiler();
+    private final List<Path> sources = new ArrayList<>();
+    private int jobs = 1;
+    private StatsReport statsReport;
+    private DiagnosticWriter diagnosticWriter;
+
+    private static class SourceResult {
+        final CompilationResult result;
+        final String output;
+
+        SourceResult(CompilationResult result, String output) {
+            this.result = result;
+            this.output = output;
+        }
+    }
+
+    public void addSource(String arg) throws IOException {
+        if (arg.startsWith("@")) {
+            for (String line : Files.readAllLines(Paths.get(arg.substring(1)))) {
+                if (!line.isBlank())
+                    addSource(line.strip());
+            }
+            return;
+        }
+        Path path = Paths.get(arg);
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> walk = Files.walk(path)) {
+                sources.addAll(walk.filter(p -> Files.isRegularFile(p) && p.toString().endsWith(SOURCE_EXTENSION))
+                        .sorted()
+                        .collect(Collectors.toList()));
+            }
+        }
+        else
+            sources.add(path);
+    }
+
+    public List<Path> getSources() {
+        return sources;
+    }
+
+    public CmmCompiler getCompiler() {
+        return cmmCompiler;
+    }
+
+    //when set, the phase measurements of every compiled source are added to it
+    public StatsReport getStatsReport() {
+        return statsReport;
+    }
+    public void setStatsReport(StatsReport statsReport) {
+        this.statsReport = statsReport;
+    }
+
+    public DiagnosticWriter getDiagnosticWriter() {
+        return diagnosticWriter;
+    }
+    public void setDiagnosticWriter(DiagnosticWriter diagnosticWriter) {
+        this.diagnosticWriter = diagnosticWriter;
+    }
+
+    public int getJobs() {
+        return jobs;
+    }
+    public void setJobs(int jobs) {
+        this.jobs = jobs > 0 ? jobs : Runtime.getRuntime().availableProcessors();
+    }
+
+    //returns the number of sources that failed to compile
+    public int run() {
+        PrintStream out = diagnosticWriter == null ? System.out : System.err;
+        int failed = 0;
+        if (jobs == 1 || sources.size() < 2) {
+            for (Path source : sources) {
+                DiagnosticListener listener = diagnosticWriter == null ? null : diagnosticWriter.forSource(source.toString());
+                if (!isSuccess(compile(source, out, listener)))
+                    failed += 1;
+            }
+        }
+        else {
+            ForkJoinPool pool = new ForkJoinPool(jobs);
+            try {
+                List<ForkJoinTask<SourceResult>> tasks = new ArrayList<>();
+                for (Path source : sources)
+                    tasks.add(pool.submit(() -> compileBuffered(source)));
+                for (int i = 0; i < tasks.size(); i++) {
+                    SourceResult result = tasks.get(i).join();
+                    out.print(result.output);
+                    if (diagnosticWriter != null && result.result != null) {
+                        for (CompileError error : result.result.getDiagnostics())
+                            diagnosticWriter.write(sources.get(i).toString(), error);
+                    }
+                    if (!isSuccess(result.result))
+                        failed += 1;
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+        out.println();
+        out.println(sources.size() + " files checked: " + (sources.size() - failed) + " succeeded, " + failed + " failed");
+        return failed;
+    }
+
+    private static boolean isSuccess(CompilationResult result) {
+        return result != null && result.isSuccess();
+    }
+
+    //the diagnostics of a buffered compilation are written once it is joined, to keep the input order
+    private SourceResult compileBuffered(Path source) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(buffer);
+        CompilationResult result = compile(source, out, diagnosticWriter == null ? null : error -> { });
+        out.flush();
+        return new SourceResult(result, buffer.toString());
+    }
+
+    private CompilationResult compile(Path source, PrintStream out, DiagnosticListener listener) {
+        if (listener == null)
+            out.println(source + ":");
+        CompilationResult result = compileFile(cmmCompiler, source, out, listener);
+        if (result != null && statsReport != null)
+            statsReport.add(result);
+        return result;
+    }
+
+    //prints the result of compiling the source; null when it could not be compiled at all
+    static CompilationResult compileFile(CmmCompiler cmmCompiler, Path source, PrintStream out) {
+        return compileFile(cmmCompiler, source, out, null);
+    }
+
+    //with a listener the diagnostics are only reported to it and out gets just the failures
+    static CompilationResult compileFile(CmmCompiler cmmCompiler, Path source, PrintStream out, DiagnosticListener listener) {
+        return compileFile(cmmCompiler, source, out, listener, null);
+    }
+
+    //the incrementalParser, when given, keeps the last text of the source
+    static CompilationResult compileFile(CmmCompiler cmmCompiler, Path source, PrintStream out, DiagnosticListener listener,
+                                         IncrementalParser incrementalParser) {
+        ByteBuffer bytes;
+        try {
+            bytes = ByteBufferCharStream.read(source);
+        } catch (IOException e) {
+            out.println("Cannot read file: " + e.getMessage());
+            return null;
+        }
+        try {
+            CompilationResult result = incrementalParser == null ? cmmCompiler.compile(bytes, source.toString(), listener)
+                    : cmmCompiler.compile(bytes, incrementalParser, listener);
+            if (listener == null)
+                result.print(out);
+            else if (result.getErrorLimitReached() != null)
+                out.println(source + ": " + result.getErrorLimitReached().getMessage());
+            return result;
+        } catch (IOException | RuntimeException e) {
+            out.println("Internal compiler error: " + e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package main.driver;
+
+import main.CmmCompiler;
+import main.CompilationResult;
+import main.diagnostic.DiagnosticFormat;
+import main.diagnostic.DiagnosticWriter;
+import main.instrumentation.StatsReport;
+import main.parse.IncrementalParser;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+//Long-lived compiler process that keeps the lexer, parser and visitors warm.
+//Protocol, one request per line: the path of a source file. The response is the
+//compiler output for that file followed by a line "END 0" on success or "END 1" on failure.
+//"quit" closes the connection (or stops the daemon when serving stdin).
+//With a DiagnosticFormat the diagnostics of a response are one document in that format, and what else
+//the compiler reports (unreadable files, the error budget) goes to the daemon's stderr.
+//The last text of the most recently requested sources is kept in an IncrementalParser each, so a source
+//requested again is only parsed where it changed in between.
+public class CompileDaemon {
+    public static final String END_OF_RESPONSE = "END";
+    public static final String QUIT = "quit";
+    public static final int WARM_UP_ROUNDS = 5;
+    public static final int INCREMENTAL_SOURCES = 64;
+
+    private final CmmCompiler cmmCompiler = new CmmCompiler();
+    private final Map<String, IncrementalParser> incrementalParsers = Collections.synchronizedMap(new RecentSources());
+    private StatsReport statsReport;
+    private DiagnosticFormat format;
+
+    public CmmCompiler getCompiler() {
+        return cmmCompiler;
+    }
+
+    //when set, the phase measurements of every request are added to it, but not those of the warm-up
+    public StatsReport getStatsReport() {
+        return statsReport;
+    }
+    public void setStatsReport(StatsReport statsReport) {
+        this.statsReport = statsReport;
+    }
+
+    //null for the text output
+    public DiagnosticFormat getFormat() {
+        return format;
+    }
+    public void setFormat(DiagnosticFormat format) {
+        this.format = format;
+    }
+
+    public void warmUp(List<Path> sources) {
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            for (Path source : sources)
+                BatchCompiler.compileFile(cmmCompiler, source, discard);
+        }
+    }
+
+    public void serve(BufferedReader in, PrintStream out) throws IOException {
+        String line;
+        while ((line = in.readLine()) != null) {
+            line = line.strip();
+            if (line.isEmpty())
+                continue;
+            if (line.equals(QUIT))
+                break;
+            CompilationResult result = compile(Paths.get(line), out);
+            boolean success = result != null && result.isSuccess();
+            out.println(END_OF_RESPONSE + " " + (success ? 0 : 1));
+            out.flush();
+        }
+    }
+
+    private CompilationResult compile(Path source, PrintStream out) throws IOException {
+        IncrementalParser incrementalParser = incrementalParsers.computeIfAbsent(source.toString(), IncrementalParser::new);
+        CompilationResult result;
+        if (format == null) {
+            result = BatchCompiler.compileFile(cmmCompiler, source, out, null, incrementalParser);
+        } else {
+            DiagnosticWriter diagnosticWriter = format.create(out);
+            result = BatchCompiler.compileFile(cmmCompiler, source, System.err, diagnosticWriter.forSource(source.toString()),
+                    incrementalParser);
+            diagnosticWriter.close();
+        }
+        if (result != null && statsReport != null)
+            statsReport.add(result);
+        return result;
+    }
+
+    //Accepts connections on the loopback interface only; every connection is served on its own thread
+    public void listen(int port) throws IOException {
+        ExecutorService connections = Executors.newCachedThreadPool();
+        try (ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+            System.err.println("Cmm daemon listening on " + serverSocket.getLocalSocketAddress());
+            while (true) {
+                Socket socket = serverSocket.accept();
+                connections.execute(() -> serveConnection(socket));
+            }
+        } finally {
+            connections.shutdown();
+        }
+    }
+
+    private void serveConnection(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintStream out = new PrintStream(new BufferedOutputStream(socket.getOutputStream()), false, StandardCharsets.UTF_8);
+            serve(in, out);
+        } catch (IOException e) {
+            System.err.println("Connection failed: " + e.getMessage());
+        }
+    }
+
+    //the IncrementalParsers of the INCREMENTAL_SOURCES sources requested last
+    private static class RecentSources extends LinkedHashMap<String, IncrementalParser> {
+        private static final long serialVersionUID = 1L;
+
+        RecentSources() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, IncrementalParser> eldest) {
+            return size() > INCREMENTAL_SOURCES;
+        }
+    }
+}
@@ -294,7 +294,7 @@ expression returns[Expression exprRet]:
     expl = orExpression {$exprRet = $expl.orExprRet;}
     (op = ASSIGN expr = expression {
         BinaryOperator opr = BinaryOperator.assign;
-        $exprRet = new BinaryExpression($exprRet, $expr.exprRet, opr);
+        $exprRet = new BinaryExpression($expl.orExprRet, $expr.exprRet, opr);
         $exprRet.setLine($op.getLine());
     })?
     ;
@@ -304,7 +304,7 @@ orExpression returns[Expression orExprRet]:
     expl = andExpression {$orExprRet = $expl.andExprRet;}
     (op = OR expr = andExpression{
         BinaryOperator opr = BinaryOperator.or;
-        $orExprRet = new BinaryExpression($orExprRet, $expr.andExprRet, opr);
+        $orExprRet = new BinaryExpression($expl.andExprRet, $expr.andExprRet, opr);
         $orExprRet.setLine($op.getLine());
     })*
     ;
@@ -481,7 +481,7 @@ type returns[Type typeRet]:
 
 fptrType returns[FptrType fptrTypeRet]:
     { ArrayList<Type> args = new ArrayList<>(); }
-    FPTR LESS_THAN (VOID
+    FPTR LESS_THAN (VOID { args.add(new VoidType()); }
     | (t1 = type { args.add($t1.typeRet); } (COMMA t2 = type { args.add($t2.typeRet); })* ))
 
     ARROW (t3 = type {$fptrTypeRet = new FptrType(args, $t3.typeRet);}
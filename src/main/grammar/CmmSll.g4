@@ -0,0 +1,64 @@
+grammar CmmSll;
+
+//Cmm with the rules whose alternatives can only be told apart by scanning a whole body
+//left-factored, so that SLL prediction parses every valid program. Accepts the same language
+//and builds the same AST as Cmm, including binding a dangling else to the innermost if.
+//Only used for the first stage of main.parse.TwoStageParser; errors are always reported by CmmParser.
+import Cmm;
+
+@header{
+     import main.ast.nodes.*;
+     import main.ast.nodes.declaration.*;
+     import main.ast.nodes.declaration.struct.*;
+     import main.ast.nodes.expression.*;
+     import main.ast.nodes.expression.operators.*;
+     import main.ast.nodes.expression.values.*;
+     import main.ast.nodes.expression.values.primitive.*;
+     import main.ast.nodes.statement.*;
+     import main.ast.types.*;
+     import main.ast.types.primitives.*;
+     import java.util.*;
+ }
+
+
+structBody returns[BlockStmt structBodyRet]:
+    {
+     $structBodyRet = new BlockStmt();
+    }
+    (NEWLINE+ s1 = singleStatementStructBody {
+    $structBodyRet.addStatement($s1.stmt);
+    }
+    (SEMICOLON s2 = singleStatementStructBody{
+    $structBodyRet.addStatement($s2.stmt);
+    })*
+    SEMICOLON?)+;
+
+
+blockStatement returns[BlockStmt blockStatementRet]:
+    {$blockStatementRet = new BlockStmt();}
+    b = BEGIN{
+    $blockStatementRet.setLine($b.getLine());
+    }
+    (NEWLINE+ s1 = singleStatement{
+    $blockStatementRet.addStatement($s1.singleStatementRet);
+    } (SEMICOLON
+    s2 = singleStatement{
+    $blockStatementRet.addStatement($s2.singleStatementRet);
+    })* (SEMICOLON)?)+ NEWLINE+ END;
+
+
+ifStatement returns[ConditionalStmt ifStatementRet]:
+    cond = IF exp = expression
+    {$ifStatementRet = new ConditionalStmt($exp.exprRet);
+     $ifStatementRet.setLine($cond.getLine());}
+    (b = blockStatement
+    {$ifStatementRet.setThenBody($b.blockStatementRet);}
+    (elsest1 = elseStatement
+    {$ifStatementRet.setElseBody($elsest1.stmt);}
+    )?
+    | NEWLINE+ s = singleStatement
+    {$ifStatementRet.setThenBody($s.singleStatementRet);}
+    (SEMICOLON? elsest2 = elseStatement
+    {$ifStatementRet.setElseBody($elsest2.stmt);}
+    )?
+    );
@@ -0,0 +1,107 @@
+package main.instrumentation;
+
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.DecisionInfo;
+import org.antlr.v4.runtime.atn.DecisionState;
+import org.antlr.v4.runtime.atn.LookaheadEventInfo;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+//Sums ANTLR's per-decision profiling (Parser.setProfile) over many parses; safe to feed from several threads.
+//Every decision of every parser class is reported with its rule, the kind of decision (alternative block,
+//* or + loop, optional), how often it was predicted, the time spent predicting it, how far SLL and LL
+//prediction looked ahead and how often SLL had to fall back to full-context LL prediction.
+public class DecisionProfile {
+    public static final int DEFAULT_TOP = 20;
+
+    private final Map<String, Decision> decisions = new LinkedHashMap<>();
+    private int parses = 0;
+
+    private static class Decision {
+        final String parser;
+        final int decision;
+        final String rule;
+        final String kind;
+        long invocations;
+        long nanos;
+        long sllTotalLook;
+        long sllMaxLook;
+        long llFallbacks;
+        long llMaxLook;
+        long ambiguities;
+        long errors;
+        String maxLookAt = "";
+
+        Decision(String parser, int decision, String rule, String kind) {
+            this.parser = parser;
+            this.decision = decision;
+            this.rule = rule;
+            this.kind = kind;
+        }
+    }
+
+    //the parser must have parsed with setProfile(true); source is the name of the parsed file, if known
+    public synchronized void add(Parser parser, String source) {
+        parses += 1;
+        String parserName = parser.getClass().getSimpleName();
+        for (DecisionInfo info : parser.getParseInfo().getDecisionInfo()) {
+            if (info.invocations == 0)
+                continue;
+            Decision decision = decisions.computeIfAbsent(parserName + "#" + info.decision, key -> {
+                DecisionState state = parser.getATN().decisionToState.get(info.decision);
+                return new Decision(parserName, info.decision, parser.getRuleNames()[state.ruleIndex], kind(state));
+            });
+            decision.invocations += info.invocations;
+            decision.nanos += info.timeInPrediction;
+            decision.sllTotalLook += info.SLL_TotalLook;
+            decision.llFallbacks += info.LL_Fallback;
+            decision.ambiguities += info.ambiguities.size();
+            decision.errors += info.errors.size();
+            if (info.SLL_MaxLook > decision.sllMaxLook) {
+                decision.sllMaxLook = info.SLL_MaxLook;
+                if (info.LL_MaxLook <= decision.llMaxLook)
+                    decision.maxLookAt = location(info.SLL_MaxLookEvent, source);
+            }
+            if (info.LL_MaxLook > decision.llMaxLook) {
+                decision.llMaxLook = info.LL_MaxLook;
+                decision.maxLookAt = location(info.LL_MaxLookEvent, source);
+            }
+        }
+    }
+
+    private static String kind(DecisionState state) {
+        String name = state.getClass().getSimpleName();
+        return name.endsWith("State") ? name.substring(0, name.length() - "State".length()) : name;
+    }
+
+    private static String location(LookaheadEventInfo event, String source) {
+        if (event == null || !(event.input instanceof TokenStream))
+            return "";
+        Token token = event.input.get(event.startIndex);
+        return (source == null ? "" : source + ":") + token.getLine() + ":" + token.getCharPositionInLine();
+    }
+
+    //the top decisions by prediction time, or all of them when top is not positive
+    public synchronized void print(PrintStream out, int top) {
+        List<Decision> sorted = new ArrayList<>(decisions.values());
+        sorted.sort((a, b) -> Long.compare(b.nanos, a.nanos));
+        if (top > 0 && sorted.size() > top)
+            sorted = sorted.subList(0, top);
+        out.println("Parser decisions over " + parses + " parses, by prediction time:");
+        out.printf("%-14s %4s %-26s %-14s %11s %10s %9s %8s %10s %8s %6s %6s  %s%n",
+                "parser", "dec", "rule", "kind", "invocations", "time (ms)", "SLL avg", "SLL max",
+                "LL fallback", "LL max", "ambig", "errors", "longest lookahead at");
+        for (Decision decision : sorted) {
+            out.printf("%-14s %4d %-26s %-14s %11d %10.3f %9.2f %8d %10d %8d %6d %6d  %s%n",
+                    decision.parser, decision.decision, decision.rule, decision.kind, decision.invocations,
+                    decision.nanos / 1e6, (double) decision.sllTotalLook / decision.invocations, decision.sllMaxLook,
+                    decision.llFallbacks, decision.llMaxLook, decision.ambiguities, decision.errors, decision.maxLookAt);
+        }
+    }
+}
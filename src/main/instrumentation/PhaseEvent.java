@@ -0,0 +1,27 @@
+package main.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+//JFR event committed at the end of every compilation phase
+@Name("cmm.CompilationPhase")
+@Label("Cmm Compilation Phase")
+@Category("Cmm")
+@StackTrace(false)
+public class PhaseEvent extends Event {
+    @Label("Phase")
+    String phase;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocated;
+
+    @Label("Count")
+    @Description("Tokens, nodes, symbols or errors, depending on the phase")
+    long count;
+}
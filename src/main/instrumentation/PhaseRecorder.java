@@ -0,0 +1,66 @@
+package main.instrumentation;
+
+import main.CompilationPhase;
+import main.CompilationResult;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.LongSupplier;
+
+//Measures consecutive phases of one compilation on the current thread.
+//Wall time is always recorded; allocation and counts only when detailed or when JFR records PhaseEvent.
+public class PhaseRecorder {
+    private static final com.sun.management.ThreadMXBean threads = threadBean();
+
+    private final CompilationResult result;
+    private final boolean detailed;
+    private long startNanos;
+    private long startAllocated;
+    private PhaseEvent event;
+
+    public PhaseRecorder(CompilationResult result, boolean instrumented) {
+        this.result = result;
+        this.detailed = instrumented || new PhaseEvent().isEnabled();
+        start();
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        var bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported())
+            return (com.sun.management.ThreadMXBean) bean;
+        return null;
+    }
+
+    private long allocatedBytes() {
+        return threads == null ? -1 : threads.getCurrentThreadAllocatedBytes();
+    }
+
+    private void start() {
+        if (detailed) {
+            event = new PhaseEvent();
+            event.begin();
+            startAllocated = allocatedBytes();
+        }
+        startNanos = System.nanoTime();
+    }
+
+    //the count is only computed when measurements are detailed
+    public void end(CompilationPhase phase, LongSupplier count) {
+        long wallNanos = System.nanoTime() - startNanos;
+        if (!detailed) {
+            result.setPhaseStats(phase, new PhaseStats(wallNanos));
+            start();
+            return;
+        }
+        long allocated = startAllocated < 0 ? -1 : allocatedBytes() - startAllocated;
+        event.end();
+        long counted = count.getAsLong();
+        if (event.shouldCommit()) {
+            event.phase = phase.name();
+            event.allocated = allocated;
+            event.count = counted;
+            event.commit();
+        }
+        result.setPhaseStats(phase, new PhaseStats(wallNanos, allocated, counted));
+        start();
+    }
+}
@@ -0,0 +1,38 @@
+package main.instrumentation;
+
+//Measurements of one phase. Allocation and count are -1 when they were not measured.
+public class PhaseStats {
+    private long wallNanos;
+    private long allocatedBytes = -1;
+    private long count = -1;
+
+    public PhaseStats(long wallNanos) {
+        this.wallNanos = wallNanos;
+    }
+
+    public PhaseStats(long wallNanos, long allocatedBytes, long count) {
+        this.wallNanos = wallNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.count = count;
+    }
+
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void add(PhaseStats other) {
+        wallNanos += other.wallNanos;
+        if (other.allocatedBytes >= 0)
+            allocatedBytes = Math.max(allocatedBytes, 0) + other.allocatedBytes;
+        if (other.count >= 0)
+            count = Math.max(count, 0) + other.count;
+    }
+}
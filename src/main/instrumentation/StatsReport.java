@@ -0,0 +1,33 @@
+package main.instrumentation;
+
+import main.CompilationPhase;
+import main.CompilationResult;
+
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+
+//Sums the phase measurements of many compilations; safe to feed from several threads
+public class StatsReport {
+    private final Map<CompilationPhase, PhaseStats> totals = new EnumMap<>(CompilationPhase.class);
+    private int compilations = 0;
+
+    public synchronized void add(CompilationResult result) {
+        compilations += 1;
+        for (Map.Entry<CompilationPhase, PhaseStats> entry : result.getPhaseStats().entrySet()) {
+            PhaseStats total = totals.computeIfAbsent(entry.getKey(), phase -> new PhaseStats(0));
+            total.add(entry.getValue());
+        }
+    }
+
+    public synchronized void print(PrintStream out) {
+        out.println("Phase statistics over " + compilations + " compilations:");
+        out.printf("%-20s %12s %14s %12s%n", "phase", "time (ms)", "allocated (KB)", "count");
+        for (Map.Entry<CompilationPhase, PhaseStats> entry : totals.entrySet()) {
+            PhaseStats stats = entry.getValue();
+            out.printf("%-20s %12.3f %14s %12s%n", entry.getKey().name(), stats.getWallNanos() / 1e6,
+                    stats.getAllocatedBytes() < 0 ? "-" : String.valueOf(stats.getAllocatedBytes() / 1024),
+                    stats.getCount() < 0 ? "-" : stats.getCount() + " " + entry.getKey().getCountUnit());
+        }
+    }
+}
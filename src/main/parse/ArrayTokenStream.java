@@ -0,0 +1,179 @@
+package main.parse;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.RuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.WritableToken;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+import java.util.Arrays;
+
+//TokenStream over all the tokens of a source kept in parallel int arrays (type, start and stop index,
+//line, column), 20 bytes a token, so prediction (LA) runs over one array instead of token objects.
+//Token objects are only made by LT and get, through the token source's factory, for the grammar actions
+//and error reporting; the last few are cached as the parser asks for the current token several times.
+//It behaves like a filled CommonTokenStream whose tokens are all on the default channel and take their
+//text from the input, which is what FastCmmLexer produces; other tokens must not be streamed this way.
+//The arrays are kept when the stream is refilled from the next source.
+public class ArrayTokenStream implements TokenStream {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int CACHE_SIZE = 8;
+
+    private TokenSource tokenSource;
+    private Pair<TokenSource, CharStream> source;
+    private int[] types = new int[INITIAL_CAPACITY];
+    private int[] starts = new int[INITIAL_CAPACITY];
+    private int[] stops = new int[INITIAL_CAPACITY];
+    private int[] lines = new int[INITIAL_CAPACITY];
+    private int[] columns = new int[INITIAL_CAPACITY];
+    private int size = 0;
+    private int p = 0;
+    private final Token[] cache = new Token[CACHE_SIZE];
+
+    public ArrayTokenStream(TokenSource tokenSource) {
+        setTokenSource(tokenSource);
+    }
+
+    //reads all the tokens of tokenSource, up to and with EOF; null leaves the stream empty
+    public void setTokenSource(TokenSource tokenSource) {
+        this.tokenSource = tokenSource;
+        size = 0;
+        p = 0;
+        Arrays.fill(cache, null);
+        if (tokenSource == null) {
+            source = null;
+            return;
+        }
+        source = new Pair<>(tokenSource, tokenSource.getInputStream());
+        Token token;
+        do {
+            token = tokenSource.nextToken();
+            if (size == types.length)
+                grow();
+            types[size] = token.getType();
+            starts[size] = token.getStartIndex();
+            stops[size] = token.getStopIndex();
+            lines[size] = token.getLine();
+            columns[size] = token.getCharPositionInLine();
+            size++;
+        } while (token.getType() != Token.EOF);
+    }
+
+    private void grow() {
+        int capacity = types.length * 2;
+        types = Arrays.copyOf(types, capacity);
+        starts = Arrays.copyOf(starts, capacity);
+        stops = Arrays.copyOf(stops, capacity);
+        lines = Arrays.copyOf(lines, capacity);
+        columns = Arrays.copyOf(columns, capacity);
+    }
+
+    @Override
+    public int LA(int i) {
+        int index = lookIndex(i);
+        return index < 0 ? Token.INVALID_TYPE : types[index];
+    }
+
+    @Override
+    public Token LT(int k) {
+        int index = lookIndex(k);
+        return index < 0 ? null : get(index);
+    }
+
+    //index of the token k ahead (k > 0) or back (k < 0), the EOF past the end, -1 before the start
+    private int lookIndex(int k) {
+        if (k > 0)
+            return Math.min(p + k - 1, size - 1);
+        if (k < 0 && p + k >= 0)
+            return p + k;
+        return -1;
+    }
+
+    @Override
+    public Token get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("token index " + index + " out of range 0.." + (size - 1));
+        Token token = cache[index % CACHE_SIZE];
+        if (token != null && token.getTokenIndex() == index)
+            return token;
+        token = tokenSource.getTokenFactory().create(source, types[index], null, Token.DEFAULT_CHANNEL,
+                starts[index], stops[index], lines[index], columns[index]);
+        ((WritableToken) token).setTokenIndex(index);
+        cache[index % CACHE_SIZE] = token;
+        return token;
+    }
+
+    @Override
+    public TokenSource getTokenSource() {
+        return tokenSource;
+    }
+
+    //the text of the tokens from start to stop, up to EOF, as BufferedTokenStream.getText
+    @Override
+    public String getText(Interval interval) {
+        int start = interval.a;
+        int stop = Math.min(interval.b, size - 1);
+        if (start < 0 || stop < 0)
+            return "";
+        StringBuilder text = new StringBuilder();
+        for (int i = start; i <= stop && types[i] != Token.EOF; i++)
+            text.append(source.b.getText(Interval.of(starts[i], stops[i])));
+        return text.toString();
+    }
+
+    @Override
+    public String getText() {
+        return getText(Interval.of(0, size - 1));
+    }
+
+    @Override
+    public String getText(RuleContext ctx) {
+        return getText(ctx.getSourceInterval());
+    }
+
+    @Override
+    public String getText(Token start, Token stop) {
+        if (start == null || stop == null)
+            return "";
+        return getText(Interval.of(start.getTokenIndex(), stop.getTokenIndex()));
+    }
+
+    @Override
+    public void consume() {
+        if (p >= size - 1)
+            throw new IllegalStateException("cannot consume EOF");
+        p++;
+    }
+
+    @Override
+    public int mark() {
+        return 0;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return p;
+    }
+
+    @Override
+    public void seek(int index) {
+        p = Math.min(index, size - 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getSourceName() {
+        return tokenSource.getSourceName();
+    }
+}
@@ -0,0 +1,261 @@
+package main.parse;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+//CharStream reading UTF-8 source straight from a ByteBuffer, usually a memory-mapped file, without
+//decoding it into a code point array first. Indexes are code points, as in every ANTLR CharStream.
+//An all-ASCII source (checked eight bytes at a time) is indexed by byte; otherwise the byte offset of
+//every CHECKPOINT_INTERVAL-th code point is kept so that seeking back does not rescan from the start.
+//Text is only decoded when a token or an error message asks for it.
+public class ByteBufferCharStream implements CharStream {
+    //smaller files are read into the heap, mapping them costs more than it saves
+    public static final int MAP_THRESHOLD = 64 * 1024;
+    private static final int CHECKPOINT_INTERVAL = 64;
+
+    private final ByteBuffer bytes;
+    private final String sourceName;
+    private final boolean ascii;
+    private final int size;
+    private final int[] checkpoints;
+    private int index = 0;
+    private int position = 0;
+
+    private ByteBufferCharStream(ByteBuffer bytes, String sourceName, boolean ascii, int size, int[] checkpoints) {
+        this.bytes = bytes;
+        this.sourceName = sourceName;
+        this.ascii = ascii;
+        this.size = size;
+        this.checkpoints = checkpoints;
+    }
+
+    //the contents of the file, memory-mapped when it is at least MAP_THRESHOLD bytes long
+    public static ByteBuffer read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size >= MAP_THRESHOLD && size <= Integer.MAX_VALUE)
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(path));
+    }
+
+    //The remaining bytes of the buffer as a CharStream, decoded like CharStreams.fromChannel with
+    //CodingErrorAction.REPLACE. Malformed UTF-8 is rare enough to take that slower, copying path.
+    public static CharStream fromBuffer(ByteBuffer source, String sourceName) {
+        ByteBuffer bytes = source.slice();
+        int length = bytes.limit();
+        int i = 0;
+        while (i + 8 <= length && (bytes.getLong(i) & 0x8080808080808080L) == 0)
+            i += 8;
+        while (i < length && bytes.get(i) >= 0)
+            i++;
+        if (i == length)
+            return new ByteBufferCharStream(bytes, sourceName, true, length, null);
+
+        int[] checkpoints = new int[length / CHECKPOINT_INTERVAL + 1];
+        int size = 0;
+        i = 0;
+        while (i < length) {
+            int sequence = sequenceLength(bytes, i, length);
+            if (sequence == 0)
+                return decoded(bytes, sourceName);
+            if (size % CHECKPOINT_INTERVAL == 0)
+                checkpoints[size / CHECKPOINT_INTERVAL] = i;
+            size++;
+            i += sequence;
+        }
+        return new ByteBufferCharStream(bytes, sourceName, false, size, checkpoints);
+    }
+
+    private static CharStream decoded(ByteBuffer bytes, String sourceName) {
+        try {
+            String text = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                    .decode(bytes.duplicate()).toString();
+            return CharStreams.fromString(text, sourceName);
+        } catch (CharacterCodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //length of the well-formed UTF-8 sequence starting at i, 0 when it is malformed
+    private static int sequenceLength(ByteBuffer bytes, int i, int length) {
+        int lead = bytes.get(i) & 0xff;
+        if (lead < 0x80)
+            return 1;
+        int count;
+        int min = 0x80;
+        int max = 0xbf;
+        if (lead >= 0xc2 && lead <= 0xdf)
+            count = 2;
+        else if (lead >= 0xe0 && lead <= 0xef) {
+            count = 3;
+            if (lead == 0xe0)
+                min = 0xa0;
+            else if (lead == 0xed)
+                max = 0x9f;
+        }
+        else if (lead >= 0xf0 && lead <= 0xf4) {
+            count = 4;
+            if (lead == 0xf0)
+                min = 0x90;
+            else if (lead == 0xf4)
+                max = 0x8f;
+        }
+        else
+            return 0;
+        if (i + count > length)
+            return 0;
+        int second = bytes.get(i + 1) & 0xff;
+        if (second < min || second > max)
+            return 0;
+        for (int k = 2; k < count; k++) {
+            if ((bytes.get(i + k) & 0xc0) != 0x80)
+                return 0;
+        }
+        return count;
+    }
+
+    //the code point at byte offset i of a well-formed stream
+    private int codePointAt(int i) {
+        int lead = bytes.get(i) & 0xff;
+        if (lead < 0x80)
+            return lead;
+        if (lead < 0xe0)
+            return (lead & 0x1f) << 6 | (bytes.get(i + 1) & 0x3f);
+        if (lead < 0xf0)
+            return (lead & 0x0f) << 12 | (bytes.get(i + 1) & 0x3f) << 6 | (bytes.get(i + 2) & 0x3f);
+        return (lead & 0x07) << 18 | (bytes.get(i + 1) & 0x3f) << 12 | (bytes.get(i + 2) & 0x3f) << 6
+                | (bytes.get(i + 3) & 0x3f);
+    }
+
+    private int next(int i) {
+        int lead = bytes.get(i) & 0xff;
+        return i + (lead < 0x80 ? 1 : lead < 0xe0 ? 2 : lead < 0xf0 ? 3 : 4);
+    }
+
+    private int previous(int i) {
+        do {
+            i--;
+        } while ((bytes.get(i) & 0xc0) == 0x80);
+        return i;
+    }
+
+    //byte offset of code point target, walking from the current position or the closest checkpoint
+    private int offsetOf(int target) {
+        if (ascii)
+            return target;
+        int from = index;
+        int offset = position;
+        if (target < index || target - index > CHECKPOINT_INTERVAL) {
+            from = target / CHECKPOINT_INTERVAL * CHECKPOINT_INTERVAL;
+            offset = checkpoints[target / CHECKPOINT_INTERVAL];
+        }
+        for (; from < target; from++)
+            offset = next(offset);
+        return offset;
+    }
+
+    @Override
+    public int LA(int i) {
+        if (ascii && i > 0) {
+            int target = index + i - 1;
+            return target < size ? bytes.get(target) : IntStream.EOF;
+        }
+        return lookAround(i);
+    }
+
+    //LA of a UTF-8 stream, or looking back; kept out of LA so that the ASCII path stays small enough to inline
+    private int lookAround(int i) {
+        if (i > 0) {
+            if (index + i - 1 >= size)
+                return IntStream.EOF;
+            int offset = position;
+            for (int k = 1; k < i; k++)
+                offset = next(offset);
+            return codePointAt(offset);
+        }
+        if (i < 0) {
+            int target = index + i;
+            if (target < 0)
+                return IntStream.EOF;
+            if (ascii)
+                return bytes.get(target);
+            int offset = position;
+            for (int k = 0; k > i; k--)
+                offset = previous(offset);
+            return codePointAt(offset);
+        }
+        return 0;
+    }
+
+    @Override
+    public void consume() {
+        if (index >= size)
+            throw new IllegalStateException("cannot consume EOF");
+        position = ascii ? position + 1 : next(position);
+        index++;
+    }
+
+    @Override
+    public void seek(int index) {
+        int target = Math.max(0, Math.min(index, size));
+        position = target == size && !ascii ? bytes.limit() : offsetOf(target);
+        this.index = target;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.max(interval.a, 0);
+        int stop = Math.min(interval.b, size - 1);
+        if (stop < start)
+            return "";
+        int from = offsetOf(start);
+        int to = stop + 1 == size ? bytes.limit() : ascii ? stop + 1 : offsetOf(stop + 1);
+        byte[] text = new byte[to - from];
+        bytes.get(from, text);
+        return new String(text, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int index() {
+        return index;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public String getSourceName() {
+        return sourceName == null || sourceName.isEmpty() ? IntStream.UNKNOWN_SOURCE_NAME : sourceName;
+    }
+
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, size - 1));
+    }
+}
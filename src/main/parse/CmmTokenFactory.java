@@ -0,0 +1,253 @@
+package main.parse;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.WritableToken;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+import parsers.CmmLexer;
+
+//Token factory of FastCmmLexer. Every Cmm token but IDENTIFIER and INT_VALUE has a fixed text, so its token
+//only keeps the type and column in one int, the line, the start index and the token index, and returns
+//the shared literal as its text; its stop index follows from the literal's length. An identifier or
+//integer also keeps its stop index and reads its text from the CharStream when asked; the names the AST
+//keeps are interned by NamePool. The source pair is shared by all tokens of an input. Tokens with explicit
+//text, on another channel, or with a column too large to pack (error recovery's missing tokens, other
+//lexers) are CommonTokens as before. A text or channel set later, e.g. by a token rewriter, is kept in
+//Changes next to the token.
+public class CmmTokenFactory implements TokenFactory<Token> {
+    private static final int TYPE_BITS = 8;
+    private static final int MAX_COLUMN = (1 << (32 - TYPE_BITS)) - 1;
+    //the text of every token type with a fixed one, by type + 1 so that EOF has a slot
+    private static final String[] LITERALS = literals();
+
+    private static String[] literals() {
+        String[] literals = new String[CmmLexer.VOCABULARY.getMaxTokenType() + 2];
+        for (int type = 1; type <= CmmLexer.VOCABULARY.getMaxTokenType(); type++) {
+            String literal = CmmLexer.VOCABULARY.getLiteralName(type);
+            if (literal != null)
+                literals[type + 1] = literal.substring(1, literal.length() - 1).replace("\\n", "\n");
+        }
+        return literals;
+    }
+
+    //what was set on a token after it was made and does not fit in its fields: a text, a channel, or a type
+    //or column too large to pack (then both are kept here); and the input text of a fixed token whose type
+    //was changed, which no longer follows from the type
+    private static class Changes {
+        String text;
+        String sourceText;
+        int channel = Token.DEFAULT_CHANNEL;
+        boolean unpacked = false;
+        int type;
+        int charPositionInLine;
+    }
+
+    @Override
+    public Token create(Pair<TokenSource, CharStream> source, int type, String text, int channel, int start,
+                        int stop, int line, int charPositionInLine) {
+        if (text != null || channel != Token.DEFAULT_CHANNEL || charPositionInLine < 0 || charPositionInLine > MAX_COLUMN
+                || type < Token.EOF || type + 1 >= LITERALS.length) {
+            CommonToken token = new CommonToken(source, type, channel, start, stop);
+            token.setLine(line);
+            token.setCharPositionInLine(charPositionInLine);
+            if (text != null)
+                token.setText(text);
+            return token;
+        }
+        String literal = LITERALS[type + 1];
+        if (literal != null && stop - start + 1 == literal.length())
+            return new FixedToken(source, type, line, charPositionInLine, start);
+        return new VariableToken(source, type, line, charPositionInLine, start, stop);
+    }
+
+    @Override
+    public Token create(int type, String text) {
+        return new CommonToken(type, text);
+    }
+
+    private static class FixedToken implements WritableToken {
+        final Pair<TokenSource, CharStream> source;
+        private int typeAndColumn;
+        private int line;
+        private final int start;
+        private int index = -1;
+        //null unless something was set that does not fit in the fields above
+        private Changes changes;
+
+        FixedToken(Pair<TokenSource, CharStream> source, int type, int line, int charPositionInLine, int start) {
+            this.source = source;
+            this.typeAndColumn = pack(type, charPositionInLine);
+            this.line = line;
+            this.start = start;
+        }
+
+        private static int pack(int type, int charPositionInLine) {
+            return charPositionInLine << TYPE_BITS | (type + 1);
+        }
+
+        @Override
+        public String getText() {
+            if (changes != null && changes.text != null)
+                return changes.text;
+            return getSourceText();
+        }
+
+        //the text the token has in the input
+        String getSourceText() {
+            if (changes != null && changes.sourceText != null)
+                return changes.sourceText;
+            return LITERALS[getType() + 1];
+        }
+
+        //called before the type changes
+        void keepSourceText() {
+            if (changes == null || changes.sourceText == null)
+                changes().sourceText = getSourceText();
+        }
+
+        private Changes changes() {
+            if (changes == null)
+                changes = new Changes();
+            return changes;
+        }
+
+        @Override
+        public int getType() {
+            if (changes != null && changes.unpacked)
+                return changes.type;
+            return (typeAndColumn & ((1 << TYPE_BITS) - 1)) - 1;
+        }
+
+        @Override
+        public int getLine() {
+            return line;
+        }
+
+        @Override
+        public int getCharPositionInLine() {
+            if (changes != null && changes.unpacked)
+                return changes.charPositionInLine;
+            return typeAndColumn >>> TYPE_BITS;
+        }
+
+        @Override
+        public int getChannel() {
+            return changes == null ? Token.DEFAULT_CHANNEL : changes.channel;
+        }
+
+        @Override
+        public int getTokenIndex() {
+            return index;
+        }
+
+        @Override
+        public int getStartIndex() {
+            return start;
+        }
+
+        @Override
+        public int getStopIndex() {
+            return start + getSourceText().length() - 1;
+        }
+
+        @Override
+        public TokenSource getTokenSource() {
+            return source.a;
+        }
+
+        @Override
+        public CharStream getInputStream() {
+            return source.b;
+        }
+
+        @Override
+        public void setText(String text) {
+            changes().text = text;
+        }
+
+        @Override
+        public void setType(int type) {
+            if (type != getType())
+                keepSourceText();
+            set(type, getCharPositionInLine());
+        }
+
+        @Override
+        public void setLine(int line) {
+            this.line = line;
+        }
+
+        @Override
+        public void setCharPositionInLine(int pos) {
+            set(getType(), pos);
+        }
+
+        private void set(int type, int charPositionInLine) {
+            if (type >= Token.EOF && type + 1 < 1 << TYPE_BITS && charPositionInLine >= 0 && charPositionInLine <= MAX_COLUMN) {
+                typeAndColumn = pack(type, charPositionInLine);
+                if (changes != null)
+                    changes.unpacked = false;
+                return;
+            }
+            Changes changes = changes();
+            changes.unpacked = true;
+            changes.type = type;
+            changes.charPositionInLine = charPositionInLine;
+        }
+
+        @Override
+        public void setChannel(int channel) {
+            changes().channel = channel;
+        }
+
+        @Override
+        public void setTokenIndex(int index) {
+            this.index = index;
+        }
+
+        //as CommonToken prints itself
+        @Override
+        public String toString() {
+            String text = getText();
+            text = text == null ? "<no text>" : text.replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t");
+            String channel = getChannel() > 0 ? ",channel=" + getChannel() : "";
+            return "[@" + getTokenIndex() + "," + getStartIndex() + ":" + getStopIndex() + "='" + text + "',<" + getType()
+                    + ">" + channel + "," + getLine() + ":" + getCharPositionInLine() + "]";
+        }
+    }
+
+    private static class VariableToken extends FixedToken {
+        private final int stop;
+
+        VariableToken(Pair<TokenSource, CharStream> source, int type, int line, int charPositionInLine, int start, int stop) {
+            super(source, type, line, charPositionInLine, start);
+            this.stop = stop;
+        }
+
+        //the text of the input, or <EOF> past its end, as CommonToken.getText
+        @Override
+        String getSourceText() {
+            CharStream input = getInputStream();
+            if (input == null)
+                return null;
+            int size = input.size();
+            if (getStartIndex() >= size || stop >= size)
+                return "<EOF>";
+            return input.getText(Interval.of(getStartIndex(), stop));
+        }
+
+        //the stop index keeps the text
+        @Override
+        void keepSourceText() {
+        }
+
+        @Override
+        public int getStopIndex() {
+            return stop;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package main.parse;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.LexerNoViableAltException;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.antlr.v4.runtime.atn.ATN;
+import parsers.CmmLexer;
+
+//Hand-written scanner for the lexer rules of Cmm.g4, a drop-in replacement for CmmLexer.
+//It produces the same tokens (types, positions, channels) and reports the same token recognition
+//errors to the same error listeners, following ANTLR's rules: the longest match wins, and of two
+//matches of the same length the rule defined first, so keywords win over IDENTIFIER, '0' is an
+//INT_VALUE of its own and an unterminated /* is DIVIDE followed by MULT.
+//Tokens are created by a CmmTokenFactory, which keeps no text for them.
+//LexerDifferential checks that both lexers agree on any input.
+public class FastCmmLexer extends Lexer {
+    private static final String[] KEYWORDS = {
+            "main", "return", "void", "size", "display", "append", "if", "else", "true", "false",
+            "begin", "end", "int", "bool", "list", "struct", "fptr", "get", "set", "while", "do"};
+    private static final int[] KEYWORD_TYPES = {
+            CmmLexer.MAIN, CmmLexer.RETURN, CmmLexer.VOID, CmmLexer.SIZE, CmmLexer.DISPLAY, CmmLexer.APPEND,
+            CmmLexer.IF, CmmLexer.ELSE, CmmLexer.TRUE, CmmLexer.FALSE, CmmLexer.BEGIN, CmmLexer.END,
+            CmmLexer.INT, CmmLexer.BOOL, CmmLexer.LIST, CmmLexer.STRUCT, CmmLexer.FPTR, CmmLexer.GET,
+            CmmLexer.SET, CmmLexer.WHILE, CmmLexer.DO};
+    private static final int MAX_KEYWORD_LENGTH = 7;
+
+    private final char[] word = new char[MAX_KEYWORD_LENGTH];
+    private int line = 1;
+    private int charPositionInLine = 0;
+
+    public FastCmmLexer(CharStream input) {
+        super(input);
+        setTokenFactory(new CmmTokenFactory());
+    }
+
+    @Override
+    public Token nextToken() {
+        CharStream input = _input;
+        while (true) {
+            _tokenStartCharIndex = input.index();
+            _tokenStartLine = line;
+            _tokenStartCharPositionInLine = charPositionInLine;
+            int c = input.LA(1);
+            int type;
+            switch (c) {
+                case IntStream.EOF:
+                    _hitEOF = true;
+                    return emitEOF();
+                case ' ': case '\t': case '\r':
+                    consume(input, 1);
+                    continue;
+                case '\n':
+                    consume(input, 1);
+                    type = CmmLexer.NEWLINE;
+                    break;
+                case '/':
+                    if (input.LA(2) == '*') {
+                        int length = commentLength(input);
+                        if (length > 0) {
+                            consume(input, length);
+                            continue;
+                        }
+                    }
+                    consume(input, 1);
+                    type = CmmLexer.DIVIDE;
+                    break;
+                case '=':
+                    type = oneOrTwo(input, CmmLexer.ASSIGN, '=', CmmLexer.EQUAL);
+                    break;
+                case '-':
+                    type = oneOrTwo(input, CmmLexer.MINUS, '>', CmmLexer.ARROW);
+                    break;
+                case '+': type = consumeOne(input, CmmLexer.PLUS); break;
+                case '*': type = consumeOne(input, CmmLexer.MULT); break;
+                case '>': type = consumeOne(input, CmmLexer.GREATER_THAN); break;
+                case '<': type = consumeOne(input, CmmLexer.LESS_THAN); break;
+                case '&': type = consumeOne(input, CmmLexer.AND); break;
+                case '|': type = consumeOne(input, CmmLexer.OR); break;
+                case '~': type = consumeOne(input, CmmLexer.NOT); break;
+                case '#': type = consumeOne(input, CmmLexer.SHARP); break;
+                case '(': type = consumeOne(input, CmmLexer.LPAR); break;
+                case ')': type = consumeOne(input, CmmLexer.RPAR); break;
+                case '[': type = consumeOne(input, CmmLexer.LBRACK); break;
+                case ']': type = consumeOne(input, CmmLexer.RBRACK); break;
+                case ',': type = consumeOne(input, CmmLexer.COMMA); break;
+                case '.': type = consumeOne(input, CmmLexer.DOT); break;
+                case ';': type = consumeOne(input, CmmLexer.SEMICOLON); break;
+                case '0': type = consumeOne(input, CmmLexer.INT_VALUE); break;
+                default:
+                    if (c >= '1' && c <= '9') {
+                        int length = 1;
+                        while (isDigit(input.LA(length + 1)))
+                            length++;
+                        consume(input, length);
+                        type = CmmLexer.INT_VALUE;
+                    }
+                    else if (isIdentifierStart(c))
+                        type = identifierOrKeyword(input);
+                    else {
+                        notifyListeners(new LexerNoViableAltException(this, input, _tokenStartCharIndex, null));
+                        consume(input, 1);
+                        continue;
+                    }
+            }
+            Token token = _factory.create(_tokenFactorySourcePair, type, null, Token.DEFAULT_CHANNEL,
+                    _tokenStartCharIndex, input.index() - 1, _tokenStartLine, _tokenStartCharPositionInLine);
+            _token = token;
+            return token;
+        }
+    }
+
+    private int consumeOne(CharStream input, int type) {
+        consume(input, 1);
+        return type;
+    }
+
+    //the one-character token, or the two-character one when its second character follows
+    private int oneOrTwo(CharStream input, int type, int second, int longType) {
+        if (input.LA(2) == second) {
+            consume(input, 2);
+            return longType;
+        }
+        consume(input, 1);
+        return type;
+    }
+
+    //length of the comment starting at the current /*, or 0 when it is not terminated
+    private static int commentLength(CharStream input) {
+        for (int i = 3; ; i++) {
+            int c = input.LA(i);
+            if (c == IntStream.EOF)
+                return 0;
+            if (c == '*' && input.LA(i + 1) == '/')
+                return i + 1;
+        }
+    }
+
+    private int identifierOrKeyword(CharStream input) {
+        int length = 0;
+        int c = input.LA(1);
+        do {
+            if (length < MAX_KEYWORD_LENGTH)
+                word[length] = (char) c;
+            length++;
+            c = input.LA(length + 1);
+        } while (isIdentifierStart(c) || isDigit(c));
+        consume(input, length);
+        if (length <= MAX_KEYWORD_LENGTH) {
+            for (int k = 0; k < KEYWORDS.length; k++) {
+                if (matches(KEYWORDS[k], length))
+                    return KEYWORD_TYPES[k];
+            }
+        }
+        return CmmLexer.IDENTIFIER;
+    }
+
+    private boolean matches(String keyword, int length) {
+        if (keyword.length() != length || keyword.charAt(0) != word[0])
+            return false;
+        for (int i = 1; i < length; i++) {
+            if (keyword.charAt(i) != word[i])
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierStart(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private void consume(CharStream input, int count) {
+        for (int i = 0; i < count; i++) {
+            if (input.LA(1) == '\n') {
+                line++;
+                charPositionInLine = 0;
+            }
+            else
+                charPositionInLine++;
+            input.consume();
+        }
+    }
+
+    @Override
+    public void reset() {
+        if (_input != null)
+            _input.seek(0);
+        _token = null;
+        _hitEOF = false;
+        line = 1;
+        charPositionInLine = 0;
+    }
+
+    @Override
+    public int getLine() {
+        return line;
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        return charPositionInLine;
+    }
+
+    @Override
+    public void setLine(int line) {
+        this.line = line;
+    }
+
+    @Override
+    public void setCharPositionInLine(int charPositionInLine) {
+        this.charPositionInLine = charPositionInLine;
+    }
+
+    @Override
+    public String getGrammarFileName() {
+        return "Cmm.g4";
+    }
+
+    @Override
+    public String[] getRuleNames() {
+        return CmmLexer.ruleNames;
+    }
+
+    @Override
+    public String[] getChannelNames() {
+        return CmmLexer.channelNames;
+    }
+
+    @Override
+    public String[] getModeNames() {
+        return CmmLexer.modeNames;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public String[] getTokenNames() {
+        return CmmLexer.tokenNames;
+    }
+
+    @Override
+    public Vocabulary getVocabulary() {
+        return CmmLexer.VOCABULARY;
+    }
+
+    @Override
+    public ATN getATN() {
+        return CmmLexer._ATN;
+    }
+}
@@ -0,0 +1,324 @@
+package main.parse;
+
+import main.CompilationContext;
+import main.ast.nodes.Node;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.declaration.struct.StructDeclaration;
+import main.ast.nodes.expression.Identifier;
+import main.ast.nodes.statement.BlockStmt;
+import main.ast.nodes.statement.SetGetVarDeclaration;
+import main.ast.nodes.statement.Statement;
+import main.compileError.CompileError;
+import main.instrumentation.DecisionProfile;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//Keeps the text of a source being edited together with its Program, for editors.
+//The text is cut into pieces, one per top-level declaration as ParallelParser cuts it, each running up to
+//the start of the next one. An edit inside one piece re-lexes and re-parses only that piece; the nodes of
+//the other declarations are kept as they are. Those after an edit that added or removed lines keep their
+//lines too, the Program has a line shift for them instead (see ErrorReporter). While a piece is not exactly
+//one declaration of its kind, and after an edit across pieces, the whole text is parsed instead, which
+//collects the syntax errors as CmmCompiler would; once the broken piece parses again, editing is
+//incremental again.
+//NameAnalyser renames duplicate structs, functions and set/get variables in place; every edit puts the
+//names back before handing out its Program, so each Program may be analysed until the next edit.
+public class IncrementalParser {
+    private final StringBuilder text;
+    private final String sourceName;
+    private DecisionProfile decisionProfile;
+    private Program program;
+    private List<CompileError> syntaxErrors = new ArrayList<>();
+    private List<Piece> pieces;
+    private int brokenPieces;
+    private boolean fullReparse;
+
+    private static class Piece {
+        final int kind;
+        int start;
+        int end;
+        int line;
+        //null while the text of the piece is not a declaration of its kind
+        Node declaration;
+        //what edits before the piece added to the lines of the declaration since it was parsed
+        int lineShift;
+        //the names the parser gave the declaration and its set/get variables
+        Identifier name;
+        List<SetGetVarDeclaration> setGets;
+        List<Identifier> setGetNames;
+
+        Piece(int kind, int start, int line, Node declaration) {
+            this.kind = kind;
+            this.start = start;
+            this.line = line;
+            setDeclaration(declaration);
+        }
+
+        void setDeclaration(Node declaration) {
+            this.declaration = declaration;
+            lineShift = 0;
+            setGets = null;
+            if (declaration instanceof StructDeclaration) {
+                StructDeclaration structDeclaration = (StructDeclaration) declaration;
+                name = structDeclaration.getStructName();
+                Statement body = structDeclaration.getBody();
+                List<Statement> statements = body instanceof BlockStmt ? ((BlockStmt) body).getStatements()
+                        : body == null ? List.of() : List.of(body);
+                for (Statement statement : statements) {
+                    if (statement instanceof SetGetVarDeclaration) {
+                        if (setGets == null) {
+                            setGets = new ArrayList<>();
+                            setGetNames = new ArrayList<>();
+                        }
+                        setGets.add((SetGetVarDeclaration) statement);
+                        setGetNames.add(((SetGetVarDeclaration) statement).getVarName());
+                    }
+                }
+            }
+            else if (declaration instanceof FunctionDeclaration)
+                name = ((FunctionDeclaration) declaration).getFunctionName();
+        }
+
+        //undoes the renames of an analysis
+        void restoreNames() {
+            if (declaration instanceof StructDeclaration)
+                ((StructDeclaration) declaration).setStructName(name);
+            else if (declaration instanceof FunctionDeclaration)
+                ((FunctionDeclaration) declaration).setFunctionName(name);
+            if (setGets != null) {
+                for (int i = 0; i < setGets.size(); i++)
+                    setGets.get(i).setVarName(setGetNames.get(i));
+            }
+        }
+    }
+
+    public IncrementalParser(String text, String sourceName) {
+        this.text = new StringBuilder(text);
+        this.sourceName = sourceName;
+        parseAll(false);
+    }
+
+    //an empty source without a Program; the first setText parses the whole text
+    public IncrementalParser(String sourceName) {
+        this.text = new StringBuilder();
+        this.sourceName = sourceName;
+    }
+
+    //the Program of the last edit; it shares the declarations the edit did not re-parse with those before
+    public Program getProgram() {
+        return program;
+    }
+
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    //when set, every parse is profiled per grammar decision into it
+    public DecisionProfile getDecisionProfile() {
+        return decisionProfile;
+    }
+    public void setDecisionProfile(DecisionProfile decisionProfile) {
+        this.decisionProfile = decisionProfile;
+    }
+
+    //the syntax errors of the text, in the order the lexer and the parser found them;
+    //the Program is null when error recovery left a tree the grammar actions could not build
+    public List<CompileError> getSyntaxErrors() {
+        return syntaxErrors;
+    }
+
+    public String getText() {
+        return text.toString();
+    }
+
+    //true when the last edit, or the constructor, parsed the whole text
+    public boolean isFullReparse() {
+        return fullReparse;
+    }
+
+    //replaces the text by a new version of it, as one edit of the chars between their common start and end
+    public Program setText(String newText) {
+        int common = Math.min(text.length(), newText.length());
+        int start = 0;
+        while (start < common && text.charAt(start) == newText.charAt(start))
+            start++;
+        int end = 0;
+        while (end < common - start && text.charAt(text.length() - 1 - end) == newText.charAt(newText.length() - 1 - end))
+            end++;
+        return edit(start, text.length() - end - start, newText.substring(start, newText.length() - end));
+    }
+
+    //replaces length chars of the text at offset and returns the Program of the new text
+    public Program edit(int offset, int length, String replacement) {
+        if (offset < 0 || length < 0 || offset + length > text.length())
+            throw new IndexOutOfBoundsException("edit of " + length + " at " + offset + " in text of " + text.length());
+        int lines = newlines(replacement) - newlines(text.subSequence(offset, offset + length));
+        text.replace(offset, offset + length, replacement);
+        int index = pieceOf(offset, offset + length);
+        if (index < 0)
+            parseAll(false);
+        else {
+            reparse(index, replacement.length() - length, lines);
+            if (brokenPieces == 0) {
+                fullReparse = false;
+                syntaxErrors = new ArrayList<>();
+                program = assemble();
+            }
+            else
+                parseAll(true);
+        }
+        return program;
+    }
+
+    //the piece holding all of [from, to) in the text before the edit, or -1
+    private int pieceOf(int from, int to) {
+        if (pieces == null)
+            return -1;
+        int low = 0;
+        int high = pieces.size() - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (pieces.get(middle).start <= from)
+                low = middle;
+            else
+                high = middle - 1;
+        }
+        return to <= pieces.get(low).end ? low : -1;
+    }
+
+    private void reparse(int index, int chars, int lines) {
+        Piece piece = pieces.get(index);
+        piece.end += chars;
+        for (Piece next : pieces.subList(index + 1, pieces.size())) {
+            next.start += chars;
+            next.end += chars;
+            next.line += lines;
+            next.lineShift += lines;
+        }
+
+        if (piece.declaration == null)
+            brokenPieces--;
+        piece.setDeclaration(null);
+        ErrorCounter errors = new ErrorCounter();
+        Lexer lexer = new FastCmmLexer(CharStreams.fromString(text.substring(piece.start, piece.end), sourceName));
+        lexer.setLine(piece.line);
+        lexer.setCharPositionInLine(piece.start - (text.lastIndexOf("\n", piece.start - 1) + 1));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errors);
+        CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+        tokenStream.fill();
+        if (errors.count == 0)
+            piece.setDeclaration((Node) ParallelParser.parseDeclaration(tokenStream, piece.kind, decisionProfile, sourceName));
+        if (piece.declaration == null)
+            brokenPieces++;
+    }
+
+    //keepPieces keeps the pieces, with the broken ones, when the text does not parse
+    private void parseAll(boolean keepPieces) {
+        fullReparse = true;
+        if (!keepPieces)
+            pieces = null;
+        String source = text.toString();
+        syntaxErrors = new ArrayList<>();
+        SyntaxErrorCollector errors = new SyntaxErrorCollector(new CompilationContext(), syntaxErrors, null, false);
+        Lexer lexer = new FastCmmLexer(CharStreams.fromString(source, sourceName));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errors);
+        CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+        tokenStream.fill();
+        TwoStageParser parser = new TwoStageParser(decisionProfile, sourceName);
+        parser.setErrorListener(errors);
+        try {
+            program = parser.parse(tokenStream);
+        } catch (RuntimeException e) {
+            //as in CmmCompiler, the syntax errors already say what is wrong with the source
+            if (errors.getCount() == 0)
+                throw e;
+            program = null;
+        }
+        if (errors.getCount() > 0 || parser.isFallback())
+            return;
+
+        pieces = null;
+        brokenPieces = 0;
+        List<Token> tokens = tokenStream.getTokens();
+        List<ParallelParser.Chunk> chunks = ParallelParser.split(tokens);
+        if (chunks == null || chunks.size() != program.getStructs().size() + program.getFunctions().size() + 1)
+            return;
+        List<Piece> cut = new ArrayList<>();
+        int structs = 0;
+        int functions = 0;
+        int codePoints = 0;
+        int start = 0;
+        for (ParallelParser.Chunk chunk : chunks) {
+            Node declaration;
+            if (chunk.kind == ParallelParser.STRUCT)
+                declaration = structs < program.getStructs().size() ? program.getStructs().get(structs++) : null;
+            else if (chunk.kind == ParallelParser.FUNCTION)
+                declaration = functions < program.getFunctions().size() ? program.getFunctions().get(functions++) : null;
+            else
+                declaration = program.getMain();
+            if (declaration == null)
+                return;
+            //token indexes count code points, the text counts chars
+            Token first = tokens.get(chunk.start);
+            if (cut.isEmpty())
+                cut.add(new Piece(chunk.kind, 0, 1, declaration));
+            else {
+                start = source.offsetByCodePoints(start, first.getStartIndex() - codePoints);
+                codePoints = first.getStartIndex();
+                cut.get(cut.size() - 1).end = start;
+                cut.add(new Piece(chunk.kind, start, first.getLine(), declaration));
+            }
+        }
+        cut.get(cut.size() - 1).end = source.length();
+        pieces = cut;
+    }
+
+    private Program assemble() {
+        Program assembled = new Program();
+        assembled.setLine(1);
+        for (Piece piece : pieces) {
+            Node declaration = piece.declaration;
+            piece.restoreNames();
+            if (piece.lineShift != 0)
+                assembled.setLineShift(declaration, piece.lineShift);
+            if (piece.kind == ParallelParser.STRUCT)
+                assembled.addStruct((StructDeclaration) declaration);
+            else if (piece.kind == ParallelParser.FUNCTION)
+                assembled.addFunction((FunctionDeclaration) declaration);
+            else
+                assembled.setMain((MainDeclaration) declaration);
+        }
+        return assembled;
+    }
+
+    private static int newlines(CharSequence chars) {
+        int count = 0;
+        for (int i = 0; i < chars.length(); i++) {
+            if (chars.charAt(i) == '\n')
+                count++;
+        }
+        return count;
+    }
+
+    private static class ErrorCounter extends BaseErrorListener {
+        int count = 0;
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                                String msg, RecognitionException e) {
+            count++;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package main.parse;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.declaration.struct.StructDeclaration;
+import main.instrumentation.DecisionProfile;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BufferedTokenStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import parsers.CmmLexer;
+import parsers.CmmSllParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+//Parses the top-level declarations of a large program concurrently. The filled token stream is cut
+//before every line that starts a struct, function or main at begin/end depth 0, and every piece is
+//parsed as a structDeclaration, functionDeclaration or main by its own CmmSllParser (SLL, bailing out).
+//The tokens are shared, so the lines of the AST are those of the file. Pieces in the wrong order, a piece
+//that does not parse, or one that leaves tokens over, hand the whole stream to the TwoStageParser,
+//which then reports the syntax errors exactly as before.
+public class ParallelParser {
+    //smaller token streams are not worth splitting
+    public static final int MIN_TOKENS = 20000;
+
+    static final int STRUCT = 0;
+    static final int FUNCTION = 1;
+    static final int MAIN = 2;
+
+    private final ForkJoinPool pool;
+    private final TwoStageParser twoStageParser;
+    private final DecisionProfile decisionProfile;
+    private final String sourceName;
+    private boolean split = false;
+
+    public ParallelParser(ForkJoinPool pool, DecisionProfile decisionProfile, String sourceName) {
+        this.pool = pool;
+        this.twoStageParser = new TwoStageParser(decisionProfile, sourceName);
+        this.decisionProfile = decisionProfile;
+        this.sourceName = sourceName;
+    }
+
+    //receives the syntax errors when the whole stream is parsed after all
+    public void setErrorListener(ANTLRErrorListener errorListener) {
+        twoStageParser.setErrorListener(errorListener);
+    }
+
+    //true when the last parse was done in pieces
+    public boolean isSplit() {
+        return split;
+    }
+
+    public Program parse(BufferedTokenStream tokenStream) {
+        split = false;
+        List<Token> tokens = tokenStream.getTokens();
+        List<Chunk> chunks = tokens.size() < MIN_TOKENS ? null : split(tokens);
+        if (chunks == null || chunks.size() < 2)
+            return twoStageParser.parse(tokenStream);
+
+        List<ForkJoinTask<Object>> tasks = new ArrayList<>();
+        for (Chunk chunk : chunks)
+            tasks.add(pool.submit(() -> parse(tokenStream.getTokenSource(), tokens, chunk)));
+        Program program = new Program();
+        program.setLine(1);
+        boolean failed = false;
+        for (int i = 0; i < chunks.size(); i++) {
+            Object declaration = tasks.get(i).join();
+            if (declaration == null)
+                failed = true;
+            else if (!failed) {
+                if (chunks.get(i).kind == STRUCT)
+                    program.addStruct((StructDeclaration) declaration);
+                else if (chunks.get(i).kind == FUNCTION)
+                    program.addFunction((FunctionDeclaration) declaration);
+                else
+                    program.setMain((MainDeclaration) declaration);
+            }
+        }
+        if (failed) {
+            tokenStream.seek(0);
+            return twoStageParser.parse(tokenStream);
+        }
+        split = true;
+        return program;
+    }
+
+    static class Chunk {
+        final int start;
+        final int stop;
+        final int kind;
+
+        Chunk(int start, int stop, int kind) {
+            this.start = start;
+            this.stop = stop;
+            this.kind = kind;
+        }
+    }
+
+    //The pieces in order, or null when they are not struct*, function*, main. A declaration whose header
+    //is not followed by begin has a single statement body, so the next line belongs to it; any other line
+    //that does not start a declaration stays in the current piece.
+    static List<Chunk> split(List<Token> tokens) {
+        List<Chunk> chunks = new ArrayList<>();
+        int depth = 0;
+        int start = -1;
+        int kind = STRUCT;
+        boolean inHeader = false;
+        boolean singleStatement = false;
+        boolean lineStart = true;
+        for (int i = 0; i < tokens.size(); i++) {
+            int type = tokens.get(i).getType();
+            if (type == Token.EOF)
+                break;
+            if (depth == 0 && lineStart && type != CmmLexer.NEWLINE) {
+                if (singleStatement)
+                    singleStatement = false;
+                else if (startsDeclaration(type)) {
+                    if (start >= 0)
+                        chunks.add(new Chunk(start, i, kind));
+                    int next = declarationKind(tokens, i);
+                    if (next < kind || kind == MAIN && start >= 0)
+                        return null;
+                    start = i;
+                    kind = next;
+                    inHeader = true;
+                }
+                else if (start < 0)
+                    return null;
+            }
+            if (type == CmmLexer.BEGIN) {
+                depth++;
+                inHeader = false;
+            }
+            else if (type == CmmLexer.END)
+                depth--;
+            else if (type == CmmLexer.NEWLINE && depth == 0 && inHeader) {
+                singleStatement = true;
+                inHeader = false;
+            }
+            lineStart = type == CmmLexer.NEWLINE;
+        }
+        if (start < 0 || kind != MAIN)
+            return null;
+        int stop = tokens.size();
+        if (tokens.get(stop - 1).getType() == Token.EOF)
+            stop--;
+        chunks.add(new Chunk(start, stop, kind));
+        return chunks;
+    }
+
+    private static boolean startsDeclaration(int type) {
+        return type == CmmLexer.STRUCT || type == CmmLexer.INT || type == CmmLexer.BOOL || type == CmmLexer.LIST
+                || type == CmmLexer.FPTR || type == CmmLexer.VOID || type == CmmLexer.MAIN;
+    }
+
+    //struct S begin or struct S on its own line declares a struct, struct S f() is a function returning one
+    private static int declarationKind(List<Token> tokens, int i) {
+        int type = tokens.get(i).getType();
+        if (type == CmmLexer.MAIN)
+            return MAIN;
+        if (type == CmmLexer.STRUCT && i + 2 < tokens.size() && tokens.get(i + 1).getType() == CmmLexer.IDENTIFIER) {
+            int next = tokens.get(i + 2).getType();
+            if (next == CmmLexer.BEGIN || next == CmmLexer.NEWLINE)
+                return STRUCT;
+        }
+        return FUNCTION;
+    }
+
+    private Object parse(TokenSource tokenSource, List<Token> tokens, Chunk chunk) {
+        return parseDeclaration(new ChunkTokenStream(tokenSource, tokens.subList(chunk.start, chunk.stop)), chunk.kind,
+                decisionProfile, sourceName);
+    }
+
+    //The declaration of the given kind, or null when the tokens are not exactly one such declaration.
+    //Newlines around it belong to the NEWLINE+ separating it from its neighbours and are skipped.
+    static Object parseDeclaration(TokenStream tokenStream, int kind, DecisionProfile decisionProfile, String sourceName) {
+        CmmSllParser parser = new CmmSllParser(tokenStream);
+        parser.setBuildParseTree(false);
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.removeErrorListeners();
+        parser.setProfile(decisionProfile != null);
+        try {
+            while (parser.getCurrentToken().getType() == CmmLexer.NEWLINE)
+                parser.consume();
+            Object declaration;
+            if (kind == STRUCT)
+                declaration = parser.structDeclaration().structDeclarationRet;
+            else if (kind == FUNCTION)
+                declaration = parser.functionDeclaration().functionDeclarationRet;
+            else
+                declaration = parser.main().mainRet;
+            while (parser.getCurrentToken().getType() == CmmLexer.NEWLINE)
+                parser.consume();
+            return parser.getCurrentToken().getType() == Token.EOF ? declaration : null;
+        } catch (RuntimeException e) {
+            return null;
+        } finally {
+            if (decisionProfile != null)
+                decisionProfile.add(parser, sourceName);
+        }
+    }
+
+    //Some of the tokens of a filled stream followed by an EOF. Unlike a ListTokenSource it does not
+    //renumber the tokens, which are still those of the whole stream.
+    private static class ChunkTokenStream extends CommonTokenStream {
+        ChunkTokenStream(TokenSource tokenSource, List<Token> chunk) {
+            super(tokenSource);
+            tokens.addAll(chunk);
+            Token last = chunk.get(chunk.size() - 1);
+            CommonToken eof = new CommonToken(Token.EOF, "<EOF>");
+            eof.setLine(last.getLine());
+            eof.setStartIndex(last.getStopIndex() + 1);
+            eof.setStopIndex(last.getStopIndex());
+            tokens.add(eof);
+            fetchedEOF = true;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package main.parse;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+//Lexers, token streams and parsers kept by a long-running compiler and reset for every source, instead of
+//being constructed for each one. Any number of threads may acquire and release them. All parsers of a
+//class share one prediction DFA anyway, see PredictionCache for warming, saving and restoring it.
+public class ParserPool {
+    private final ConcurrentLinkedQueue<Parsers> free = new ConcurrentLinkedQueue<>();
+
+    public static class Parsers {
+        private final FastCmmLexer lexer = new FastCmmLexer(null);
+        private final ArrayTokenStream tokenStream = new ArrayTokenStream(null);
+        private final TwoStageParser parser = new TwoStageParser();
+
+        //the filled token stream of the input; the lexer and the parser report syntax errors to errorListener
+        public ArrayTokenStream lex(CharStream input, ANTLRErrorListener errorListener) {
+            lexer.removeErrorListeners();
+            lexer.addErrorListener(errorListener);
+            parser.setErrorListener(errorListener);
+            lexer.setInputStream(input);
+            tokenStream.setTokenSource(lexer);
+            return tokenStream;
+        }
+
+        public TwoStageParser getParser() {
+            return parser;
+        }
+
+        //drops the input and the tokens, which may be large, while the instances wait in the pool
+        private void clear() {
+            parser.release();
+            parser.setErrorListener(ConsoleErrorListener.INSTANCE);
+            lexer.removeErrorListeners();
+            lexer.setInputStream(null);
+            tokenStream.setTokenSource(null);
+        }
+    }
+
+    public Parsers acquire() {
+        Parsers parsers = free.poll();
+        return parsers == null ? new Parsers() : parsers;
+    }
+
+    public void release(Parsers parsers) {
+        parsers.clear();
+        free.offer(parsers);
+    }
+}
@@ -0,0 +1,391 @@
+package main.parse;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ATNConfig;
+import org.antlr.v4.runtime.atn.ATNConfigSet;
+import org.antlr.v4.runtime.atn.ATNSimulator;
+import org.antlr.v4.runtime.atn.ArrayPredictionContext;
+import org.antlr.v4.runtime.atn.PredictionContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.atn.SemanticContext;
+import org.antlr.v4.runtime.atn.SingletonPredictionContext;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+import parsers.CmmParser;
+import parsers.CmmSllParser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+//The prediction DFAs of CmmSllParser and CmmParser, which every instance of the parser class shares and
+//fills while parsing, so a new process predicts slowly until it has seen most of the grammar.
+//warmUp fills them by parsing a corpus, save writes them to a file and load puts them back in a later
+//process. A file is only loaded into DFAs that are still empty, and only by parsers of the exact grammar
+//(the SHA-256 of the serialized ATN) it was saved from; states with predicates are not saved.
+public class PredictionCache {
+    private static final int MAGIC = 0x434d4d44;
+    private static final int FORMAT_VERSION = 1;
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int ERROR_STATE = -1;
+    private static final long[] CORPUS_SEEDS = {1, 2};
+    private static final int CORPUS_SCALE = 10;
+
+    private static final byte EMPTY_CONTEXT = 0;
+    private static final byte SINGLETON_CONTEXT = 1;
+    private static final byte ARRAY_CONTEXT = 2;
+
+    //the generated programs parsed by warmUp when no sources are given; between them they reach every statement
+    //and expression kind of the grammar
+    public static List<String> bundledCorpus() {
+        List<String> corpus = new ArrayList<>();
+        for (long seed : CORPUS_SEEDS)
+            corpus.add(ProgramGenerator.scaled(seed, CORPUS_SCALE));
+        return corpus;
+    }
+
+    //parses every source with both stages of the TwoStageParser, reporting nothing
+    public static void warmUp(List<String> sources) {
+        for (String source : sources) {
+            Lexer lexer = new FastCmmLexer(CharStreams.fromString(source));
+            lexer.removeErrorListeners();
+            CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+            tokenStream.fill();
+
+            CmmSllParser sllParser = new CmmSllParser(tokenStream);
+            sllParser.setBuildParseTree(false);
+            sllParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            sllParser.setErrorHandler(new BailErrorStrategy());
+            sllParser.removeErrorListeners();
+            try {
+                sllParser.cmm();
+            } catch (RuntimeException e) {
+                //a syntax error, or a grammar action failing on the partial tree
+            }
+
+            tokenStream.seek(0);
+            CmmParser cmmParser = new CmmParser(tokenStream);
+            cmmParser.setBuildParseTree(false);
+            cmmParser.removeErrorListeners();
+            try {
+                cmmParser.cmm();
+            } catch (RuntimeException e) {
+                //as above
+            }
+        }
+    }
+
+    //the number of DFA states of both parsers
+    public static int size() {
+        int size = 0;
+        for (Parser parser : parsers()) {
+            for (DFA dfa : parser.getInterpreter().decisionToDFA)
+                size += dfa.states.size();
+        }
+        return size;
+    }
+
+    private static Parser[] parsers() {
+        return new Parser[]{new CmmSllParser(null), new CmmParser(null)};
+    }
+
+    //writes the DFAs to a temporary file that is then moved over path, so readers never see a partial file
+    public static void save(Path path) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), TEMP_SUFFIX);
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                for (Parser parser : parsers())
+                    write(out, parser);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    //Restores the DFAs saved in path. False when there is no such file or it was saved from another
+    //grammar; a file that cannot be read is an IOException. Nothing is installed unless all of it reads.
+    public static boolean load(Path path) throws IOException {
+        Parser[] parsers = parsers();
+        List<DFAState[][]> states = new ArrayList<>();
+        List<int[]> starts = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION)
+                return false;
+            for (Parser parser : parsers) {
+                byte[] fingerprint = new byte[32];
+                in.readFully(fingerprint);
+                if (!Arrays.equals(fingerprint, fingerprint(parser)))
+                    return false;
+                DFA[] decisionToDFA = parser.getInterpreter().decisionToDFA;
+                DFAState[][] decisionStates = new DFAState[decisionToDFA.length][];
+                int[] decisionStarts = new int[decisionToDFA.length];
+                read(in, parser.getATN(), decisionStates, decisionStarts);
+                states.add(decisionStates);
+                starts.add(decisionStarts);
+            }
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+
+        for (int p = 0; p < parsers.length; p++) {
+            DFA[] decisionToDFA = parsers[p].getInterpreter().decisionToDFA;
+            for (int d = 0; d < decisionToDFA.length; d++)
+                install(decisionToDFA[d], states.get(p)[d], starts.get(p)[d]);
+        }
+        return true;
+    }
+
+    private static void install(DFA dfa, DFAState[] states, int start) {
+        if (states.length == 0)
+            return;
+        synchronized (dfa.states) {
+            if (!dfa.states.isEmpty() || dfa.s0 != null)
+                return;
+            for (DFAState state : states)
+                dfa.states.put(state, state);
+            if (start >= 0)
+                dfa.s0 = states[start];
+        }
+    }
+
+    private static byte[] fingerprint(Parser parser) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(parser.getSerializedATN().getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void write(DataOutputStream out, Parser parser) throws IOException {
+        out.write(fingerprint(parser));
+        DFA[] decisionToDFA = parser.getInterpreter().decisionToDFA;
+        List<List<DFAState>> decisionStates = new ArrayList<>();
+        Map<PredictionContext, Integer> contexts = new IdentityHashMap<>();
+        List<PredictionContext> contextOrder = new ArrayList<>();
+        for (DFA dfa : decisionToDFA) {
+            List<DFAState> states = new ArrayList<>();
+            if (!dfa.isPrecedenceDfa()) {
+                synchronized (dfa.states) {
+                    for (DFAState state : dfa.states.values()) {
+                        if (isSaved(state))
+                            states.add(state);
+                    }
+                }
+            }
+            for (DFAState state : states) {
+                for (ATNConfig config : state.configs)
+                    number(config.context, contexts, contextOrder);
+            }
+            decisionStates.add(states);
+        }
+
+        out.writeInt(contextOrder.size());
+        for (PredictionContext context : contextOrder) {
+            if (context.isEmpty())
+                out.writeByte(EMPTY_CONTEXT);
+            else if (context instanceof SingletonPredictionContext) {
+                out.writeByte(SINGLETON_CONTEXT);
+                out.writeInt(contexts.get(context.getParent(0)));
+                out.writeInt(context.getReturnState(0));
+            }
+            else {
+                out.writeByte(ARRAY_CONTEXT);
+                out.writeInt(context.size());
+                for (int i = 0; i < context.size(); i++) {
+                    PredictionContext parent = context.getParent(i);
+                    out.writeInt(parent == null ? -1 : contexts.get(parent));
+                    out.writeInt(context.getReturnState(i));
+                }
+            }
+        }
+
+        out.writeInt(decisionToDFA.length);
+        for (int d = 0; d < decisionToDFA.length; d++) {
+            List<DFAState> states = decisionStates.get(d);
+            Map<DFAState, Integer> numbers = new IdentityHashMap<>();
+            for (DFAState state : states)
+                numbers.put(state, numbers.size());
+            out.writeInt(states.size());
+            for (DFAState state : states) {
+                out.writeInt(state.configs.size());
+                for (ATNConfig config : state.configs) {
+                    out.writeInt(config.state.stateNumber);
+                    out.writeInt(config.alt);
+                    out.writeInt(contexts.get(config.context));
+                    out.writeInt(config.reachesIntoOuterContext);
+                }
+                out.writeInt(state.configs.uniqueAlt);
+                out.writeBoolean(state.configs.dipsIntoOuterContext);
+                out.writeBoolean(state.isAcceptState);
+                out.writeInt(state.prediction);
+                out.writeBoolean(state.requiresFullContext);
+            }
+            for (DFAState state : states) {
+                DFAState[] edges = state.edges;
+                int count = 0;
+                for (int t = 0; edges != null && t < edges.length; t++) {
+                    if (edges[t] == ATNSimulator.ERROR || numbers.containsKey(edges[t]))
+                        count++;
+                }
+                out.writeInt(edges == null ? 0 : edges.length);
+                out.writeInt(count);
+                for (int t = 0; edges != null && t < edges.length; t++) {
+                    if (edges[t] == ATNSimulator.ERROR || numbers.containsKey(edges[t])) {
+                        out.writeInt(t);
+                        out.writeInt(edges[t] == ATNSimulator.ERROR ? ERROR_STATE : numbers.get(edges[t]));
+                    }
+                }
+            }
+            DFAState s0 = decisionToDFA[d].s0;
+            out.writeInt(s0 != null && numbers.containsKey(s0) ? numbers.get(s0) : -1);
+        }
+    }
+
+    //states needing predicates are evaluated against the parser, they are left to be computed again
+    private static boolean isSaved(DFAState state) {
+        if (state.predicates != null || state.configs.hasSemanticContext)
+            return false;
+        for (ATNConfig config : state.configs) {
+            if (config.semanticContext != SemanticContext.NONE)
+                return false;
+        }
+        return true;
+    }
+
+    //numbers the context after its parents, so that reading can build them in order
+    private static void number(PredictionContext context, Map<PredictionContext, Integer> contexts,
+                               List<PredictionContext> contextOrder) {
+        if (context == null || contexts.containsKey(context))
+            return;
+        for (int i = 0; i < context.size(); i++)
+            number(context.getParent(i), contexts, contextOrder);
+        contexts.put(context, contextOrder.size());
+        contextOrder.add(context);
+    }
+
+    private static void read(DataInputStream in, ATN atn, DFAState[][] decisionStates, int[] decisionStarts) throws IOException {
+        PredictionContext[] contexts = new PredictionContext[in.readInt()];
+        for (int c = 0; c < contexts.length; c++) {
+            byte kind = in.readByte();
+            if (kind == EMPTY_CONTEXT)
+                contexts[c] = PredictionContext.EMPTY;
+            else if (kind == SINGLETON_CONTEXT)
+                contexts[c] = SingletonPredictionContext.create(context(contexts, in.readInt(), c), in.readInt());
+            else if (kind == ARRAY_CONTEXT) {
+                int size = in.readInt();
+                PredictionContext[] parents = new PredictionContext[size];
+                int[] returnStates = new int[size];
+                for (int i = 0; i < size; i++) {
+                    int parent = in.readInt();
+                    parents[i] = parent == -1 ? null : context(contexts, parent, c);
+                    returnStates[i] = in.readInt();
+                }
+                contexts[c] = new ArrayPredictionContext(parents, returnStates);
+            }
+            else
+                throw new IOException("unknown prediction context kind " + kind);
+        }
+
+        if (in.readInt() != decisionStates.length)
+            throw new IOException("wrong number of decisions");
+        for (int d = 0; d < decisionStates.length; d++) {
+            DFAState[] states = new DFAState[in.readInt()];
+            for (int s = 0; s < states.length; s++) {
+                int size = in.readInt();
+                List<ATNConfig> configs = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    int stateNumber = in.readInt();
+                    if (stateNumber < 0 || stateNumber >= atn.states.size())
+                        throw new IOException("unknown ATN state " + stateNumber);
+                    ATNConfig config = new ATNConfig(atn.states.get(stateNumber), in.readInt(),
+                            context(contexts, in.readInt(), contexts.length), SemanticContext.NONE);
+                    config.reachesIntoOuterContext = in.readInt();
+                    configs.add(config);
+                }
+                int uniqueAlt = in.readInt();
+                boolean dipsIntoOuterContext = in.readBoolean();
+                DFAState state = new DFAState(new RestoredConfigSet(configs, uniqueAlt, dipsIntoOuterContext));
+                state.stateNumber = s;
+                state.isAcceptState = in.readBoolean();
+                state.prediction = in.readInt();
+                state.requiresFullContext = in.readBoolean();
+                if (state.requiresFullContext)
+                    ((RestoredConfigSet) state.configs).setConflictingAlts();
+                state.configs.setReadonly(true);
+                states[s] = state;
+            }
+            for (DFAState state : states) {
+                int length = in.readInt();
+                int count = in.readInt();
+                if (length == 0)
+                    continue;
+                if (length != atn.maxTokenType + 2)
+                    throw new IOException("wrong number of DFA edges");
+                state.edges = new DFAState[length];
+                for (int i = 0; i < count; i++) {
+                    int t = in.readInt();
+                    int target = in.readInt();
+                    if (t < 0 || t >= length || target < ERROR_STATE || target >= states.length)
+                        throw new IOException("DFA edge out of range");
+                    state.edges[t] = target == ERROR_STATE ? ATNSimulator.ERROR : states[target];
+                }
+            }
+            int start = in.readInt();
+            if (start < -1 || start >= states.length)
+                throw new IOException("DFA start state out of range");
+            decisionStates[d] = states;
+            decisionStarts[d] = start;
+        }
+    }
+
+    private static PredictionContext context(PredictionContext[] contexts, int index, int limit) throws IOException {
+        if (index < 0 || index >= limit)
+            throw new IOException("prediction context out of range");
+        return contexts[index];
+    }
+
+    //conflictingAlts is only visible to subclasses; it is recomputed the way ParserATNSimulator sets it
+    //on a state that requires full context
+    private static class RestoredConfigSet extends ATNConfigSet {
+        RestoredConfigSet(List<ATNConfig> configs, int uniqueAlt, boolean dipsIntoOuterContext) {
+            super(false);
+            for (ATNConfig config : configs)
+                add(config);
+            this.uniqueAlt = uniqueAlt;
+            this.dipsIntoOuterContext = dipsIntoOuterContext;
+        }
+
+        void setConflictingAlts() {
+            conflictingAlts = PredictionMode.getAlts(PredictionMode.getConflictingAltSubsets(this));
+        }
+    }
+}
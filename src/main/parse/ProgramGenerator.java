@@ -0,0 +1,632 @@
+package main.parse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+//Generates Cmm programs from the constructs of Cmm.g4: structs with plain and set/get members,
+//functions with int, bool, list, struct and fptr arguments, nested if/while/do-while blocks,
+//list append/size/index, struct access and calls through fptr variables.
+//The same seed and settings always give the same program. With an error rate above zero,
+//that fraction of statements is replaced by a statement with a type error.
+//It lives with the parser because PredictionCache warms the parsers up on its programs.
+//usage: ProgramGenerator [-seed n] [-structs n] [-members n] [-setget n] [-functions n]
+//                        [-statements n] [-depth n] [-errors rate] [-o file]
+public class ProgramGenerator {
+    private long seed = 1;
+    private int structs = 4;
+    private int members = 4;
+    private int setGetMembers = 1;
+    private int functions = 8;
+    private int statements = 10;
+    private int depth = 2;
+    private double errorRate = 0;
+
+    private Random random;
+    private StringBuilder out;
+    private int indent;
+    private int nameCounter;
+    private final List<StructInfo> structInfos = new ArrayList<>();
+    private final List<FunctionInfo> functionInfos = new ArrayList<>();
+    private final List<List<Var>> scopes = new ArrayList<>();
+
+    private static class Var {
+        final String name;
+        final String type;
+
+        Var(String name, String type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+
+    private static class StructInfo {
+        final String name;
+        final List<Var> members = new ArrayList<>();
+        final List<Var> setGetMembers = new ArrayList<>();
+
+        StructInfo(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class FunctionInfo {
+        final String name;
+        final String returnType;
+        final List<Var> args = new ArrayList<>();
+
+        FunctionInfo(String name, String returnType) {
+            this.name = name;
+            this.returnType = returnType;
+        }
+
+        String fptrType() {
+            StringBuilder type = new StringBuilder("fptr<");
+            for (int i = 0; i < args.size(); i++)
+                type.append(i == 0 ? "" : ", ").append(args.get(i).type);
+            return type.append(" -> ").append(returnType).append(">").toString();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        ProgramGenerator generator = new ProgramGenerator();
+        String output = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-seed": generator.setSeed(Long.parseLong(args[++i])); break;
+                case "-structs": generator.setStructs(Integer.parseInt(args[++i])); break;
+                case "-members": generator.setMembers(Integer.parseInt(args[++i])); break;
+                case "-setget": generator.setSetGetMembers(Integer.parseInt(args[++i])); break;
+                case "-functions": generator.setFunctions(Integer.parseInt(args[++i])); break;
+                case "-statements": generator.setStatements(Integer.parseInt(args[++i])); break;
+                case "-depth": generator.setDepth(Integer.parseInt(args[++i])); break;
+                case "-errors": generator.setErrorRate(Double.parseDouble(args[++i])); break;
+                case "-o": output = args[++i]; break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        String program = generator.generate();
+        if (output == null)
+            System.out.print(program);
+        else
+            Files.writeString(Paths.get(output), program);
+    }
+
+    //a program whose size grows linearly with scale
+    public static String scaled(long seed, int scale) {
+        ProgramGenerator generator = new ProgramGenerator();
+        generator.setSeed(seed);
+        generator.setStructs(Math.max(1, scale / 4));
+        generator.setFunctions(scale);
+        return generator.generate();
+    }
+
+    public void setSeed(long seed) { this.seed = seed; }
+    public void setStructs(int structs) { this.structs = structs; }
+    public void setMembers(int members) { this.members = members; }
+    public void setSetGetMembers(int setGetMembers) { this.setGetMembers = setGetMembers; }
+    public void setFunctions(int functions) { this.functions = functions; }
+    public void setStatements(int statements) { this.statements = statements; }
+    public void setDepth(int depth) { this.depth = depth; }
+    public void setErrorRate(double errorRate) { this.errorRate = errorRate; }
+
+    public String generate() {
+        random = new Random(seed);
+        out = new StringBuilder();
+        indent = 0;
+        nameCounter = 0;
+        structInfos.clear();
+        functionInfos.clear();
+        scopes.clear();
+
+        for (int i = 0; i < structs; i++)
+            declareStruct(i);
+        for (int i = 0; i < functions; i++)
+            declareFunctionSignature(i);
+        for (StructInfo struct : structInfos)
+            writeStruct(struct);
+        for (FunctionInfo function : functionInfos)
+            writeFunction(function);
+        writeMain();
+        return out.toString();
+    }
+
+    //declarations
+
+    private void declareStruct(int index) {
+        StructInfo struct = new StructInfo("S" + index);
+        for (int i = 0; i < members; i++)
+            struct.members.add(new Var("m" + index + "_" + i, memberType(index)));
+        for (int i = 0; i < setGetMembers; i++)
+            struct.setGetMembers.add(new Var("p" + index + "_" + i, random.nextBoolean() ? "int" : "bool"));
+        structInfos.add(struct);
+    }
+
+    //only structs declared earlier, so that there are no cyclic dependencies
+    private String memberType(int structIndex) {
+        int choice = random.nextInt(structIndex > 0 ? 5 : 4);
+        switch (choice) {
+            case 0: return "bool";
+            case 1: return "list #int";
+            case 2: return "list #list #int";
+            case 3: return "int";
+            default: return "struct S" + random.nextInt(structIndex);
+        }
+    }
+
+    private void declareFunctionSignature(int index) {
+        String returnType;
+        int choice = random.nextInt(6);
+        if (choice == 0)
+            returnType = "void";
+        else if (choice == 1)
+            returnType = "bool";
+        else if (choice == 2 && !structInfos.isEmpty())
+            returnType = "struct " + pick(structInfos).name;
+        else
+            returnType = "int";
+        FunctionInfo function = new FunctionInfo("f" + index, returnType);
+        int args = random.nextInt(4);
+        for (int i = 0; i < args; i++)
+            function.args.add(new Var("a" + index + "_" + i, argType(index)));
+        functionInfos.add(function);
+    }
+
+    private String argType(int functionIndex) {
+        int choice = random.nextInt(functionIndex > 0 ? 6 : 5);
+        switch (choice) {
+            case 0: return "bool";
+            case 1: return "list #int";
+            case 2: return structInfos.isEmpty() ? "int" : "struct " + pick(structInfos).name;
+            case 3:
+            case 4: return "int";
+            default: {
+                List<FunctionInfo> pointable = pointableFunctions();
+                return pointable.isEmpty() ? "int" : pick(pointable).fptrType();
+            }
+        }
+    }
+
+    //top level
+
+    private void writeStruct(StructInfo struct) {
+        line("struct " + struct.name + " begin");
+        indent += 1;
+        for (Var member : struct.members)
+            line(member.type + " " + member.name);
+        for (Var member : struct.setGetMembers) {
+            String arg = newName("x");
+            line(member.type + " " + member.name + " (" + member.type + " " + arg + ") begin");
+            indent += 1;
+            line("set begin");
+            line("    " + member.name + " = " + arg);
+            line("end");
+            line("get begin");
+            line("    return " + member.name);
+            line("end");
+            indent -= 1;
+            line("end");
+        }
+        indent -= 1;
+        line("end");
+        line("");
+    }
+
+    private void writeFunction(FunctionInfo function) {
+        StringBuilder header = new StringBuilder(function.returnType + " " + function.name + "(");
+        for (int i = 0; i < function.args.size(); i++)
+            header.append(i == 0 ? "" : ", ").append(function.args.get(i).type).append(" ").append(function.args.get(i).name);
+        line(header.append(") begin").toString());
+        indent += 1;
+        scopes.add(new ArrayList<>(function.args));
+        writeStatements(depth);
+        if (function.returnType.startsWith("struct") && variable(function.returnType) == null)
+            declareVariable(function.returnType);
+        if (!function.returnType.equals("void"))
+            line("return " + expression(function.returnType, 2));
+        scopes.remove(scopes.size() - 1);
+        indent -= 1;
+        line("end");
+        line("");
+    }
+
+    private void writeMain() {
+        line("main() begin");
+        indent += 1;
+        scopes.add(new ArrayList<>());
+        writeStatements(depth);
+        scopes.remove(scopes.size() - 1);
+        indent -= 1;
+        line("end");
+    }
+
+    //statements
+
+    private void writeStatements(int depthLeft) {
+        int count = Math.max(1, depthLeft == depth ? statements : statements / 3);
+        for (int i = 0; i < count; i++) {
+            if (random.nextDouble() < errorRate)
+                writeIllTypedStatement();
+            else
+                writeStatement(depthLeft);
+        }
+    }
+
+    private void writeBlock(String header, int depthLeft, String footer) {
+        line(header + " begin");
+        indent += 1;
+        scopes.add(new ArrayList<>());
+        writeStatements(depthLeft);
+        scopes.remove(scopes.size() - 1);
+        indent -= 1;
+        line(footer == null ? "end" : "end " + footer);
+    }
+
+    private void writeStatement(int depthLeft) {
+        int choice = random.nextInt(depthLeft > 0 ? 12 : 8);
+        switch (choice) {
+            case 0:
+            case 1:
+                declareVariable();
+                return;
+            case 2:
+                assign();
+                return;
+            case 3:
+                line("display(" + expression(random.nextBoolean() ? "int" : "bool", 2) + ")");
+                return;
+            case 4: {
+                Var list = variable("list #int");
+                if (list != null) {
+                    line("append(" + list.name + ", " + expression("int", 2) + ")");
+                    return;
+                }
+                declareVariable();
+                return;
+            }
+            case 5:
+                callFunction();
+                return;
+            case 6:
+                accessStruct();
+                return;
+            case 7:
+                declareFptr();
+                return;
+            case 8:
+            case 9:
+                if (random.nextBoolean()) {
+                    writeBlock("if " + expression("bool", 2), depthLeft - 1, null);
+                    return;
+                }
+                line("if " + expression("bool", 2) + " begin");
+                indent += 1;
+                scopes.add(new ArrayList<>());
+                writeStatements(depthLeft - 1);
+                scopes.remove(scopes.size() - 1);
+                indent -= 1;
+                line("end");
+                writeBlock("else", depthLeft - 1, null);
+                return;
+            case 10:
+                writeBlock("while " + expression("bool", 2), depthLeft - 1, null);
+                return;
+            default:
+                writeBlock("do", depthLeft - 1, "while " + expression("bool", 2));
+        }
+    }
+
+    private void declareVariable() {
+        declareVariable(pickVariableType());
+    }
+
+    private void declareVariable(String type) {
+        String name = newName("v");
+        if (type.equals("int") || type.equals("bool"))
+            line(type + " " + name + " = " + expression(type, 2));
+        else
+            line(type + " " + name);
+        scopes.get(scopes.size() - 1).add(new Var(name, type));
+    }
+
+    private String pickVariableType() {
+        int choice = random.nextInt(6);
+        switch (choice) {
+            case 0: return "bool";
+            case 1: return "list #int";
+            case 2: return structInfos.isEmpty() ? "int" : "struct " + pick(structInfos).name;
+            default: return "int";
+        }
+    }
+
+    private void assign() {
+        String type = random.nextBoolean() ? "int" : "bool";
+        Var target = variable(type);
+        if (target == null) {
+            declareVariable();
+            return;
+        }
+        line(target.name + " = " + expression(type, 2));
+    }
+
+    private void callFunction() {
+        FunctionInfo function = functionInfos.isEmpty() ? null : pick(functionInfos);
+        String call = function == null ? null : call(function);
+        if (call == null) {
+            declareVariable();
+            return;
+        }
+        line(call);
+    }
+
+    private void accessStruct() {
+        List<Var> structVars = variablesOfStructType();
+        if (structVars.isEmpty()) {
+            declareVariable();
+            return;
+        }
+        Var var = pick(structVars);
+        StructInfo struct = struct(var.type);
+        if (!struct.setGetMembers.isEmpty() && random.nextInt(4) == 0) {
+            line("display(" + var.name + "." + pick(struct.setGetMembers).name + ")");
+            return;
+        }
+        Var member = pick(struct.members);
+        switch (member.type) {
+            case "int":
+            case "bool":
+                line(var.name + "." + member.name + " = " + expression(member.type, 2));
+                return;
+            case "list #int":
+                line("append(" + var.name + "." + member.name + ", " + expression("int", 1) + ")");
+                return;
+            case "list #list #int":
+                line("display(size(" + var.name + "." + member.name + "))");
+                return;
+            default:
+                line("display(" + var.name + "." + member.name + " == " + var.name + "." + member.name + ")");
+        }
+    }
+
+    private void declareFptr() {
+        List<FunctionInfo> pointable = pointableFunctions();
+        if (pointable.isEmpty()) {
+            declareVariable();
+            return;
+        }
+        FunctionInfo function = pick(pointable);
+        String name = newName("ptr");
+        line(function.fptrType() + " " + name + " = " + function.name);
+        Var var = new Var(name, function.fptrType());
+        scopes.get(scopes.size() - 1).add(var);
+    }
+
+    private void writeIllTypedStatement() {
+        switch (random.nextInt(5)) {
+            case 0:
+                line("int " + newName("e") + " = true");
+                return;
+            case 1:
+                line(newName("undeclared") + " = 1");
+                return;
+            case 2:
+                line("display(size(" + expression("int", 1) + "))");
+                return;
+            case 3:
+                line("if " + expression("int", 1) + " begin");
+                line("    display(1)");
+                line("end");
+                return;
+            default:
+                line("display(" + expression("int", 1) + " + " + expression("bool", 1) + ")");
+        }
+    }
+
+    //expressions
+
+    private String expression(String type, int depthLeft) {
+        switch (type) {
+            case "int": return intExpression(depthLeft);
+            case "bool": return boolExpression(depthLeft);
+            default: {
+                Var var = variable(type);
+                return var != null ? var.name : null;
+            }
+        }
+    }
+
+    private String intExpression(int depthLeft) {
+        int choice = random.nextInt(depthLeft > 0 ? 10 : 3);
+        switch (choice) {
+            case 0:
+                return String.valueOf(random.nextInt(100));
+            case 1:
+            case 2: {
+                Var var = variable("int");
+                return var != null ? var.name : String.valueOf(random.nextInt(100));
+            }
+            case 3: {
+                Var list = variable("list #int");
+                return list != null ? "size(" + list.name + ")" : intExpression(depthLeft - 1);
+            }
+            case 4: {
+                Var list = variable("list #int");
+                return list != null ? list.name + "[" + intExpression(depthLeft - 1) + "]" : intExpression(depthLeft - 1);
+            }
+            case 5:
+                return "-" + intExpression(depthLeft - 1);
+            case 6: {
+                String member = structMember("int");
+                return member != null ? member : intExpression(depthLeft - 1);
+            }
+            case 7: {
+                String call = callReturning("int", depthLeft);
+                return call != null ? call : intExpression(depthLeft - 1);
+            }
+            default:
+                return "(" + intExpression(depthLeft - 1) + (random.nextBoolean() ? " + " : random.nextBoolean() ? " * " : " - ")
+                        + intExpression(depthLeft - 1) + ")";
+        }
+    }
+
+    private String boolExpression(int depthLeft) {
+        int choice = random.nextInt(depthLeft > 0 ? 9 : 2);
+        switch (choice) {
+            case 0:
+                return random.nextBoolean() ? "true" : "false";
+            case 1: {
+                Var var = variable("bool");
+                return var != null ? var.name : "true";
+            }
+            case 2:
+                return "~" + boolExpression(depthLeft - 1);
+            case 3:
+                return "(" + intExpression(depthLeft - 1) + (random.nextBoolean() ? " < " : " > ") + intExpression(depthLeft - 1) + ")";
+            case 4:
+                return "(" + intExpression(depthLeft - 1) + " == " + intExpression(depthLeft - 1) + ")";
+            case 5:
+                return "(" + boolExpression(depthLeft - 1) + (random.nextBoolean() ? " & " : " | ") + boolExpression(depthLeft - 1) + ")";
+            case 6: {
+                String member = structMember("bool");
+                return member != null ? member : boolExpression(depthLeft - 1);
+            }
+            case 7: {
+                String call = callReturning("bool", depthLeft);
+                return call != null ? call : boolExpression(depthLeft - 1);
+            }
+            default:
+                return "(" + boolExpression(depthLeft - 1) + " == " + boolExpression(depthLeft - 1) + ")";
+        }
+    }
+
+    //a call of a function or fptr variable returning the type, or null if there is none with arguments at hand
+    private String callReturning(String type, int depthLeft) {
+        List<FunctionInfo> candidates = new ArrayList<>();
+        for (FunctionInfo function : functionInfos) {
+            if (function.returnType.equals(type))
+                candidates.add(function);
+        }
+        for (Var var : visibleVariables()) {
+            if (var.type.startsWith("fptr") && var.type.endsWith("-> " + type + ">")) {
+                FunctionInfo function = functionOfFptr(var);
+                if (function != null && random.nextBoolean()) {
+                    String args = arguments(function, depthLeft - 1);
+                    if (args != null)
+                        return var.name + "(" + args + ")";
+                }
+            }
+        }
+        if (candidates.isEmpty())
+            return null;
+        FunctionInfo function = pick(candidates);
+        String args = arguments(function, depthLeft - 1);
+        return args == null ? null : function.name + "(" + args + ")";
+    }
+
+    private String call(FunctionInfo function) {
+        String args = arguments(function, 1);
+        return args == null ? null : function.name + "(" + args + ")";
+    }
+
+    private String arguments(FunctionInfo function, int depthLeft) {
+        StringBuilder args = new StringBuilder();
+        for (int i = 0; i < function.args.size(); i++) {
+            String type = function.args.get(i).type;
+            String arg;
+            if (type.startsWith("fptr")) {
+                arg = null;
+                for (FunctionInfo candidate : functionInfos) {
+                    if (candidate.fptrType().equals(type)) {
+                        arg = candidate.name;
+                        break;
+                    }
+                }
+            }
+            else
+                arg = expression(type, Math.max(depthLeft, 0));
+            if (arg == null)
+                return null;
+            args.append(i == 0 ? "" : ", ").append(arg);
+        }
+        return args.toString();
+    }
+
+    private String structMember(String type) {
+        List<Var> structVars = variablesOfStructType();
+        if (structVars.isEmpty())
+            return null;
+        Var var = pick(structVars);
+        for (Var member : struct(var.type).members) {
+            if (member.type.equals(type))
+                return var.name + "." + member.name;
+        }
+        return null;
+    }
+
+    //helpers
+
+    //the checker does not accept fptr values of functions without arguments
+    private List<FunctionInfo> pointableFunctions() {
+        List<FunctionInfo> pointable = new ArrayList<>();
+        for (FunctionInfo function : functionInfos) {
+            if (!function.args.isEmpty())
+                pointable.add(function);
+        }
+        return pointable;
+    }
+
+    private FunctionInfo functionOfFptr(Var var) {
+        for (FunctionInfo function : functionInfos) {
+            if (function.fptrType().equals(var.type))
+                return function;
+        }
+        return null;
+    }
+
+    private StructInfo struct(String type) {
+        return structInfos.get(Integer.parseInt(type.substring("struct S".length())));
+    }
+
+    private List<Var> visibleVariables() {
+        List<Var> visible = new ArrayList<>();
+        for (List<Var> scope : scopes)
+            visible.addAll(scope);
+        return visible;
+    }
+
+    private List<Var> variablesOfStructType() {
+        List<Var> structVars = new ArrayList<>();
+        for (Var var : visibleVariables()) {
+            if (var.type.startsWith("struct "))
+                structVars.add(var);
+        }
+        return structVars;
+    }
+
+    private Var variable(String type) {
+        List<Var> matching = new ArrayList<>();
+        for (Var var : visibleVariables()) {
+            if (var.type.equals(type))
+                matching.add(var);
+        }
+        return matching.isEmpty() ? null : pick(matching);
+    }
+
+    private <T> T pick(List<T> items) {
+        return items.get(random.nextInt(items.size()));
+    }
+
+    private String newName(String prefix) {
+        nameCounter += 1;
+        return prefix + nameCounter;
+    }
+
+    private void line(String text) {
+        if (!text.isEmpty())
+            out.append("    ".repeat(indent)).append(text);
+        out.append('\n');
+    }
+}
@@ -0,0 +1,53 @@
+package main.parse;
+
+import main.CompilationContext;
+import main.compileError.CompileError;
+import main.compileError.syntaxError.SyntaxError;
+import main.diagnostic.DiagnosticListener;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import java.util.List;
+
+//Error listener of the lexer and of the reporting parser stage, in place of ANTLR's ConsoleErrorListener.
+//Every syntax error becomes a SyntaxError in the compilation's diagnostics, handed to the listener like
+//the semantic errors and counted against the same error budget (ErrorLimitReached stops the parse).
+//With abortOnFirst the first one stops lexing or parsing with a ParseCancellationException.
+public class SyntaxErrorCollector extends BaseErrorListener {
+    private final CompilationContext context;
+    private final List<CompileError> diagnostics;
+    private final DiagnosticListener listener;
+    private final boolean abortOnFirst;
+    private int count = 0;
+
+    public SyntaxErrorCollector(CompilationContext context, List<CompileError> diagnostics, DiagnosticListener listener,
+                                boolean abortOnFirst) {
+        this.context = context;
+        this.diagnostics = diagnostics;
+        this.listener = listener;
+        this.abortOnFirst = abortOnFirst;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                            String msg, RecognitionException e) {
+        report(new SyntaxError(line, charPositionInLine, msg));
+    }
+
+    //also replays the syntax errors an earlier parse found, such as those of an IncrementalParser
+    public void report(CompileError error) {
+        diagnostics.add(error);
+        if (listener != null)
+            listener.report(error);
+        count++;
+        context.countError();
+        if (abortOnFirst)
+            throw new ParseCancellationException(error.getMessage());
+    }
+}
@@ -0,0 +1,119 @@
+package main.parse;
+
+import main.ast.nodes.Program;
+import main.instrumentation.DecisionProfile;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import parsers.CmmParser;
+import parsers.CmmSllParser;
+
+//Parses a token stream in up to two stages. The grammar actions build the AST, so no parse tree is needed.
+//Stage one uses CmmSllParser (Cmm.g4 with the rules that need whole-body lookahead left-factored, see
+//CmmSll.g4) with SLL prediction and gives up at the first syntax error without reporting it.
+//Only when it gives up, the stream is parsed again exactly the way CmmParser parses by default
+//(full LL prediction, default error recovery and reporting), so the diagnostics do not change.
+//The parsers are kept and reset for the next parse, unless profiling, which needs new ones every time.
+//The syntax errors of the second stage go to the error listener, the console unless another one is set.
+public class TwoStageParser {
+    private final DecisionProfile decisionProfile;
+    private final String sourceName;
+    private boolean fallback = false;
+    private ANTLRErrorListener errorListener = ConsoleErrorListener.INSTANCE;
+    private CmmSllParser sllParser;
+    private CmmParser cmmParser;
+
+    public TwoStageParser() {
+        this(null, null);
+    }
+
+    //every stage that runs is profiled into the decisionProfile, when given
+    public TwoStageParser(DecisionProfile decisionProfile, String sourceName) {
+        this.decisionProfile = decisionProfile;
+        this.sourceName = sourceName;
+    }
+
+    public void setErrorListener(ANTLRErrorListener errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    //true when the last parse needed the second stage
+    public boolean isFallback() {
+        return fallback;
+    }
+
+    public Program parse(TokenStream tokenStream) {
+        CmmSllParser sllParser = sllParser(tokenStream);
+        try {
+            fallback = false;
+            return sllParser.cmm().cmmProgram;
+        } catch (ParseCancellationException e) {
+            fallback = true;
+        } finally {
+            addProfile(sllParser);
+        }
+
+        tokenStream.seek(0);
+        CmmParser cmmParser = cmmParser(tokenStream);
+        cmmParser.setBuildParseTree(false);
+        try {
+            return cmmParser.cmm().cmmProgram;
+        } finally {
+            addProfile(cmmParser);
+        }
+    }
+
+    //the single full-LL stage, as CmmParser parses by default
+    public Program parseLL(TokenStream tokenStream) {
+        CmmParser cmmParser = cmmParser(tokenStream);
+        cmmParser.setBuildParseTree(true);
+        try {
+            return cmmParser.cmm().cmmProgram;
+        } finally {
+            addProfile(cmmParser);
+        }
+    }
+
+    //drops the token stream of the last parse, for a parser that is kept around
+    public void release() {
+        if (sllParser != null)
+            sllParser.setTokenStream(null);
+        if (cmmParser != null)
+            cmmParser.setTokenStream(null);
+    }
+
+    private CmmSllParser sllParser(TokenStream tokenStream) {
+        if (sllParser != null && decisionProfile == null) {
+            sllParser.setTokenStream(tokenStream);
+            return sllParser;
+        }
+        sllParser = new CmmSllParser(tokenStream);
+        sllParser.setBuildParseTree(false);
+        sllParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        sllParser.setErrorHandler(new BailErrorStrategy());
+        sllParser.removeErrorListeners();
+        sllParser.setProfile(decisionProfile != null);
+        return sllParser;
+    }
+
+    private CmmParser cmmParser(TokenStream tokenStream) {
+        if (cmmParser != null && decisionProfile == null)
+            cmmParser.setTokenStream(tokenStream);
+        else {
+            cmmParser = new CmmParser(tokenStream);
+            cmmParser.setProfile(decisionProfile != null);
+        }
+        cmmParser.removeErrorListeners();
+        cmmParser.addErrorListener(errorListener);
+        return cmmParser;
+    }
+
+    private void addProfile(Parser parser) {
+        if (decisionProfile != null)
+            decisionProfile.add(parser, sourceName);
+    }
+}
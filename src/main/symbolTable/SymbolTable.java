@@ -4,38 +4,19 @@ package main.symbolTable;
 import main.symbolTable.exceptions.ItemAlreadyExistsException;
 import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.SymbolTableItem;
-import main.symbolTable.utils.Stack;
 
 
-import java.util.HashMap;
+import main.symbolTable.utils.IntKeyMap;
+
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 
-
-
 public class SymbolTable {
-
-    //Start of static members
-
-    public static SymbolTable top;
-    public static SymbolTable root;
-    private static Stack<SymbolTable> stack = new Stack<>();
-
-    public static void push(SymbolTable symbolTable) {
-        if (top != null)
-            stack.push(top);
-        top = symbolTable;
-    }
-
-    public static void pop() {
-        top = stack.pop();
-    }
-
-    //End of static members
+    //tables a lookup walks through before it starts guarding against a cycle of pre links
+    private static final int UNGUARDED_DEPTH = 64;
 
     public SymbolTable pre;
-    private Map<String, SymbolTableItem> items;
+    private IntKeyMap<SymbolTableItem> items;
 
     public SymbolTable() {
         this(null);
@@ -43,7 +24,7 @@ public class SymbolTable {
 
     public SymbolTable(SymbolTable pre) {
         this.pre = pre;
-        this.items = new HashMap<>();
+        this.items = new IntKeyMap<>();
     }
 
     public void put(SymbolTableItem item) throws ItemAlreadyExistsException {
@@ -52,9 +33,23 @@ public class SymbolTable {
         items.put(item.getKey(), item);
     }
 
-    public SymbolTableItem getItem(String key) throws ItemNotFoundException {
-        Set<SymbolTable> visitedSymbolTables = new HashSet<>();
+    public int size() {
+        return items.size();
+    }
+
+    //key is the getKey() of the item, e.g. VariableSymbolTableItem.key(identifier.getId())
+    public SymbolTableItem getItem(int key) throws ItemNotFoundException {
         SymbolTable currentSymbolTable = this;
+        for (int depth = 0; currentSymbolTable != null && depth < UNGUARDED_DEPTH; depth++) {
+            SymbolTableItem symbolTableItem = currentSymbolTable.items.get(key);
+            if( symbolTableItem != null )
+                return symbolTableItem;
+            currentSymbolTable = currentSymbolTable.pre;
+        }
+        if (currentSymbolTable == null)
+            throw new ItemNotFoundException();
+        Set<SymbolTable> visitedSymbolTables = new HashSet<>();
+        currentSymbolTable = this;
         while((currentSymbolTable != null) && (!visitedSymbolTables.contains(currentSymbolTable))) {
             visitedSymbolTables.add( currentSymbolTable );
             SymbolTableItem symbolTableItem = currentSymbolTable.items.get(key);
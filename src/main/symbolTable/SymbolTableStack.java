@@ -0,0 +1,27 @@
+package main.symbolTable;
+
+import main.symbolTable.utils.Stack;
+
+//Scope stack of a single compilation; replaces the former static members of SymbolTable
+public class SymbolTableStack {
+    public SymbolTable top;
+    public SymbolTable root;
+    private final Stack<SymbolTable> stack = new Stack<>();
+    private int poppedSymbols = 0;
+
+    public void push(SymbolTable symbolTable) {
+        if (top != null)
+            stack.push(top);
+        top = symbolTable;
+    }
+
+    public void pop() {
+        poppedSymbols += top.size();
+        top = stack.pop();
+    }
+
+    //symbols in the tables popped so far plus the root table
+    public int getDeclaredSymbols() {
+        return poppedSymbols + (root == null ? 0 : root.size());
+    }
+}
@@ -8,7 +8,6 @@ import main.symbolTable.SymbolTable;
 import java.util.ArrayList;
 
 public class FunctionSymbolTableItem extends SymbolTableItem {
-    public static final String START_KEY = "Function_";
     private main.ast.nodes.declaration.FunctionDeclaration FunctionDeclaration;
     private Type returnType;
     private ArrayList<Type> argTypes = new ArrayList<>();
@@ -21,6 +20,7 @@ public class FunctionSymbolTableItem extends SymbolTableItem {
             this.argTypes.add(varDeclaration.getVarType());
         }
         this.name = FunctionDeclaration.getFunctionName().getName();
+        this.nameId = FunctionDeclaration.getFunctionName().getId();
     }
 
     public FunctionDeclaration getFunctionDeclaration() {
@@ -55,9 +55,14 @@ public class FunctionSymbolTableItem extends SymbolTableItem {
         this.FunctionSymbolTable = FunctionSymbolTable;
     }
 
+    //key of the function item named by the NamePool id nameId
+    public static int key(int nameId) {
+        return key(FUNCTION, nameId);
+    }
+
     @Override
-    public String getKey() {
-        return START_KEY + this.name;
+    public int getKey() {
+        return key(nameId);
     }
 
 }
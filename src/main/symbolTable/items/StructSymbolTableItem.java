@@ -7,13 +7,13 @@ import main.symbolTable.*;
 import java.util.*;
 
 public class StructSymbolTableItem extends SymbolTableItem {
-    public static final String START_KEY = "Struct_";
     private SymbolTable StructSymbolTable;
     private StructDeclaration structDeclaration;
 
     public StructSymbolTableItem(StructDeclaration structDeclaration) {
         this.structDeclaration = structDeclaration;
         this.name = structDeclaration.getStructName().getName();
+        this.nameId = structDeclaration.getStructName().getId();
     }
 
     public SymbolTable getStructSymbolTable() { return StructSymbolTable; }
@@ -22,8 +22,13 @@ public class StructSymbolTableItem extends SymbolTableItem {
     public StructDeclaration getStructDeclaration() { return structDeclaration; }
     public void setStructDeclaration(StructDeclaration structDeclaration) { this.structDeclaration = structDeclaration; }
 
+    //key of the struct item named by the NamePool id nameId
+    public static int key(int nameId) {
+        return key(STRUCT, nameId);
+    }
+
     @Override
-    public String getKey() {
-        return START_KEY + this.name;
+    public int getKey() {
+        return key(nameId);
     }
 }
@@ -1,16 +1,33 @@
 package main.symbolTable.items;
 
+import main.ast.NamePool;
+
 public abstract class SymbolTableItem {
+    //kinds of item, the low bits of a key
+    protected static final int VARIABLE = 0;
+    protected static final int FUNCTION = 1;
+    protected static final int STRUCT = 2;
 
     protected String name;
+    protected int nameId = NamePool.NO_NAME;
+
+    //the NamePool id of the name with the kind of item, unique among the items of a table
+    public abstract int getKey();
 
-    public abstract String getKey();
+    protected static int key(int kind, int nameId) {
+        return nameId << 2 | kind;
+    }
 
     public String getName() {
         return name;
     }
 
     public void setName(String name) {
-        this.name = name;
+        this.nameId = NamePool.idOf(name);
+        this.name = NamePool.nameOf(nameId);
+    }
+
+    public int getNameId() {
+        return nameId;
     }
 }
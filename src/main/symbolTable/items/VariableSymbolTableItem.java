@@ -4,11 +4,11 @@ import main.ast.nodes.expression.Identifier;
 import main.ast.types.Type;
 
 public class VariableSymbolTableItem extends SymbolTableItem {
-    public static String START_KEY = "Var_";
     protected Type type;
 
     public VariableSymbolTableItem(Identifier id) {
         this.name = id.getName();
+        this.nameId = id.getId();
     }
 
     public Type getType() {
@@ -16,8 +16,13 @@ public class VariableSymbolTableItem extends SymbolTableItem {
     }
     public void setType(Type type) { this.type = type;}
 
+    //key of the variable item named by the NamePool id nameId
+    public static int key(int nameId) {
+        return key(VARIABLE, nameId);
+    }
+
     @Override
-    public String getKey() {
-        return START_KEY + this.name;
+    public int getKey() {
+        return key(nameId);
     }
 }
@@ -10,81 +10,130 @@ import main.ast.nodes.expression.*;
 import main.ast.nodes.expression.values.primitive.BoolValue;
 import main.ast.nodes.expression.values.primitive.IntValue;
 import main.ast.nodes.statement.*;
+import main.CompilationContext;
 import main.compileError.CompileError;
+import main.diagnostic.DiagnosticListener;
+import main.diagnostic.DiagnosticSink;
 
-import java.util.ArrayList;
+import java.util.List;
 
+//Moves the errors pending in the context's sink into the given list, in tree order, charges each of them to
+//the error budget and hands it to the listener (if any) as it is moved. Without pending errors the tree is
+//not walked, and the walk goes no further down once the last one is moved; the errors of nodes outside the
+//tree follow in the order they were found. The errors of a declaration with a line shift are moved by it.
 public class ErrorReporter extends Visitor<Integer> {
+    private final CompilationContext context;
+    private final DiagnosticSink sink;
+    private final List<CompileError> reported;
+    private final DiagnosticListener listener;
+    //of the top-level declaration being walked
+    private int lineShift = 0;
+
+    public ErrorReporter(CompilationContext context, List<CompileError> reported) {
+        this(context, reported, null);
+    }
+
+    public ErrorReporter(CompilationContext context, List<CompileError> reported, DiagnosticListener listener) {
+        this.context = context;
+        this.sink = context.getErrors();
+        this.reported = reported;
+        this.listener = listener;
+    }
+
     private int printErrors(Node node) {
-        ArrayList<CompileError> errors = node.flushErrors();
-        for(CompileError compileErrorException : errors) {
-            System.out.println(compileErrorException.getMessage());
+        List<CompileError> errors = sink.remove(node);
+        return errors == null ? 0 : move(errors);
+    }
+
+    private int move(List<CompileError> errors) {
+        for (CompileError error : errors) {
+            if (lineShift != 0)
+                error = error.moved(lineShift);
+            reported.add(error);
+            context.countReportedError();
+            if (listener != null)
+                listener.report(error);
         }
         return errors.size();
     }
 
+    private int report(Node node) {
+        return sink.isEmpty() ? 0 : node.accept(this);
+    }
+
+    private void report(Program program, Node declaration) {
+        lineShift = program.getLineShift(declaration);
+        report(declaration);
+        lineShift = 0;
+    }
+
+    //returns the number of errors moved
     @Override
     public Integer visit(Program program) {
-        int numOfErrors = printErrors(program);
+        if (sink.isEmpty())
+            return 0;
+        int numOfReported = reported.size();
+        printErrors(program);
         for (StructDeclaration structDeclaration: program.getStructs())
-            numOfErrors += structDeclaration.accept(this);
+            report(program, structDeclaration);
         for (FunctionDeclaration functionDeclaration:program.getFunctions())
-            numOfErrors += functionDeclaration.accept(this);
-        numOfErrors += program.getMain().accept(this);
-        return numOfErrors;
+            report(program, functionDeclaration);
+        report(program, program.getMain());
+        move(sink.removeAll());
+        return reported.size() - numOfReported;
     }
 
     @Override
     public Integer visit(FunctionDeclaration functionDec) {
         int numOfErrors = printErrors(functionDec);
-        numOfErrors += functionDec.getFunctionName().accept(this);
+        numOfErrors += report(functionDec.getFunctionName());
         for (VariableDeclaration arg: functionDec.getArgs())
-            numOfErrors += arg.accept(this);
-        numOfErrors += functionDec.getBody().accept(this);
+            numOfErrors += report(arg);
+        numOfErrors += report(functionDec.getBody());
         return numOfErrors;
     }
 
     @Override
     public Integer visit(MainDeclaration mainDec) {
         int numOfErrors = printErrors(mainDec);
-        numOfErrors += mainDec.getBody().accept(this);
+        numOfErrors += report(mainDec.getBody());
         return numOfErrors;
     }
 
     @Override
     public Integer visit(VariableDeclaration variableDec) {
         int  numOfErrors = printErrors(variableDec);
-        numOfErrors += variableDec.getVarName().accept(this);
+        numOfErrors += report(variableDec.getVarName());
         if ( variableDec.getDefaultValue() != null)
-            numOfErrors += variableDec.getDefaultValue().accept(this);
+            numOfErrors += report(variableDec.getDefaultValue());
         return numOfErrors;
     }
 
     @Override
     public Integer visit(StructDeclaration structDec) {
         int  numOfErrors = printErrors(structDec);
-        numOfErrors += structDec.getStructName().accept(this);
-        numOfErrors += structDec.getBody().accept(this);
+        numOfErrors += report(structDec.getStructName());
+        numOfErrors += report(structDec.getBody());
         return numOfErrors;
     }
 
     @Override
     public Integer visit(SetGetVarDeclaration setGetVarDec) {
         int  numOfErrors = printErrors(setGetVarDec);
-        numOfErrors += setGetVarDec.getVarDec().accept(this);
-        numOfErrors += setGetVarDec.getVarName().accept(this);
+        numOfErrors += report(setGetVarDec.getVarDec());
+        numOfErrors += report(setGetVarDec.getVarName());
         for (VariableDeclaration varDec: setGetVarDec.getArgs())
-            numOfErrors += varDec.accept(this);
-        numOfErrors += setGetVarDec.getSetterBody().accept(this);
-        numOfErrors += setGetVarDec.getGetterBody().accept(this);
+            numOfErrors += report(varDec);
+        numOfErrors += report(setGetVarDec.getSetterBody());
+        numOfErrors += report(setGetVarDec.getGetterBody());
         return numOfErrors;
     }
 
     @Override
     public Integer visit(AssignmentStmt assignmentStmt) {
         int  numOfErrors = printErrors(assignmentStmt);
-        numOfErrors += assignmentStmt.getLValue().accept(this);
-        numOfErrors += assignmentStmt.getRValue().accept(this);
+        numOfErrors += report(assignmentStmt.getLValue());
+        numOfErrors += report(assignmentStmt.getRValue());
         return numOfErrors;
     }
 
@@ -92,31 +141,31 @@ public class ErrorReporter extends Visitor<Integer> {
     public Integer visit(BlockStmt blockStmt) {
         int  numOfErrors = printErrors(blockStmt);
         for (Statement stmt: blockStmt.getStatements())
-            numOfErrors += stmt.accept(this);
+            numOfErrors += report(stmt);
         return numOfErrors;
     }
 
     @Override
     public Integer visit(ConditionalStmt conditionalStmt) {
         int  numOfErrors = printErrors(conditionalStmt);
-        numOfErrors += conditionalStmt.getCondition().accept(this);
-        numOfErrors += conditionalStmt.getThenBody().accept(this);
+        numOfErrors += report(conditionalStmt.getCondition());
+        numOfErrors += report(conditionalStmt.getThenBody());
         if (conditionalStmt.getElseBody() != null)
-            numOfErrors += conditionalStmt.getElseBody().accept(this);
+            numOfErrors += report(conditionalStmt.getElseBody());
         return numOfErrors;
     }
 
     @Override
     public Integer visit(FunctionCallStmt functionCallStmt) {
         int  numOfErrors = printErrors(functionCallStmt);
-        numOfErrors += functionCallStmt.getFunctionCall().accept(this);
+        numOfErrors += report(functionCallStmt.getFunctionCall());
         return numOfErrors;
     }
 
     @Override
     public Integer visit(DisplayStmt displayStmt) {
         int numOfErrors = printErrors(displayStmt);
-        numOfErrors += displayStmt.getArg().accept(this);
+        numOfErrors += report(displayStmt.getArg());
         return numOfErrors;
     }
 
@@ -124,15 +173,15 @@ public class ErrorReporter extends Visitor<Integer> {
     public Integer visit(ReturnStmt returnStmt) {
         int numOfErrors = printErrors(returnStmt);
         if (returnStmt.getReturnedExpr() != null)
-            numOfErrors += returnStmt.getReturnedExpr().accept(this);
+            numOfErrors += report(returnStmt.getReturnedExpr());
         return numOfErrors;
     }
 
     @Override
     public Integer visit(LoopStmt loopStmt) {
         int numOfErrors = printErrors(loopStmt);
-        numOfErrors += loopStmt.getCondition().accept(this);
-        numOfErrors += loopStmt.getBody().accept(this);
+        numOfErrors += report(loopStmt.getCondition());
+        numOfErrors += report(loopStmt.getBody());
         return numOfErrors;
     }
 
@@ -140,45 +189,45 @@ public class ErrorReporter extends Visitor<Integer> {
     public Integer visit(VarDecStmt varDecStmt) {
         int  numOfErrors = printErrors(varDecStmt);
         for(VariableDeclaration varDec: varDecStmt.getVars())
-            numOfErrors += varDec.accept(this);
+            numOfErrors += report(varDec);
         return numOfErrors;
     }
 
     @Override
     public Integer visit(ListAppendStmt listAppendStmt) {
         int numOfErrors = printErrors(listAppendStmt);
-        numOfErrors += listAppendStmt.getListAppendExpr().accept(this);
+        numOfErrors += report(listAppendStmt.getListAppendExpr());
         return numOfErrors;
     }
 
     @Override
     public Integer visit(ListSizeStmt listSizeStmt) {
         int  numOfErrors = printErrors(listSizeStmt);
-        numOfErrors +=listSizeStmt.getListSizeExpr().accept(this);
+        numOfErrors +=report(listSizeStmt.getListSizeExpr());
         return numOfErrors;
     }
 
     @Override
     public Integer visit(BinaryExpression binaryExpression) {
        int numOfErrors = printErrors(binaryExpression);
-        numOfErrors += binaryExpression.getFirstOperand().accept(this);
-        numOfErrors += binaryExpression.getSecondOperand().accept(this);
+        numOfErrors += report(binaryExpression.getFirstOperand());
+        numOfErrors += report(binaryExpression.getSecondOperand());
         return numOfErrors;
     }
 
     @Override
     public Integer visit(UnaryExpression unaryExpression) {
         int numOfErrors = printErrors(unaryExpression);
-        numOfErrors += unaryExpression.getOperand().accept(this);
+        numOfErrors += report(unaryExpression.getOperand());
         return numOfErrors;
     }
 
     @Override
     public Integer visit(FunctionCall funcCall) {
         int numOfErrors = printErrors(funcCall);
-        numOfErrors += funcCall.getInstance().accept(this);
+        numOfErrors += report(funcCall.getInstance());
         for (Expression arg: funcCall.getArgs())
-            numOfErrors += arg.accept(this);
+            numOfErrors += report(arg);
         return numOfErrors;
     }
 
@@ -190,31 +239,31 @@ public class ErrorReporter extends Visitor<Integer> {
     @Override
     public Integer visit(ListAccessByIndex listAccessByIndex) {
        int numOfErrors = printErrors(listAccessByIndex);
-        numOfErrors += listAccessByIndex.getInstance().accept(this);
-        numOfErrors += listAccessByIndex.getIndex().accept(this);
+        numOfErrors += report(listAccessByIndex.getInstance());
+        numOfErrors += report(listAccessByIndex.getIndex());
         return numOfErrors;
     }
 
     @Override
     public Integer visit(StructAccess structAccess) {
         int numOfErrors = printErrors(structAccess);
-        numOfErrors += structAccess.getInstance().accept(this);
-        numOfErrors += structAccess.getElement().accept(this);
+        numOfErrors += report(structAccess.getInstance());
+        numOfErrors += report(structAccess.getElement());
         return numOfErrors;
     }
 
     @Override
     public Integer visit(ListSize listSize) {
         int numOfErrors = printErrors(listSize);
-        numOfErrors += listSize.getArg().accept(this);
+        numOfErrors += report(listSize.getArg());
         return numOfErrors;
     }
 
     @Override
     public Integer visit(ListAppend listAppend) {
         int numOfErrors = printErrors(listAppend);
-        numOfErrors += listAppend.getListArg().accept(this);
-        numOfErrors += listAppend.getElementArg().accept(this);
+        numOfErrors += report(listAppend.getListArg());
+        numOfErrors += report(listAppend.getElementArg());
         return numOfErrors;
     }
 
@@ -222,7 +271,7 @@ public class ErrorReporter extends Visitor<Integer> {
     public Integer visit(ExprInPar exprInPar) {
         int numOfErrors = printErrors(exprInPar);
         for (Expression expression: exprInPar.getInputs())
-            numOfErrors += expression.accept(this);
+            numOfErrors += report(expression);
         return numOfErrors;
     }
 
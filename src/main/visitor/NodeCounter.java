@@ -0,0 +1,230 @@
+package main.visitor;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.declaration.VariableDeclaration;
+import main.ast.nodes.declaration.struct.StructDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.values.primitive.BoolValue;
+import main.ast.nodes.expression.values.primitive.IntValue;
+import main.ast.nodes.statement.*;
+
+//Counts the nodes of a tree; used by the instrumentation only, as it walks the whole tree
+public class NodeCounter extends Visitor<Integer> {
+
+    @Override
+    public Integer visit(Program program) {
+        int numOfNodes = 1;
+        for (StructDeclaration structDeclaration: program.getStructs())
+            numOfNodes += structDeclaration.accept(this);
+        for (FunctionDeclaration functionDeclaration:program.getFunctions())
+            numOfNodes += functionDeclaration.accept(this);
+        numOfNodes += program.getMain().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(FunctionDeclaration functionDec) {
+        int numOfNodes = 1;
+        numOfNodes += functionDec.getFunctionName().accept(this);
+        for (VariableDeclaration arg: functionDec.getArgs())
+            numOfNodes += arg.accept(this);
+        numOfNodes += functionDec.getBody().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(MainDeclaration mainDec) {
+        int numOfNodes = 1;
+        numOfNodes += mainDec.getBody().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(VariableDeclaration variableDec) {
+        int numOfNodes = 1;
+        numOfNodes += variableDec.getVarName().accept(this);
+        if ( variableDec.getDefaultValue() != null)
+            numOfNodes += variableDec.getDefaultValue().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(StructDeclaration structDec) {
+        int numOfNodes = 1;
+        numOfNodes += structDec.getStructName().accept(this);
+        numOfNodes += structDec.getBody().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(SetGetVarDeclaration setGetVarDec) {
+        int numOfNodes = 1;
+        numOfNodes += setGetVarDec.getVarDec().accept(this);
+        numOfNodes += setGetVarDec.getVarName().accept(this);
+        for (VariableDeclaration varDec: setGetVarDec.getArgs())
+            numOfNodes += varDec.accept(this);
+        numOfNodes += setGetVarDec.getSetterBody().accept(this);
+        numOfNodes += setGetVarDec.getGetterBody().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(AssignmentStmt assignmentStmt) {
+        int numOfNodes = 1;
+        numOfNodes += assignmentStmt.getLValue().accept(this);
+        numOfNodes += assignmentStmt.getRValue().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(BlockStmt blockStmt) {
+        int numOfNodes = 1;
+        for (Statement stmt: blockStmt.getStatements())
+            numOfNodes += stmt.accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(ConditionalStmt conditionalStmt) {
+        int numOfNodes = 1;
+        numOfNodes += conditionalStmt.getCondition().accept(this);
+        numOfNodes += conditionalStmt.getThenBody().accept(this);
+        if (conditionalStmt.getElseBody() != null)
+            numOfNodes += conditionalStmt.getElseBody().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(FunctionCallStmt functionCallStmt) {
+        int numOfNodes = 1;
+        numOfNodes += functionCallStmt.getFunctionCall().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(DisplayStmt displayStmt) {
+        int numOfNodes = 1;
+        numOfNodes += displayStmt.getArg().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(ReturnStmt returnStmt) {
+        int numOfNodes = 1;
+        if (returnStmt.getReturnedExpr() != null)
+            numOfNodes += returnStmt.getReturnedExpr().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(LoopStmt loopStmt) {
+        int numOfNodes = 1;
+        numOfNodes += loopStmt.getCondition().accept(this);
+        numOfNodes += loopStmt.getBody().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(VarDecStmt varDecStmt) {
+        int numOfNodes = 1;
+        for(VariableDeclaration varDec: varDecStmt.getVars())
+            numOfNodes += varDec.accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(ListAppendStmt listAppendStmt) {
+        int numOfNodes = 1;
+        numOfNodes += listAppendStmt.getListAppendExpr().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(ListSizeStmt listSizeStmt) {
+        int numOfNodes = 1;
+        numOfNodes +=listSizeStmt.getListSizeExpr().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(BinaryExpression binaryExpression) {
+        int numOfNodes = 1;
+        numOfNodes += binaryExpression.getFirstOperand().accept(this);
+        numOfNodes += binaryExpression.getSecondOperand().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(UnaryExpression unaryExpression) {
+        int numOfNodes = 1;
+        numOfNodes += unaryExpression.getOperand().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(FunctionCall funcCall) {
+        int numOfNodes = 1;
+        numOfNodes += funcCall.getInstance().accept(this);
+        for (Expression arg: funcCall.getArgs())
+            numOfNodes += arg.accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(Identifier identifier) {
+        return 1;
+    }
+
+    @Override
+    public Integer visit(ListAccessByIndex listAccessByIndex) {
+        int numOfNodes = 1;
+        numOfNodes += listAccessByIndex.getInstance().accept(this);
+        numOfNodes += listAccessByIndex.getIndex().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(StructAccess structAccess) {
+        int numOfNodes = 1;
+        numOfNodes += structAccess.getInstance().accept(this);
+        numOfNodes += structAccess.getElement().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(ListSize listSize) {
+        int numOfNodes = 1;
+        numOfNodes += listSize.getArg().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(ListAppend listAppend) {
+        int numOfNodes = 1;
+        numOfNodes += listAppend.getListArg().accept(this);
+        numOfNodes += listAppend.getElementArg().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(ExprInPar exprInPar) {
+        int numOfNodes = 1;
+        for (Expression expression: exprInPar.getInputs())
+            numOfNodes += expression.accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(IntValue intValue) {
+        return 1;
+    }
+
+    @Override
+    public Integer visit(BoolValue boolValue) {
+        return 1;
+    }
+
+
+}
@@ -1,4 +1,5 @@
 package main.visitor.name;
+import main.CompilationContext;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.*;
 import main.ast.nodes.declaration.struct.*;
@@ -7,6 +8,7 @@ import main.ast.nodes.statement.*;
 import main.ast.types.StructType;
 import main.compileError.nameError.*;
 import main.symbolTable.SymbolTable;
+import main.symbolTable.SymbolTableStack;
 import main.symbolTable.exceptions.*;
 import main.symbolTable.items.*;
 
@@ -20,26 +22,33 @@ public class NameAnalyser extends Visitor<Void> {
     private int newId = 1;
     private boolean firstVisit = true;
     private boolean isInStruct = false;
-    private String curStructName;
-    private final Graph<String> structHierarchy = new Graph<>();
+    private int curStructName;
+    private final Graph<Integer> structHierarchy = new Graph<>();
+    private final CompilationContext context;
+    private final SymbolTableStack symbolTables;
+
+    public NameAnalyser(CompilationContext context) {
+        this.context = context;
+        this.symbolTables = context.getSymbolTables();
+    }
 
     private void createStructSymbolTable(StructDeclaration structDec) {
         SymbolTable newSymbolTable = new SymbolTable();
         StructSymbolTableItem newSymbolTableItem = new StructSymbolTableItem(structDec);
         newSymbolTableItem.setStructSymbolTable(newSymbolTable);
         try {
-            SymbolTable.root.put(newSymbolTableItem);
+            symbolTables.root.put(newSymbolTableItem);
 
         } catch (ItemAlreadyExistsException e) {
             DuplicateStruct exception = new DuplicateStruct(structDec.getLine(), structDec.getStructName().getName());
-            structDec.addError(exception);
+            context.addError(structDec, exception);
             String newName = newId + "@";
             newId += 1;
             structDec.setStructName(new Identifier(newName));
             try {
                 StructSymbolTableItem newStructSym = new StructSymbolTableItem(structDec);
                 newStructSym.setStructSymbolTable(newSymbolTable);
-                SymbolTable.root.put(newStructSym);
+                symbolTables.root.put(newStructSym);
             } catch (ItemAlreadyExistsException e1) { //Unreachable
             }
         }
@@ -48,25 +57,25 @@ public class NameAnalyser extends Visitor<Void> {
     private void createFunctionSymbolTable(FunctionDeclaration funcDec) {
         FunctionSymbolTableItem newSymbolTableItem = new FunctionSymbolTableItem(funcDec);
         try {
-            SymbolTable.root.put(newSymbolTableItem);
+            symbolTables.root.put(newSymbolTableItem);
 
         } catch (ItemAlreadyExistsException e) {
             DuplicateFunction exception = new DuplicateFunction(funcDec.getLine(), funcDec.getFunctionName().getName());
-            funcDec.addError(exception);
+            context.addError(funcDec, exception);
             String newName = newId + "@";
             newId += 1;
             funcDec.setFunctionName(new Identifier(newName));
             try {
                 FunctionSymbolTableItem newFuncSym = new FunctionSymbolTableItem(funcDec);
-                SymbolTable.root.put(newFuncSym);
+                symbolTables.root.put(newFuncSym);
             } catch (ItemAlreadyExistsException e1) { //Unreachable
             }
         }
     }
 
-    private boolean hasConflict(String key) {
+    private boolean hasConflict(int key) {
         try {
-            SymbolTable.root.getItem(key);
+            symbolTables.root.getItem(key);
             return true;
         } catch (ItemNotFoundException exception) {
             return false;
@@ -75,10 +84,10 @@ public class NameAnalyser extends Visitor<Void> {
 
     private void checkCycle(ArrayList<StructDeclaration> structs){
         for(StructDeclaration struct : structs){
-            String structName = struct.getStructName().getName();
+            int structName = struct.getStructName().getId();
             if(structHierarchy.isSecondNodeAncestorOf(structName, structName)){
-                CyclicDependency exception = new CyclicDependency(struct.getLine(), structName);
-                struct.addError(exception);
+                CyclicDependency exception = new CyclicDependency(struct.getLine(), struct.getStructName().getName());
+                context.addError(struct, exception);
             }
         }
     }
@@ -86,35 +95,35 @@ public class NameAnalyser extends Visitor<Void> {
     @Override
     public Void visit(Program program) {
         SymbolTable root = new SymbolTable();
-        SymbolTable.root = root;
-        SymbolTable.push(root);
+        symbolTables.root = root;
+        symbolTables.push(root);
         for (StructDeclaration structDec : program.getStructs()) {
             createStructSymbolTable(structDec);
             try {
-                structHierarchy.addNode(structDec.getStructName().getName());
+                structHierarchy.addNode(structDec.getStructName().getId());
             }
             catch (Exception e){//unreachable
             }
         }
 
         for (FunctionDeclaration funcDec : program.getFunctions()) {
-            if (hasConflict(StructSymbolTableItem.START_KEY + funcDec.getFunctionName().getName())) {
+            if (hasConflict(StructSymbolTableItem.key(funcDec.getFunctionName().getId()))) {
                 FunctionStructConflict exception = new FunctionStructConflict(funcDec.getLine(), funcDec.getFunctionName().getName());
-                funcDec.addError(exception);
+                context.addError(funcDec, exception);
             }
             createFunctionSymbolTable(funcDec);
         }
 
         for (StructDeclaration structDec : program.getStructs()) {
             try {
-                String key = StructSymbolTableItem.START_KEY + structDec.getStructName().getName();
-                StructSymbolTableItem structSymbolTableItem = (StructSymbolTableItem) SymbolTable.root.getItem(key);
-                SymbolTable.push(structSymbolTableItem.getStructSymbolTable());
+                int key = StructSymbolTableItem.key(structDec.getStructName().getId());
+                StructSymbolTableItem structSymbolTableItem = (StructSymbolTableItem) symbolTables.root.getItem(key);
+                symbolTables.push(structSymbolTableItem.getStructSymbolTable());
                 isInStruct = true;
-                curStructName = structDec.getStructName().getName();
+                curStructName = structDec.getStructName().getId();
                 structDec.accept(this);
                 isInStruct = false;
-                SymbolTable.pop();
+                symbolTables.pop();
             } catch (ItemNotFoundException e) { //Unreachable
             }
         }
@@ -122,14 +131,14 @@ public class NameAnalyser extends Visitor<Void> {
         checkCycle(program.getStructs());
 
         for (FunctionDeclaration funcDec : program.getFunctions()) {
-            SymbolTable.push(new SymbolTable());
+            symbolTables.push(new SymbolTable());
             funcDec.accept(this);
-            SymbolTable.pop();
+            symbolTables.pop();
         }
 
-        SymbolTable.push(new SymbolTable());
+        symbolTables.push(new SymbolTable());
         program.getMain().accept(this);
-        SymbolTable.pop();
+        symbolTables.pop();
 
         return null;
     }
@@ -170,25 +179,25 @@ public class NameAnalyser extends Visitor<Void> {
 
     @Override
     public Void visit(ConditionalStmt conditionalStmt) {
-        SymbolTable ifScope = new SymbolTable(SymbolTable.top);
-        SymbolTable.push(ifScope);
+        SymbolTable ifScope = new SymbolTable(symbolTables.top);
+        symbolTables.push(ifScope);
         conditionalStmt.getThenBody().accept(this);
-        SymbolTable.pop();
+        symbolTables.pop();
         if (conditionalStmt.getElseBody() != null) {
-            SymbolTable elseScope = new SymbolTable(SymbolTable.top);
-            SymbolTable.push(elseScope);
+            SymbolTable elseScope = new SymbolTable(symbolTables.top);
+            symbolTables.push(elseScope);
             conditionalStmt.getElseBody().accept(this);
-            SymbolTable.pop();
+            symbolTables.pop();
         }
         return null;
     }
 
     @Override
     public Void visit(LoopStmt loopStmt) {
-        SymbolTable loopScope = new SymbolTable(SymbolTable.top);
-        SymbolTable.push(loopScope);
+        SymbolTable loopScope = new SymbolTable(symbolTables.top);
+        symbolTables.push(loopScope);
         loopStmt.getBody().accept(this);
-        SymbolTable.pop();
+        symbolTables.pop();
         return null;
     }
 
@@ -214,7 +223,7 @@ public class NameAnalyser extends Visitor<Void> {
             FunctionSymbolTableItem newItem = new FunctionSymbolTableItem(funcDec);
             newItem.setFunctionSymbolTable(newSym);
             try {
-                SymbolTable.top.put(newItem);
+                symbolTables.top.put(newItem);
             } catch (ItemAlreadyExistsException e) {
                 setGetVarDeclaration.setVarName(new Identifier(name + "@" + newId));
                 funcDec.setFunctionName(new Identifier(name + "@" + newId));
@@ -222,21 +231,21 @@ public class NameAnalyser extends Visitor<Void> {
                 FunctionSymbolTableItem fSym = new FunctionSymbolTableItem(funcDec);
                 fSym.setFunctionSymbolTable(newSym);
                 try{
-                    SymbolTable.top.put(fSym);
+                    symbolTables.top.put(fSym);
                 }catch (ItemAlreadyExistsException e2) {//unreachable
                 }
             }
         }
         else {
             try {
-                String key = FunctionSymbolTableItem.START_KEY + name;
-                FunctionSymbolTableItem fItem = (FunctionSymbolTableItem) SymbolTable.top.getItem(key);
+                int key = FunctionSymbolTableItem.key(setGetVarDeclaration.getVarName().getId());
+                FunctionSymbolTableItem fItem = (FunctionSymbolTableItem) symbolTables.top.getItem(key);
                 SymbolTable sym = fItem.getFunctionSymbolTable();
-                sym.pre = SymbolTable.top;
-                SymbolTable.push(sym);
+                sym.pre = symbolTables.top;
+                symbolTables.push(sym);
                 for (VariableDeclaration arg : setGetVarDeclaration.getArgs())
                     arg.accept(this);
-                SymbolTable.pop();
+                symbolTables.pop();
             } catch (ItemNotFoundException e) {//unreachable
             }
         }
@@ -250,30 +259,30 @@ public class NameAnalyser extends Visitor<Void> {
         if(isInStruct && variableDeclaration.getVarType() instanceof StructType){
             StructType structType = (StructType) variableDeclaration.getVarType();
             try {
-                structHierarchy.addNodeAsParentOf(structType.getStructName().getName(), curStructName);
+                structHierarchy.addNodeAsParentOf(structType.getStructNameId(), curStructName);
             }
             catch (Exception e){//unreachable
             }
         }
 
-        if (hasConflict(StructSymbolTableItem.START_KEY + name)) {
+        if (hasConflict(StructSymbolTableItem.key(variableDeclaration.getVarName().getId()))) {
             VarStructConflict exception = new VarStructConflict(variableDeclaration.getLine(), name);
-            variableDeclaration.addError(exception);
+            context.addError(variableDeclaration, exception);
         }
 
-        if (hasConflict(FunctionSymbolTableItem.START_KEY + name)) {
+        if (hasConflict(FunctionSymbolTableItem.key(variableDeclaration.getVarName().getId()))) {
             VarFunctionConflict exception = new VarFunctionConflict(variableDeclaration.getLine(), name);
-            variableDeclaration.addError(exception);
+            context.addError(variableDeclaration, exception);
         }
 
         VariableSymbolTableItem variableSymbolTableItem = new VariableSymbolTableItem(variableDeclaration.getVarName());
         try {
-            SymbolTable.top.getItem(variableSymbolTableItem.getKey());
+            symbolTables.top.getItem(variableSymbolTableItem.getKey());
             DuplicateVar exception = new DuplicateVar(variableDeclaration.getLine(), name);
-            variableDeclaration.addError(exception);
+            context.addError(variableDeclaration, exception);
         } catch (ItemNotFoundException exception2) {
             try {
-                SymbolTable.top.put(variableSymbolTableItem);
+                symbolTables.top.put(variableSymbolTableItem);
             } catch (ItemAlreadyExistsException exception3) { //unreachable
             }
         }
@@ -1,4 +1,5 @@
 package main.visitor.type;
+import main.CompilationContext;
 import main.ast.nodes.expression.*;
 import main.ast.nodes.expression.operators.BinaryOperator;
 import main.ast.nodes.expression.operators.UnaryOperator;
@@ -10,6 +11,7 @@ import main.ast.types.primitives.IntType;
 import main.ast.types.primitives.VoidType;
 import main.compileError.typeError.*;
 import main.symbolTable.SymbolTable;
+import main.symbolTable.SymbolTableStack;
 import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.FunctionSymbolTableItem;
 import main.symbolTable.items.StructSymbolTableItem;
@@ -19,10 +21,18 @@ import main.visitor.Visitor;
 import java.util.ArrayList;
 
 public class ExpressionTypeChecker extends Visitor<Type> {
+    private final CompilationContext context;
+    private final SymbolTableStack symbolTables;
     private boolean isStatement = false;
     enum Types {
         BOOL,INT,ALL,EQ
     }
+
+    public ExpressionTypeChecker(CompilationContext context) {
+        this.context = context;
+        this.symbolTables = context.getSymbolTables();
+    }
+
     private Types getTypeOfOperands(BinaryOperator operator)
     {
         if(operator == BinaryOperator.and || operator == BinaryOperator.or)
@@ -122,7 +132,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
                 return rType;
             }
             else if (!(lType instanceof NoType) && !(rType instanceof NoType)){
-                binaryExpression.addError(new UnsupportedOperandType(binaryExpression.getLine(),operator.name()));
+                context.addError(binaryExpression, new UnsupportedOperandType(binaryExpression.getLine(),operator.name()));
             }
             return new NoType();
         }
@@ -130,7 +140,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         {
             if(lType instanceof ListType || rType instanceof ListType)
             {
-                binaryExpression.addError(new UnsupportedOperandType(binaryExpression.getLine(),operator.name()));
+                context.addError(binaryExpression, new UnsupportedOperandType(binaryExpression.getLine(),operator.name()));
             }
             else if((lType instanceof IntType && rType instanceof IntType) ||
                     (lType instanceof BoolType && rType instanceof BoolType) ||
@@ -140,7 +150,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
                 return new BoolType();
             }
             else if (!(lType instanceof NoType) && !(rType instanceof NoType)){
-                binaryExpression.addError(new UnsupportedOperandType(binaryExpression.getLine(),operator.name()));
+                context.addError(binaryExpression, new UnsupportedOperandType(binaryExpression.getLine(),operator.name()));
             }
             return new NoType();
         }
@@ -157,7 +167,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
                     !(lType instanceof IntType && rType instanceof NoType) &&
                     !(lType instanceof NoType && rType instanceof NoType))
             {
-                binaryExpression.addError(new UnsupportedOperandType(binaryExpression.getLine(),operator.name()));
+                context.addError(binaryExpression, new UnsupportedOperandType(binaryExpression.getLine(),operator.name()));
             }
             return new NoType();
         }
@@ -171,7 +181,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
                     !(lType instanceof BoolType && rType instanceof NoType) &&
                     !(lType instanceof NoType && rType instanceof NoType))
             {
-                binaryExpression.addError(new UnsupportedOperandType(binaryExpression.getLine(),operator.name()));
+                context.addError(binaryExpression, new UnsupportedOperandType(binaryExpression.getLine(),operator.name()));
             }
             return new NoType();
         }
@@ -192,7 +202,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
             }
             else if(exType instanceof IntType)
             {
-                unaryExpression.addError(new UnsupportedOperandType(unaryExpression.getLine(), "not"));
+                context.addError(unaryExpression, new UnsupportedOperandType(unaryExpression.getLine(), "not"));
             }
         }
         else
@@ -203,7 +213,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
             }
             else if(exType instanceof BoolType)
             {
-                unaryExpression.addError(new UnsupportedOperandType(unaryExpression.getLine(), "minus"));
+                context.addError(unaryExpression, new UnsupportedOperandType(unaryExpression.getLine(), "minus"));
             }
         }
         return new NoType();
@@ -215,12 +225,12 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         if(!(insType instanceof FptrType))
         {
             if(!(insType instanceof NoType))
-                funcCall.addError(new CallOnNoneFptrType(funcCall.getLine()));
+                context.addError(funcCall, new CallOnNoneFptrType(funcCall.getLine()));
             return new NoType();
         }
         if (((FptrType)insType).getReturnType() instanceof VoidType && !isStatement)
         {
-            funcCall.addError(new CantUseValueOfVoidFunction(funcCall.getLine()));
+            context.addError(funcCall, new CantUseValueOfVoidFunction(funcCall.getLine()));
         }
         if(((FptrType) insType).getArgsType().size() > 0 && ((FptrType) insType).getArgsType().get(0) instanceof VoidType && funcCall.getArgs().size() == 0)
         {
@@ -234,12 +244,12 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         }
         if(args.size() != ((FptrType) insType).getArgsType().size())
         {
-            funcCall.addError(new ArgsInFunctionCallNotMatchDefinition(funcCall.getLine()));
+            context.addError(funcCall, new ArgsInFunctionCallNotMatchDefinition(funcCall.getLine()));
             return ((FptrType) insType).getReturnType();
         }
         FptrType original = new FptrType(args,((FptrType) insType).getReturnType());
         if(!TypeChecker.isEqual(insType, original)){
-            funcCall.addError(new ArgsInFunctionCallNotMatchDefinition(funcCall.getLine()));
+            context.addError(funcCall, new ArgsInFunctionCallNotMatchDefinition(funcCall.getLine()));
             return ((FptrType) insType).getReturnType();
         }
         return ((FptrType) insType).getReturnType();
@@ -249,14 +259,14 @@ public class ExpressionTypeChecker extends Visitor<Type> {
     public Type visit(Identifier identifier) {
         try
         {
-            SymbolTableItem item = SymbolTable.top.getItem( VariableSymbolTableItem.START_KEY+identifier.getName());
+            SymbolTableItem item = symbolTables.top.getItem(VariableSymbolTableItem.key(identifier.getId()));
             Type id =  ((VariableSymbolTableItem) item).getType();
             if(id instanceof StructType)
             {
                 Identifier nameStruct = ((StructType) id).getStructName();
                 try
                 {
-                    SymbolTable.top.getItem( StructSymbolTableItem.START_KEY+nameStruct.getName());
+                    symbolTables.top.getItem(StructSymbolTableItem.key(nameStruct.getId()));
                     return id;
                 }
                 catch (ItemNotFoundException ex)
@@ -271,11 +281,11 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         }
         catch (ItemNotFoundException ex) {
             try {
-                FunctionSymbolTableItem item = (FunctionSymbolTableItem) SymbolTable.top.getItem(FunctionSymbolTableItem.START_KEY + identifier.getName());
+                FunctionSymbolTableItem item = (FunctionSymbolTableItem) symbolTables.top.getItem(FunctionSymbolTableItem.key(identifier.getId()));
                 return new FptrType(item.getArgTypes(), item.getReturnType());
             }catch (ItemNotFoundException ex2)
             {
-                identifier.addError(new VarNotDeclared(identifier.getLine(), identifier.getName()));
+                context.addError(identifier, new VarNotDeclared(identifier.getLine(), identifier.getName()));
             }
         }
         return new NoType();
@@ -291,11 +301,11 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         }
         if (!(indexType instanceof IntType || indexType instanceof NoType))
         {
-            listAccessByIndex.addError(new ListIndexNotInt(listAccessByIndex.getLine()));
+            context.addError(listAccessByIndex, new ListIndexNotInt(listAccessByIndex.getLine()));
         }
          if (!(instType instanceof ListType || instType instanceof NoType) )
         {
-            listAccessByIndex.addError(new AccessByIndexOnNonList(listAccessByIndex.getLine()));
+            context.addError(listAccessByIndex, new AccessByIndexOnNonList(listAccessByIndex.getLine()));
         }
         return new NoType();
     }
@@ -303,7 +313,7 @@ private Type checkType(VariableSymbolTableItem id)
 {
     if( id.getType() instanceof StructType){
         try {
-            SymbolTable.root.getItem(StructSymbolTableItem.START_KEY + id.getName());
+            symbolTables.root.getItem(StructSymbolTableItem.key(id.getNameId()));
             return id.getType();
         }catch (ItemNotFoundException ex){
             return new NoType();
@@ -322,23 +332,23 @@ private Type checkType(VariableSymbolTableItem id)
         }
         if (!(instType instanceof StructType))
         {
-            structAccess.addError(new AccessOnNonStruct(structAccess.getLine()));
+            context.addError(structAccess, new AccessOnNonStruct(structAccess.getLine()));
             return new NoType();
         }
         String varName = structAccess.getElement().getName();
         String structName = ((StructType) instType).getStructName().getName();
         try
         {
-            StructSymbolTableItem struct = (StructSymbolTableItem) SymbolTable.root.getItem(StructSymbolTableItem.START_KEY+structName);
+            StructSymbolTableItem struct = (StructSymbolTableItem) symbolTables.root.getItem(StructSymbolTableItem.key(((StructType) instType).getStructNameId()));
             SymbolTable structTable = struct.getStructSymbolTable();
             try
             {
-                VariableSymbolTableItem element = (VariableSymbolTableItem) structTable.getItem(VariableSymbolTableItem.START_KEY+varName);
+                VariableSymbolTableItem element = (VariableSymbolTableItem) structTable.getItem(VariableSymbolTableItem.key(structAccess.getElement().getId()));
                 return checkType(element);
             }
             catch (ItemNotFoundException ex)
             {
-                structAccess.addError(new StructMemberNotFound(structAccess.getLine(),structName,varName));
+                context.addError(structAccess, new StructMemberNotFound(structAccess.getLine(),structName,varName));
                 return new NoType();
             }
         }
@@ -357,7 +367,7 @@ private Type checkType(VariableSymbolTableItem id)
         }
         if(!(list instanceof NoType))
         {
-            listSize.addError(new GetSizeOfNonList(listSize.getLine()));
+            context.addError(listSize, new GetSizeOfNonList(listSize.getLine()));
         }
         return new NoType();
     }
@@ -367,12 +377,12 @@ private Type checkType(VariableSymbolTableItem id)
         Type listType = listAppend.getListArg().accept(this);
         if(!isStatement)
         {
-            listAppend.addError(new CantUseValueOfVoidFunction(listAppend.getLine()));
+            context.addError(listAppend, new CantUseValueOfVoidFunction(listAppend.getLine()));
         }
         isStatement = false;
         if(!(listType instanceof ListType) && !(listType instanceof NoType))
         {
-            listAppend.addError(new AppendToNonList(listAppend.getLine()));
+            context.addError(listAppend, new AppendToNonList(listAppend.getLine()));
             return new NoType();
         }
         Type listEl = listAppend.getElementArg().accept(this);
@@ -388,7 +398,7 @@ private Type checkType(VariableSymbolTableItem id)
         }
         if(!(listEls instanceof NoType))
         {
-            listAppend.addError(new NewElementTypeNotMatchListType(listAppend.getLine()));
+            context.addError(listAppend, new NewElementTypeNotMatchListType(listAppend.getLine()));
         }
         return new NoType();
     }
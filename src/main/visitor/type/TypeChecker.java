@@ -1,5 +1,6 @@
 package main.visitor.type;
 
+import main.CompilationContext;
 import main.ast.nodes.Node;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.Declaration;
@@ -16,6 +17,7 @@ import main.ast.types.primitives.IntType;
 import main.ast.types.primitives.VoidType;
 import main.compileError.typeError.*;
 import main.symbolTable.SymbolTable;
+import main.symbolTable.SymbolTableStack;
 import main.symbolTable.exceptions.ItemAlreadyExistsException;
 import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.StructSymbolTableItem;
@@ -30,19 +32,21 @@ class Scope {
 }
 
 public class TypeChecker extends Visitor<Void> {
+    private final CompilationContext context;
+    private final SymbolTableStack symbolTables;
     ExpressionTypeChecker expressionTypeChecker;
     Identifier RETID = new Identifier("#RETURN");
     Scope top = new Scope();
     Stack<Scope> scopes;
 
     private void addScope(SymbolTable pre){
-        SymbolTable.push(new SymbolTable(pre));
+        symbolTables.push(new SymbolTable(pre));
         top = new Scope();
         scopes.push(top);
     }
 
     private void removeScope() {
-        SymbolTable.pop();
+        symbolTables.pop();
         scopes.pop();
         top = scopes.peek();
     }
@@ -50,8 +54,10 @@ public class TypeChecker extends Visitor<Void> {
     boolean noDeclare = false;
     boolean typeError = false;
 
-    public TypeChecker() {
-        this.expressionTypeChecker = new ExpressionTypeChecker();
+    public TypeChecker(CompilationContext context) {
+        this.context = context;
+        this.symbolTables = context.getSymbolTables();
+        this.expressionTypeChecker = new ExpressionTypeChecker(context);
         this.scopes = new Stack<>();
         scopes.push(top);
     }
@@ -71,10 +77,10 @@ public class TypeChecker extends Visitor<Void> {
 
     private void checkType(StructType type, Node node) {
         try {
-            SymbolTable.root.getItem(StructSymbolTableItem.START_KEY + type.getStructName().getName());
+            symbolTables.root.getItem(StructSymbolTableItem.key(type.getStructNameId()));
         } catch (ItemNotFoundException e) {
             typeError = true;
-            node.addError(new StructNotDeclared(node.getLine(), type.getStructName().getName()));
+            context.addError(node, new StructNotDeclared(node.getLine(), type.getStructName().getName()));
         }
     }
 
@@ -93,7 +99,7 @@ public class TypeChecker extends Visitor<Void> {
 
     static boolean isEqual(StructType type1, StructType type2)
     {
-        return type1.getStructName().getName().equals(type2.getStructName().getName());
+        return type1.getStructNameId() == type2.getStructNameId();
     }
 
     static boolean isEqual(FptrType type1, FptrType type2)
@@ -145,13 +151,13 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(FunctionDeclaration functionDec) {
-        addScope(SymbolTable.root);
+        addScope(symbolTables.root);
         typeError = false;
         checkType(functionDec.getReturnType(), functionDec);
         var returnItem = new VariableSymbolTableItem(RETID);
         returnItem.setType(typeError ? new NoType() : functionDec.getReturnType());
         try {
-            SymbolTable.top.put(returnItem);
+            symbolTables.top.put(returnItem);
         } catch (ItemAlreadyExistsException ignore) {
         }
         for (VariableDeclaration arg : functionDec.getArgs()) {
@@ -160,7 +166,7 @@ public class TypeChecker extends Visitor<Void> {
         functionDec.getBody().accept(this);
         if(!(top.hasReturn || functionDec.getReturnType() instanceof VoidType))
         {
-            functionDec.addError(new MissingReturnStatement(functionDec.getLine(), functionDec.getFunctionName().getName()));
+            context.addError(functionDec, new MissingReturnStatement(functionDec.getLine(), functionDec.getFunctionName().getName()));
         }
         removeScope();
         return null;
@@ -168,9 +174,9 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(MainDeclaration mainDec) {
-        SymbolTable.push(new SymbolTable(SymbolTable.root));
+        symbolTables.push(new SymbolTable(symbolTables.root));
         mainDec.getBody().accept(this);
-        SymbolTable.pop();
+        symbolTables.pop();
         return null;
     }
 
@@ -181,7 +187,7 @@ public class TypeChecker extends Visitor<Void> {
         checkType(variableDec.getVarType(), variableDec);
         item.setType(typeError ? new NoType() : variableDec.getVarType());
         try {
-            SymbolTable.top.put(item);
+            symbolTables.top.put(item);
         } catch (ItemAlreadyExistsException ignore) {
         }
         return null;
@@ -189,14 +195,14 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(StructDeclaration structDec) {
-        SymbolTable.push(new SymbolTable(SymbolTable.root));
+        symbolTables.push(new SymbolTable(symbolTables.root));
         structDec.getBody().accept(this);
         try {
-            var structItem = SymbolTable.root.getItem(StructSymbolTableItem.START_KEY+structDec.getStructName().getName());
-            ((StructSymbolTableItem)structItem).setStructSymbolTable(SymbolTable.top);
+            var structItem = symbolTables.root.getItem(StructSymbolTableItem.key(structDec.getStructName().getId()));
+            ((StructSymbolTableItem)structItem).setStructSymbolTable(symbolTables.top);
         } catch (ItemNotFoundException ignore) {
         }
-        SymbolTable.pop();
+        symbolTables.pop();
         return null;
     }
 
@@ -208,24 +214,24 @@ public class TypeChecker extends Visitor<Void> {
         var item = new VariableSymbolTableItem(setGetVarDec.getVarName());
         item.setType(typeError ? new NoType() : setGetVarDec.getVarType());
         try {
-            SymbolTable.top.put(item);
+            symbolTables.top.put(item);
         } catch (ItemAlreadyExistsException ignore) {
         }
-        SymbolTable.push(new SymbolTable(SymbolTable.top));
+        symbolTables.push(new SymbolTable(symbolTables.top));
         for (VariableDeclaration arg : setGetVarDec.getArgs()) {
             arg.accept(this);
         }
         setGetVarDec.getSetterBody().accept(this);
-        SymbolTable.pop();
-        SymbolTable.push(new SymbolTable(SymbolTable.top));
+        symbolTables.pop();
+        symbolTables.push(new SymbolTable(symbolTables.top));
         var returnItem = new VariableSymbolTableItem(RETID);
         returnItem.setType(setGetVarDec.getVarType());
         try {
-            SymbolTable.top.put(returnItem);
+            symbolTables.top.put(returnItem);
         } catch (ItemAlreadyExistsException ignore) {
         }
         setGetVarDec.getGetterBody().accept(this);
-        SymbolTable.pop();
+        symbolTables.pop();
         //added this
         ArrayList<Type> args = new ArrayList<>();
         for(VariableDeclaration i: setGetVarDec.getArgs()){
@@ -233,7 +239,7 @@ public class TypeChecker extends Visitor<Void> {
         }
         item.setType(new FptrType(args, setGetVarDec.getVarType()));
         try {
-            SymbolTable.top.put(item);
+            symbolTables.top.put(item);
         } catch (ItemAlreadyExistsException ignore) {
         }
         noDeclare = false;
@@ -245,7 +251,7 @@ public class TypeChecker extends Visitor<Void> {
         var lexpr = assignmentStmt.getLValue();
         if (!(lexpr instanceof StructAccess || lexpr instanceof Identifier || lexpr instanceof ListAccessByIndex ||
                 (lexpr instanceof ExprInPar && ((ExprInPar) lexpr).getInputs().size() == 1))) {
-            assignmentStmt.addError(new LeftSideNotLvalue(lexpr.getLine()));
+            context.addError(assignmentStmt, new LeftSideNotLvalue(lexpr.getLine()));
         }
         expressionTypeChecker.setAsStatement();
         var ltype = assignmentStmt.getLValue().accept(expressionTypeChecker);
@@ -257,7 +263,7 @@ public class TypeChecker extends Visitor<Void> {
             if(isEqual(rfptr, ltype)) return null;
         }
         if (!isEqual(ltype, rtype) && !(ltype instanceof VoidType)) {
-            assignmentStmt.addError(new UnsupportedOperandType(assignmentStmt.getLine(), BinaryOperator.assign.toString()));
+            context.addError(assignmentStmt, new UnsupportedOperandType(assignmentStmt.getLine(), BinaryOperator.assign.toString()));
         }
         return null;
     }
@@ -274,15 +280,15 @@ public class TypeChecker extends Visitor<Void> {
     public Void visit(ConditionalStmt conditionalStmt) {
         var conditionType = conditionalStmt.getCondition().accept(expressionTypeChecker);
         if (!isEqual(conditionType, new BoolType())) {
-            conditionalStmt.addError(new ConditionNotBool(conditionalStmt.getCondition().getLine()));
+            context.addError(conditionalStmt, new ConditionNotBool(conditionalStmt.getCondition().getLine()));
         }
 
-        addScope(SymbolTable.top);
+        addScope(symbolTables.top);
         conditionalStmt.getThenBody().accept(this);
         var hasReturn = top.hasReturn;
         removeScope();
         if (conditionalStmt.getElseBody() != null) {
-            addScope(SymbolTable.top);
+            addScope(symbolTables.top);
             conditionalStmt.getElseBody().accept(this);
             hasReturn = top.hasReturn && hasReturn;
             removeScope();
@@ -305,7 +311,7 @@ public class TypeChecker extends Visitor<Void> {
     public Void visit(DisplayStmt displayStmt) {
         var type = mustBeValue(displayStmt.getArg());
         if (!(type instanceof BoolType || type instanceof IntType || type instanceof ListType || type instanceof NoType)) {
-            displayStmt.addError(new UnsupportedTypeForDisplay(displayStmt.getLine()));
+            context.addError(displayStmt, new UnsupportedTypeForDisplay(displayStmt.getLine()));
         }
         return null;
     }
@@ -330,16 +336,16 @@ public class TypeChecker extends Visitor<Void> {
             ((FptrType) retType).addArgType(new VoidType());
         }
         try {
-            item = (VariableSymbolTableItem) SymbolTable.top.getItem(VariableSymbolTableItem.START_KEY + RETID.getName());
+            item = (VariableSymbolTableItem) symbolTables.top.getItem(VariableSymbolTableItem.key(RETID.getId()));
         } catch (ItemNotFoundException ignore) {
-            returnStmt.addError(new CannotUseReturn(returnStmt.getLine()));
+            context.addError(returnStmt, new CannotUseReturn(returnStmt.getLine()));
             return null;
         }
         if (returnStmt.getReturnedExpr() == null && !(item.getType() instanceof VoidType)) {
-            returnStmt.addError(new ReturnValueNotMatchFunctionReturnType(returnStmt.getLine()));
+            context.addError(returnStmt, new ReturnValueNotMatchFunctionReturnType(returnStmt.getLine()));
         } else {
             if (!isEqual(retType, item.getType())) {
-                returnStmt.addError(new ReturnValueNotMatchFunctionReturnType(returnStmt.getLine()));
+                context.addError(returnStmt, new ReturnValueNotMatchFunctionReturnType(returnStmt.getLine()));
             }
         }
         return null;
@@ -349,9 +355,9 @@ public class TypeChecker extends Visitor<Void> {
     public Void visit(LoopStmt loopStmt) {
         var conditionType = loopStmt.getCondition().accept(expressionTypeChecker);
         if (!isEqual(conditionType, new BoolType())) {
-            loopStmt.addError(new ConditionNotBool(loopStmt.getCondition().getLine()));
+            context.addError(loopStmt, new ConditionNotBool(loopStmt.getCondition().getLine()));
         }
-        addScope(SymbolTable.top);
+        addScope(symbolTables.top);
         loopStmt.getBody().accept(this);
         removeScope();
         return null;
@@ -360,7 +366,7 @@ public class TypeChecker extends Visitor<Void> {
     @Override
     public Void visit(VarDecStmt varDecStmt) {
         if (noDeclare) {
-            varDecStmt.addError(new CannotUseDefineVar(varDecStmt.getLine()));
+            context.addError(varDecStmt, new CannotUseDefineVar(varDecStmt.getLine()));
         }
         for (VariableDeclaration var : varDecStmt.getVars()) {
             var item = new VariableSymbolTableItem(var.getVarName());
@@ -368,14 +374,14 @@ public class TypeChecker extends Visitor<Void> {
             checkType(var.getVarType(), varDecStmt);
             item.setType(typeError ? new NoType() : var.getVarType());
             try {
-                SymbolTable.top.put(item);
+                symbolTables.top.put(item);
             } catch (ItemAlreadyExistsException ignore) {
             }
             if (var.getDefaultValue() != null) {
                 var type = mustBeValue(var.getDefaultValue());
                 if (!isEqual(type, var.getVarType()) && !(type instanceof NoType)) {
-                    var.addError(new UnsupportedOperandType(var.getLine(), BinaryOperator.assign.toString()));
-                    var.addError(new UnsupportedOperandType(var.getLine(), BinaryOperator.assign.toString()));
+                    context.addError(var, new UnsupportedOperandType(var.getLine(), BinaryOperator.assign.toString()));
+                    context.addError(var, new UnsupportedOperandType(var.getLine(), BinaryOperator.assign.toString()));
                 }
             }
         }
@@ -0,0 +1,3927 @@
+// Generated from CmmSll.g4 by ANTLR 4.9.2
+package parsers;
+
+     import main.ast.nodes.*;
+     import main.ast.nodes.declaration.*;
+     import main.ast.nodes.declaration.struct.*;
+     import main.ast.nodes.expression.*;
+     import main.ast.nodes.expression.operators.*;
+     import main.ast.nodes.expression.values.*;
+     import main.ast.nodes.expression.values.primitive.*;
+     import main.ast.nodes.statement.*;
+     import main.ast.types.*;
+     import main.ast.types.primitives.*;
+     import java.util.*;
+ 
+
+     import main.ast.nodes.*;
+     import main.ast.nodes.declaration.*;
+     import main.ast.nodes.declaration.struct.*;
+     import main.ast.nodes.expression.*;
+     import main.ast.nodes.expression.operators.*;
+     import main.ast.nodes.expression.values.*;
+     import main.ast.nodes.expression.values.primitive.*;
+     import main.ast.nodes.statement.*;
+     import main.ast.types.*;
+     import main.ast.types.primitives.*;
+     import java.util.*;
+ 
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class CmmSllParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.9.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		MAIN=1, RETURN=2, VOID=3, SIZE=4, DISPLAY=5, APPEND=6, IF=7, ELSE=8, PLUS=9, 
+		MINUS=10, MULT=11, DIVIDE=12, EQUAL=13, ARROW=14, GREATER_THAN=15, LESS_THAN=16, 
+		AND=17, OR=18, NOT=19, TRUE=20, FALSE=21, BEGIN=22, END=23, INT=24, BOOL=25, 
+		LIST=26, STRUCT=27, FPTR=28, GET=29, SET=30, WHILE=31, DO=32, ASSIGN=33, 
+		SHARP=34, LPAR=35, RPAR=36, LBRACK=37, RBRACK=38, COMMA=39, DOT=40, SEMICOLON=41, 
+		NEWLINE=42, INT_VALUE=43, IDENTIFIER=44, COMMENT=45, WS=46;
+	public static final int
+		RULE_structBody = 0, RULE_blockStatement = 1, RULE_ifStatement = 2, RULE_cmm = 3, 
+		RULE_program = 4, RULE_main = 5, RULE_structDeclaration = 6, RULE_singleVarWithGetAndSet = 7, 
+		RULE_singleStatementStructBody = 8, RULE_getBody = 9, RULE_setBody = 10, 
+		RULE_functionDeclaration = 11, RULE_functionArgsDec = 12, RULE_functionArguments = 13, 
+		RULE_body = 14, RULE_loopCondBody = 15, RULE_varDecStatement = 16, RULE_functionCallStmt = 17, 
+		RULE_returnStatement = 18, RULE_elseStatement = 19, RULE_loopStatement = 20, 
+		RULE_whileLoopStatement = 21, RULE_doWhileLoopStatement = 22, RULE_displayStatement = 23, 
+		RULE_assignmentStatement = 24, RULE_singleStatement = 25, RULE_expression = 26, 
+		RULE_orExpression = 27, RULE_andExpression = 28, RULE_equalityExpression = 29, 
+		RULE_relationalExpression = 30, RULE_additiveExpression = 31, RULE_multiplicativeExpression = 32, 
+		RULE_preUnaryExpression = 33, RULE_accessExpression = 34, RULE_otherExpression = 35, 
+		RULE_size = 36, RULE_append = 37, RULE_value = 38, RULE_boolValue = 39, 
+		RULE_identifier = 40, RULE_type = 41, RULE_fptrType = 42;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"structBody", "blockStatement", "ifStatement", "cmm", "program", "main", 
+			"structDeclaration", "singleVarWithGetAndSet", "singleStatementStructBody", 
+			"getBody", "setBody", "functionDeclaration", "functionArgsDec", "functionArguments", 
+			"body", "loopCondBody", "varDecStatement", "functionCallStmt", "returnStatement", 
+			"elseStatement", "loopStatement", "whileLoopStatement", "doWhileLoopStatement", 
+			"displayStatement", "assignmentStatement", "singleStatement", "expression", 
+			"orExpression", "andExpression", "equalityExpression", "relationalExpression", 
+			"additiveExpression", "multiplicativeExpression", "preUnaryExpression", 
+			"accessExpression", "otherExpression", "size", "append", "value", "boolValue", 
+			"identifier", "type", "fptrType"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'main'", "'return'", "'void'", "'size'", "'display'", "'append'", 
+			"'if'", "'else'", "'+'", "'-'", "'*'", "'/'", "'=='", "'->'", "'>'", 
+			"'<'", "'&'", "'|'", "'~'", "'true'", "'false'", "'begin'", "'end'", 
+			"'int'", "'bool'", "'list'", "'struct'", "'fptr'", "'get'", "'set'", 
+			"'while'", "'do'", "'='", "'#'", "'('", "')'", "'['", "']'", "','", "'.'", 
+			"';'", "'\n'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "MAIN", "RETURN", "VOID", "SIZE", "DISPLAY", "APPEND", "IF", "ELSE", 
+			"PLUS", "MINUS", "MULT", "DIVIDE", "EQUAL", "ARROW", "GREATER_THAN", 
+			"LESS_THAN", "AND", "OR", "NOT", "TRUE", "FALSE", "BEGIN", "END", "INT", 
+			"BOOL", "LIST", "STRUCT", "FPTR", "GET", "SET", "WHILE", "DO", "ASSIGN", 
+			"SHARP", "LPAR", "RPAR", "LBRACK", "RBRACK", "COMMA", "DOT", "SEMICOLON", 
+			"NEWLINE", "INT_VALUE", "IDENTIFIER", "COMMENT", "WS"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "CmmSll.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public CmmSllParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	public static class StructBodyContext extends ParserRuleContext {
+		public BlockStmt structBodyRet;
+		public SingleStatementStructBodyContext s1;
+		public SingleStatementStructBodyContext s2;
+		public List<SingleStatementStructBodyContext> singleStatementStructBody() {
+			return getRuleContexts(SingleStatementStructBodyContext.class);
+		}
+		public SingleStatementStructBodyContext singleStatementStructBody(int i) {
+			return getRuleContext(SingleStatementStructBodyContext.class,i);
+		}
+		public List<TerminalNode> NEWLINE() { return getTokens(CmmSllParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(CmmSllParser.NEWLINE, i);
+		}
+		public List<TerminalNode> SEMICOLON() { return getTokens(CmmSllParser.SEMICOLON); }
+		public TerminalNode SEMICOLON(int i) {
+			return getToken(CmmSllParser.SEMICOLON, i);
+		}
+		public StructBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_structBody; }
+	}
+
+	public final StructBodyContext structBody() throws RecognitionException {
+		StructBodyContext _localctx = new StructBodyContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_structBody);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+
+			     ((StructBodyContext)_localctx).structBodyRet =  new BlockStmt();
+			    
+			setState(106); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					{
+					setState(88); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					do {
+						{
+						{
+						setState(87);
+						match(NEWLINE);
+						}
+						}
+						setState(90); 
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					} while ( _la==NEWLINE );
+					setState(92);
+					((StructBodyContext)_localctx).s1 = singleStatementStructBody();
+
+					    _localctx.structBodyRet.addStatement(((StructBodyContext)_localctx).s1.stmt);
+					    
+					setState(100);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,1,_ctx);
+					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+						if ( _alt==1 ) {
+							{
+							{
+							setState(94);
+							match(SEMICOLON);
+							setState(95);
+							((StructBodyContext)_localctx).s2 = singleStatementStructBody();
+
+							    _localctx.structBodyRet.addStatement(((StructBodyContext)_localctx).s2.stmt);
+							    
+							}
+							} 
+						}
+						setState(102);
+						_errHandler.sync(this);
+						_alt = getInterpreter().adaptivePredict(_input,1,_ctx);
+					}
+					setState(104);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==SEMICOLON) {
+						{
+						setState(103);
+						match(SEMICOLON);
+						}
+					}
+
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(108); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BlockStatementContext extends ParserRuleContext {
+		public BlockStmt blockStatementRet;
+		public Token b;
+		public SingleStatementContext s1;
+		public SingleStatementContext s2;
+		public TerminalNode END() { return getToken(CmmSllParser.END, 0); }
+		public TerminalNode BEGIN() { return getToken(CmmSllParser.BEGIN, 0); }
+		public List<TerminalNode> NEWLINE() { return getTokens(CmmSllParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(CmmSllParser.NEWLINE, i);
+		}
+		public List<SingleStatementContext> singleStatement() {
+			return getRuleContexts(SingleStatementContext.class);
+		}
+		public SingleStatementContext singleStatement(int i) {
+			return getRuleContext(SingleStatementContext.class,i);
+		}
+		public List<TerminalNode> SEMICOLON() { return getTokens(CmmSllParser.SEMICOLON); }
+		public TerminalNode SEMICOLON(int i) {
+			return getToken(CmmSllParser.SEMICOLON, i);
+		}
+		public BlockStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_blockStatement; }
+	}
+
+	public final BlockStatementContext blockStatement() throws RecognitionException {
+		BlockStatementContext _localctx = new BlockStatementContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_blockStatement);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			((BlockStatementContext)_localctx).blockStatementRet =  new BlockStmt();
+			setState(111);
+			((BlockStatementContext)_localctx).b = match(BEGIN);
+
+			    _localctx.blockStatementRet.setLine(((BlockStatementContext)_localctx).b.getLine());
+			    
+			setState(132); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					{
+					setState(114); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					do {
+						{
+						{
+						setState(113);
+						match(NEWLINE);
+						}
+						}
+						setState(116); 
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					} while ( _la==NEWLINE );
+					setState(118);
+					((BlockStatementContext)_localctx).s1 = singleStatement();
+
+					    _localctx.blockStatementRet.addStatement(((BlockStatementContext)_localctx).s1.singleStatementRet);
+					    
+					setState(126);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,5,_ctx);
+					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+						if ( _alt==1 ) {
+							{
+							{
+							setState(120);
+							match(SEMICOLON);
+							setState(121);
+							((BlockStatementContext)_localctx).s2 = singleStatement();
+
+							    _localctx.blockStatementRet.addStatement(((BlockStatementContext)_localctx).s2.singleStatementRet);
+							    
+							}
+							} 
+						}
+						setState(128);
+						_errHandler.sync(this);
+						_alt = getInterpreter().adaptivePredict(_input,5,_ctx);
+					}
+					setState(130);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==SEMICOLON) {
+						{
+						setState(129);
+						match(SEMICOLON);
+						}
+					}
+
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(134); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			setState(137); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(136);
+				match(NEWLINE);
+				}
+				}
+				setState(139); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==NEWLINE );
+			setState(141);
+			match(END);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IfStatementContext extends ParserRuleContext {
+		public ConditionalStmt ifStatementRet;
+		public Token cond;
+		public ExpressionContext exp;
+		public BlockStatementContext b;
+		public ElseStatementContext elsest1;
+		public SingleStatementContext s;
+		public ElseStatementContext elsest2;
+		public TerminalNode IF() { return getToken(CmmSllParser.IF, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public BlockStatementContext blockStatement() {
+			return getRuleContext(BlockStatementContext.class,0);
+		}
+		public SingleStatementContext singleStatement() {
+			return getRuleContext(SingleStatementContext.class,0);
+		}
+		public List<TerminalNode> NEWLINE() { return getTokens(CmmSllParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(CmmSllParser.NEWLINE, i);
+		}
+		public ElseStatementContext elseStatement() {
+			return getRuleContext(ElseStatementContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(CmmSllParser.SEMICOLON, 0); }
+		public IfStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ifStatement; }
+	}
+
+	public final IfStatementContext ifStatement() throws RecognitionException {
+		IfStatementContext _localctx = new IfStatementContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_ifStatement);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(143);
+			((IfStatementContext)_localctx).cond = match(IF);
+			setState(144);
+			((IfStatementContext)_localctx).exp = expression();
+			((IfStatementContext)_localctx).ifStatementRet =  new ConditionalStmt(((IfStatementContext)_localctx).exp.exprRet);
+			     _localctx.ifStatementRet.setLine(((IfStatementContext)_localctx).cond.getLine());
+			setState(168);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case BEGIN:
+				{
+				setState(146);
+				((IfStatementContext)_localctx).b = blockStatement();
+				_localctx.ifStatementRet.setThenBody(((IfStatementContext)_localctx).b.blockStatementRet);
+				setState(151);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
+				case 1:
+					{
+					setState(148);
+					((IfStatementContext)_localctx).elsest1 = elseStatement();
+					_localctx.ifStatementRet.setElseBody(((IfStatementContext)_localctx).elsest1.stmt);
+					}
+					break;
+				}
+				}
+				break;
+			case NEWLINE:
+				{
+				setState(154); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(153);
+					match(NEWLINE);
+					}
+					}
+					setState(156); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( _la==NEWLINE );
+				setState(158);
+				((IfStatementContext)_localctx).s = singleStatement();
+				_localctx.ifStatementRet.setThenBody(((IfStatementContext)_localctx).s.singleStatementRet);
+				setState(166);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
+				case 1:
+					{
+					setState(161);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==SEMICOLON) {
+						{
+						setState(160);
+						match(SEMICOLON);
+						}
+					}
+
+					setState(163);
+					((IfStatementContext)_localctx).elsest2 = elseStatement();
+					_localctx.ifStatementRet.setElseBody(((IfStatementContext)_localctx).elsest2.stmt);
+					}
+					break;
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CmmContext extends ParserRuleContext {
+		public Program cmmProgram;
+		public ProgramContext p;
+		public TerminalNode EOF() { return getToken(CmmSllParser.EOF, 0); }
+		public ProgramContext program() {
+			return getRuleContext(ProgramContext.class,0);
+		}
+		public List<TerminalNode> NEWLINE() { return getTokens(CmmSllParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(CmmSllParser.NEWLINE, i);
+		}
+		public CmmContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_cmm; }
+	}
+
+	public final CmmContext cmm() throws RecognitionException {
+		CmmContext _localctx = new CmmContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_cmm);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(173);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==NEWLINE) {
+				{
+				{
+				setState(170);
+				match(NEWLINE);
+				}
+				}
+				setState(175);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(176);
+			((CmmContext)_localctx).p = program();
+			((CmmContext)_localctx).cmmProgram =  ((CmmContext)_localctx).p.programRet;
+			setState(181);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==NEWLINE) {
+				{
+				{
+				setState(178);
+				match(NEWLINE);
+				}
+				}
+				setState(183);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(184);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ProgramContext extends ParserRuleContext {
+		public Program programRet;
+		public StructDeclarationContext s;
+		public FunctionDeclarationContext f;
+		public MainContext m;
+		public MainContext main() {
+			return getRuleContext(MainContext.class,0);
+		}
+		public List<StructDeclarationContext> structDeclaration() {
+			return getRuleContexts(StructDeclarationContext.class);
+		}
+		public StructDeclarationContext structDeclaration(int i) {
+			return getRuleContext(StructDeclarationContext.class,i);
+		}
+		public List<FunctionDeclarationContext> functionDeclaration() {
+			return getRuleContexts(FunctionDeclarationContext.class);
+		}
+		public FunctionDeclarationContext functionDeclaration(int i) {
+			return getRuleContext(FunctionDeclarationContext.class,i);
+		}
+		public ProgramContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_program; }
+	}
+
+	public final ProgramContext program() throws RecognitionException {
+		ProgramContext _localctx = new ProgramContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_program);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			((ProgramContext)_localctx).programRet =  new Program();
+			     _localctx.programRet.setLine(1);
+			setState(192);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,16,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(187);
+					((ProgramContext)_localctx).s = structDeclaration();
+					_localctx.programRet.addStruct(((ProgramContext)_localctx).s.structDeclarationRet);
+					}
+					} 
+				}
+				setState(194);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,16,_ctx);
+			}
+			setState(200);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << VOID) | (1L << INT) | (1L << BOOL) | (1L << LIST) | (1L << STRUCT) | (1L << FPTR))) != 0)) {
+				{
+				{
+				setState(195);
+				((ProgramContext)_localctx).f = functionDeclaration();
+				_localctx.programRet.addFunction(((ProgramContext)_localctx).f.functionDeclarationRet);
+				}
+				}
+				setState(202);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(203);
+			((ProgramContext)_localctx).m = main();
+			_localctx.programRet.setMain(((ProgramContext)_localctx).m.mainRet);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MainContext extends ParserRuleContext {
+		public MainDeclaration mainRet;
+		public Token m;
+		public BodyContext b;
+		public TerminalNode LPAR() { return getToken(CmmSllParser.LPAR, 0); }
+		public TerminalNode RPAR() { return getToken(CmmSllParser.RPAR, 0); }
+		public TerminalNode MAIN() { return getToken(CmmSllParser.MAIN, 0); }
+		public BodyContext body() {
+			return getRuleContext(BodyContext.class,0);
+		}
+		public MainContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_main; }
+	}
+
+	public final MainContext main() throws RecognitionException {
+		MainContext _localctx = new MainContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_main);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			((MainContext)_localctx).mainRet =  new MainDeclaration();
+			setState(207);
+			((MainContext)_localctx).m = match(MAIN);
+			setState(208);
+			match(LPAR);
+			setState(209);
+			match(RPAR);
+			setState(210);
+			((MainContext)_localctx).b = body();
+			_localctx.mainRet.setLine(((MainContext)_localctx).m.getLine());
+			     _localctx.mainRet.setBody(((MainContext)_localctx).b.bodyRet);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StructDeclarationContext extends ParserRuleContext {
+		public StructDeclaration structDeclarationRet;
+		public Token s;
+		public IdentifierContext id;
+		public Token b;
+		public StructBodyContext sb;
+		public SingleStatementStructBodyContext sss;
+		public TerminalNode STRUCT() { return getToken(CmmSllParser.STRUCT, 0); }
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public List<TerminalNode> NEWLINE() { return getTokens(CmmSllParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(CmmSllParser.NEWLINE, i);
+		}
+		public TerminalNode END() { return getToken(CmmSllParser.END, 0); }
+		public TerminalNode BEGIN() { return getToken(CmmSllParser.BEGIN, 0); }
+		public StructBodyContext structBody() {
+			return getRuleContext(StructBodyContext.class,0);
+		}
+		public SingleStatementStructBodyContext singleStatementStructBody() {
+			return getRuleContext(SingleStatementStructBodyContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(CmmSllParser.SEMICOLON, 0); }
+		public StructDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_structDeclaration; }
+	}
+
+	public final StructDeclarationContext structDeclaration() throws RecognitionException {
+		StructDeclarationContext _localctx = new StructDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_structDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			((StructDeclarationContext)_localctx).structDeclarationRet =  new StructDeclaration();
+			setState(214);
+			((StructDeclarationContext)_localctx).s = match(STRUCT);
+			setState(215);
+			((StructDeclarationContext)_localctx).id = identifier();
+
+			    _localctx.structDeclarationRet.setLine(((StructDeclarationContext)_localctx).s.getLine());
+			    _localctx.structDeclarationRet.setStructName(((StructDeclarationContext)_localctx).id.identifierRet);
+			    
+			setState(237);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case BEGIN:
+				{
+				{
+				setState(217);
+				((StructDeclarationContext)_localctx).b = match(BEGIN);
+				setState(218);
+				((StructDeclarationContext)_localctx).sb = structBody();
+
+				    ((StructDeclarationContext)_localctx).sb.structBodyRet.setLine(((StructDeclarationContext)_localctx).b.getLine());
+				    _localctx.structDeclarationRet.setBody(((StructDeclarationContext)_localctx).sb.structBodyRet);
+				    
+				setState(221); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(220);
+					match(NEWLINE);
+					}
+					}
+					setState(223); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( _la==NEWLINE );
+				setState(225);
+				match(END);
+				}
+				}
+				break;
+			case NEWLINE:
+				{
+				{
+				setState(228); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(227);
+					match(NEWLINE);
+					}
+					}
+					setState(230); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( _la==NEWLINE );
+				setState(232);
+				((StructDeclarationContext)_localctx).sss = singleStatementStructBody();
+
+				    _localctx.structDeclarationRet.setBody(((StructDeclarationContext)_localctx).sss.stmt);
+				    
+				setState(235);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==SEMICOLON) {
+					{
+					setState(234);
+					match(SEMICOLON);
+					}
+				}
+
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(240); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(239);
+				match(NEWLINE);
+				}
+				}
+				setState(242); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==NEWLINE );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SingleVarWithGetAndSetContext extends ParserRuleContext {
+		public SetGetVarDeclaration singleVarWithGetAndSetRet;
+		public TypeContext t;
+		public IdentifierContext id;
+		public FunctionArgsDecContext fa;
+		public SetBodyContext sb;
+		public GetBodyContext gb;
+		public TerminalNode BEGIN() { return getToken(CmmSllParser.BEGIN, 0); }
+		public TerminalNode END() { return getToken(CmmSllParser.END, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public FunctionArgsDecContext functionArgsDec() {
+			return getRuleContext(FunctionArgsDecContext.class,0);
+		}
+		public SetBodyContext setBody() {
+			return getRuleContext(SetBodyContext.class,0);
+		}
+		public GetBodyContext getBody() {
+			return getRuleContext(GetBodyContext.class,0);
+		}
+		public List<TerminalNode> NEWLINE() { return getTokens(CmmSllParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(CmmSllParser.NEWLINE, i);
+		}
+		public SingleVarWithGetAndSetContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_singleVarWithGetAndSet; }
+	}
+
+	public final SingleVarWithGetAndSetContext singleVarWithGetAndSet() throws RecognitionException {
+		SingleVarWithGetAndSetContext _localctx = new SingleVarWithGetAndSetContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_singleVarWithGetAndSet);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			((SingleVarWithGetAndSetContext)_localctx).singleVarWithGetAndSetRet =  new SetGetVarDeclaration();
+			setState(245);
+			((SingleVarWithGetAndSetContext)_localctx).t = type();
+			setState(246);
+			((SingleVarWithGetAndSetContext)_localctx).id = identifier();
+
+			    _localctx.singleVarWithGetAndSetRet.setLine(((SingleVarWithGetAndSetContext)_localctx).id.identifierRet.getLine());
+			    _localctx.singleVarWithGetAndSetRet.setVarName(((SingleVarWithGetAndSetContext)_localctx).id.identifierRet);
+			    _localctx.singleVarWithGetAndSetRet.setVarType(((SingleVarWithGetAndSetContext)_localctx).t.typeRet);
+			    
+			setState(248);
+			((SingleVarWithGetAndSetContext)_localctx).fa = functionArgsDec();
+
+			    ArrayList<VariableDeclaration> args = ((SingleVarWithGetAndSetContext)_localctx).fa.functionArgsDecRet;
+			    _localctx.singleVarWithGetAndSetRet.setArgs(args);
+			    
+			setState(250);
+			match(BEGIN);
+			setState(252); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(251);
+				match(NEWLINE);
+				}
+				}
+				setState(254); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==NEWLINE );
+			setState(256);
+			((SingleVarWithGetAndSetContext)_localctx).sb = setBody();
+
+			    _localctx.singleVarWithGetAndSetRet.setSetterBody(((SingleVarWithGetAndSetContext)_localctx).sb.setBodyRet);
+			    
+			setState(258);
+			((SingleVarWithGetAndSetContext)_localctx).gb = getBody();
+
+			    _localctx.singleVarWithGetAndSetRet.setGetterBody(((SingleVarWithGetAndSetContext)_localctx).gb.getBodyRet);
+			    
+			setState(260);
+			match(END);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SingleStatementStructBodyContext extends ParserRuleContext {
+		public Statement stmt;
+		public VarDecStatementContext v;
+		public SingleVarWithGetAndSetContext s;
+		public VarDecStatementContext varDecStatement() {
+			return getRuleContext(VarDecStatementContext.class,0);
+		}
+		public SingleVarWithGetAndSetContext singleVarWithGetAndSet() {
+			return getRuleContext(SingleVarWithGetAndSetContext.class,0);
+		}
+		public SingleStatementStructBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_singleStatementStructBody; }
+	}
+
+	public final SingleStatementStructBodyContext singleStatementStructBody() throws RecognitionException {
+		SingleStatementStructBodyContext _localctx = new SingleStatementStructBodyContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_singleStatementStructBody);
+		try {
+			setState(268);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,24,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(262);
+				((SingleStatementStructBodyContext)_localctx).v = varDecStatement();
+				((SingleStatementStructBodyContext)_localctx).stmt =  ((SingleStatementStructBodyContext)_localctx).v.varDecStatementRet;
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(265);
+				((SingleStatementStructBodyContext)_localctx).s = singleVarWithGetAndSet();
+				((SingleStatementStructBodyContext)_localctx).stmt =  ((SingleStatementStructBodyContext)_localctx).s.singleVarWithGetAndSetRet;
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class GetBodyContext extends ParserRuleContext {
+		public Statement getBodyRet;
+		public BodyContext b;
+		public TerminalNode GET() { return getToken(CmmSllParser.GET, 0); }
+		public BodyContext body() {
+			return getRuleContext(BodyContext.class,0);
+		}
+		public List<TerminalNode> NEWLINE() { return getTokens(CmmSllParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(CmmSllParser.NEWLINE, i);
+		}
+		public GetBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_getBody; }
+	}
+
+	public final GetBodyContext getBody() throws RecognitionException {
+		GetBodyContext _localctx = new GetBodyContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_getBody);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(270);
+			match(GET);
+			setState(271);
+			((GetBodyContext)_localctx).b = body();
+			((GetBodyContext)_localctx).getBodyRet =  ((GetBodyContext)_localctx).b.bodyRet;
+			setState(274); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(273);
+				match(NEWLINE);
+				}
+				}
+				setState(276); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==NEWLINE );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SetBodyContext extends ParserRuleContext {
+		public Statement setBodyRet;
+		public BodyContext b;
+		public TerminalNode SET() { return getToken(CmmSllParser.SET, 0); }
+		public BodyContext body() {
+			return getRuleContext(BodyContext.class,0);
+		}
+		public List<TerminalNode> NEWLINE() { return getTokens(CmmSllParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(CmmSllParser.NEWLINE, i);
+		}
+		public SetBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_setBody; }
+	}
+
+	public final SetBodyContext setBody() throws RecognitionException {
+		SetBodyContext _localctx = new SetBodyContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_setBody);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(278);
+			match(SET);
+			setState(279);
+			((SetBodyContext)_localctx).b = body();
+			((SetBodyContext)_localctx).setBodyRet =  ((SetBodyContext)_localctx).b.bodyRet;
+			setState(282); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(281);
+				match(NEWLINE);
+				}
+				}
+				setState(284); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==NEWLINE );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionDeclarationContext extends ParserRuleContext {
+		public FunctionDeclaration functionDeclarationRet;
+		public TypeContext t;
+		public IdentifierContext id;
+		public FunctionArgsDecContext f;
+		public BodyContext b;
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public FunctionArgsDecContext functionArgsDec() {
+			return getRuleContext(FunctionArgsDecContext.class,0);
+		}
+		public BodyContext body() {
+			return getRuleContext(BodyContext.class,0);
+		}
+		public TerminalNode VOID() { return getToken(CmmSllParser.VOID, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public List<TerminalNode> NEWLINE() { return getTokens(CmmSllParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(CmmSllParser.NEWLINE, i);
+		}
+		public FunctionDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_functionDeclaration; }
+	}
+
+	public final FunctionDeclarationContext functionDeclaration() throws RecognitionException {
+		FunctionDeclarationContext _localctx = new FunctionDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_functionDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			((FunctionDeclarationContext)_localctx).functionDeclarationRet =  new FunctionDeclaration();
+			setState(292);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case INT:
+			case BOOL:
+			case LIST:
+			case STRUCT:
+			case FPTR:
+				{
+				setState(287);
+				((FunctionDeclarationContext)_localctx).t = type();
+
+				    _localctx.functionDeclarationRet.setReturnType(((FunctionDeclarationContext)_localctx).t.typeRet);
+				    
+				}
+				break;
+			case VOID:
+				{
+				setState(290);
+				match(VOID);
+
+				    _localctx.functionDeclarationRet.setReturnType(new VoidType());
+				    
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(294);
+			((FunctionDeclarationContext)_localctx).id = identifier();
+			setState(295);
+			((FunctionDeclarationContext)_localctx).f = functionArgsDec();
+			setState(296);
+			((FunctionDeclarationContext)_localctx).b = body();
+
+			    _localctx.functionDeclarationRet.setLine(((FunctionDeclarationContext)_localctx).id.identifierRet.getLine());
+			    _localctx.functionDeclarationRet.setFunctionName(((FunctionDeclarationContext)_localctx).id.identifierRet);
+			    _localctx.functionDeclarationRet.setArgs(((FunctionDeclarationContext)_localctx).f.functionArgsDecRet);
+			    _localctx.functionDeclarationRet.setBody(((FunctionDeclarationContext)_localctx).b.bodyRet);
+			    
+			setState(299); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(298);
+				match(NEWLINE);
+				}
+				}
+				setState(301); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==NEWLINE );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionArgsDecContext extends ParserRuleContext {
+		public ArrayList<VariableDeclaration> functionArgsDecRet;
+		public TypeContext t1;
+		public IdentifierContext id1;
+		public TypeContext t2;
+		public IdentifierContext id2;
+		public TerminalNode LPAR() { return getToken(CmmSllParser.LPAR, 0); }
+		public TerminalNode RPAR() { return getToken(CmmSllParser.RPAR, 0); }
+		public List<TypeContext> type() {
+			return getRuleContexts(TypeContext.class);
+		}
+		public TypeContext type(int i) {
+			return getRuleContext(TypeContext.class,i);
+		}
+		public List<IdentifierContext> identifier() {
+			return getRuleContexts(IdentifierContext.class);
+		}
+		public IdentifierContext identifier(int i) {
+			return getRuleContext(IdentifierContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(CmmSllParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(CmmSllParser.COMMA, i);
+		}
+		public FunctionArgsDecContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_functionArgsDec; }
+	}
+
+	public final FunctionArgsDecContext functionArgsDec() throws RecognitionException {
+		FunctionArgsDecContext _localctx = new FunctionArgsDecContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_functionArgsDec);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			((FunctionArgsDecContext)_localctx).functionArgsDecRet =  new ArrayList<>();
+			setState(304);
+			match(LPAR);
+			setState(318);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << INT) | (1L << BOOL) | (1L << LIST) | (1L << STRUCT) | (1L << FPTR))) != 0)) {
+				{
+				setState(305);
+				((FunctionArgsDecContext)_localctx).t1 = type();
+				setState(306);
+				((FunctionArgsDecContext)_localctx).id1 = identifier();
+
+				    VariableDeclaration newVarDec = new VariableDeclaration(((FunctionArgsDecContext)_localctx).id1.identifierRet, ((FunctionArgsDecContext)_localctx).t1.typeRet);
+				    newVarDec.setLine(((FunctionArgsDecContext)_localctx).id1.identifierRet.getLine());
+				    _localctx.functionArgsDecRet.add(newVarDec);
+				    
+				setState(315);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(308);
+					match(COMMA);
+					setState(309);
+					((FunctionArgsDecContext)_localctx).t2 = type();
+					setState(310);
+					((FunctionArgsDecContext)_localctx).id2 = identifier();
+
+					    newVarDec = new VariableDeclaration(((FunctionArgsDecContext)_localctx).id2.identifierRet, ((FunctionArgsDecContext)_localctx).t2.typeRet);
+					    newVarDec.setLine(((FunctionArgsDecContext)_localctx).id2.identifierRet.getLine());
+					    _localctx.functionArgsDecRet.add(newVarDec); 
+					}
+					}
+					setState(317);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+			}
+
+			setState(320);
+			match(RPAR);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionArgumentsContext extends ParserRuleContext {
+		public ArrayList<Expression> funcArgRet;
+		public ExpressionContext exp1;
+		public ExpressionContext exp2;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(CmmSllParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(CmmSllParser.COMMA, i);
+		}
+		public FunctionArgumentsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_functionArguments; }
+	}
+
+	public final FunctionArgumentsContext functionArguments() throws RecognitionException {
+		FunctionArgumentsContext _localctx = new FunctionArgumentsContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_functionArguments);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			((FunctionArgumentsContext)_localctx).funcArgRet =  new ArrayList<>();
+			setState(334);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << SIZE) | (1L << APPEND) | (1L << MINUS) | (1L << NOT) | (1L << TRUE) | (1L << FALSE) | (1L << LPAR) | (1L << INT_VALUE) | (1L << IDENTIFIER))) != 0)) {
+				{
+				setState(323);
+				((FunctionArgumentsContext)_localctx).exp1 = expression();
+				_localctx.funcArgRet.add(((FunctionArgumentsContext)_localctx).exp1.exprRet);
+				setState(331);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(325);
+					match(COMMA);
+					setState(326);
+					((FunctionArgumentsContext)_localctx).exp2 = expression();
+					_localctx.funcArgRet.add(((FunctionArgumentsContext)_localctx).exp2.exprRet);
+					}
+					}
+					setState(333);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BodyContext extends ParserRuleContext {
+		public Statement bodyRet;
+		public BlockStatementContext b;
+		public SingleStatementContext s;
+		public BlockStatementContext blockStatement() {
+			return getRuleContext(BlockStatementContext.class,0);
+		}
+		public SingleStatementContext singleStatement() {
+			return getRuleContext(SingleStatementContext.class,0);
+		}
+		public List<TerminalNode> NEWLINE() { return getTokens(CmmSllParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(CmmSllParser.NEWLINE, i);
+		}
+		public TerminalNode SEMICOLON() { return getToken(CmmSllParser.SEMICOLON, 0); }
+		public BodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_body; }
+	}
+
+	public final BodyContext body() throws RecognitionException {
+		BodyContext _localctx = new BodyContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_body);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(349);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case BEGIN:
+				{
+				setState(336);
+				((BodyContext)_localctx).b = blockStatement();
+				((BodyContext)_localctx).bodyRet =  ((BodyContext)_localctx).b.blockStatementRet;
+				}
+				break;
+			case NEWLINE:
+				{
+				{
+				setState(340); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(339);
+					match(NEWLINE);
+					}
+					}
+					setState(342); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( _la==NEWLINE );
+				setState(344);
+				((BodyContext)_localctx).s = singleStatement();
+				((BodyContext)_localctx).bodyRet =  ((BodyContext)_localctx).s.singleStatementRet;
+				setState(347);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==SEMICOLON) {
+					{
+					setState(346);
+					match(SEMICOLON);
+					}
+				}
+
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LoopCondBodyContext extends ParserRuleContext {
+		public Statement stmtRet;
+		public BlockStatementContext b;
+		public SingleStatementContext s;
+		public BlockStatementContext blockStatement() {
+			return getRuleContext(BlockStatementContext.class,0);
+		}
+		public SingleStatementContext singleStatement() {
+			return getRuleContext(SingleStatementContext.class,0);
+		}
+		public List<TerminalNode> NEWLINE() { return getTokens(CmmSllParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(CmmSllParser.NEWLINE, i);
+		}
+		public LoopCondBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_loopCondBody; }
+	}
+
+	public final LoopCondBodyContext loopCondBody() throws RecognitionException {
+		LoopCondBodyContext _localctx = new LoopCondBodyContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_loopCondBody);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(362);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case BEGIN:
+				{
+				setState(351);
+				((LoopCondBodyContext)_localctx).b = blockStatement();
+				((LoopCondBodyContext)_localctx).stmtRet =  ((LoopCondBodyContext)_localctx).b.blockStatementRet;
+				}
+				break;
+			case NEWLINE:
+				{
+				{
+				setState(355); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(354);
+					match(NEWLINE);
+					}
+					}
+					setState(357); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( _la==NEWLINE );
+				setState(359);
+				((LoopCondBodyContext)_localctx).s = singleStatement();
+				((LoopCondBodyContext)_localctx).stmtRet =  ((LoopCondBodyContext)_localctx).s.singleStatementRet;
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VarDecStatementContext extends ParserRuleContext {
+		public VarDecStmt varDecStatementRet;
+		public TypeContext t;
+		public IdentifierContext id1;
+		public OrExpressionContext exp1;
+		public IdentifierContext id2;
+		public OrExpressionContext exp2;
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public List<IdentifierContext> identifier() {
+			return getRuleContexts(IdentifierContext.class);
+		}
+		public IdentifierContext identifier(int i) {
+			return getRuleContext(IdentifierContext.class,i);
+		}
+		public List<TerminalNode> ASSIGN() { return getTokens(CmmSllParser.ASSIGN); }
+		public TerminalNode ASSIGN(int i) {
+			return getToken(CmmSllParser.ASSIGN, i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(CmmSllParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(CmmSllParser.COMMA, i);
+		}
+		public List<OrExpressionContext> orExpression() {
+			return getRuleContexts(OrExpressionContext.class);
+		}
+		public OrExpressionContext orExpression(int i) {
+			return getRuleContext(OrExpressionContext.class,i);
+		}
+		public VarDecStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_varDecStatement; }
+	}
+
+	public final VarDecStatementContext varDecStatement() throws RecognitionException {
+		VarDecStatementContext _localctx = new VarDecStatementContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_varDecStatement);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			((VarDecStatementContext)_localctx).varDecStatementRet =  new VarDecStmt();
+			setState(365);
+			((VarDecStatementContext)_localctx).t = type();
+			setState(366);
+			((VarDecStatementContext)_localctx).id1 = identifier();
+
+			    VariableDeclaration newVarDec = new VariableDeclaration(((VarDecStatementContext)_localctx).id1.identifierRet, ((VarDecStatementContext)_localctx).t.typeRet);
+			    newVarDec.setLine(((VarDecStatementContext)_localctx).id1.identifierRet.getLine());
+			    _localctx.varDecStatementRet.setLine(newVarDec.getLine());
+			    
+			setState(372);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ASSIGN) {
+				{
+				setState(368);
+				match(ASSIGN);
+				setState(369);
+				((VarDecStatementContext)_localctx).exp1 = orExpression();
+				newVarDec.setDefaultValue(((VarDecStatementContext)_localctx).exp1.orExprRet);
+				}
+			}
+
+			_localctx.varDecStatementRet.addVar(newVarDec);
+			setState(388);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(375);
+				match(COMMA);
+				setState(376);
+				((VarDecStatementContext)_localctx).id2 = identifier();
+
+				    newVarDec = new VariableDeclaration(((VarDecStatementContext)_localctx).id2.identifierRet, ((VarDecStatementContext)_localctx).t.typeRet);
+				    newVarDec.setLine(((VarDecStatementContext)_localctx).id2.identifierRet.getLine());
+				    
+				setState(382);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==ASSIGN) {
+					{
+					setState(378);
+					match(ASSIGN);
+					setState(379);
+					((VarDecStatementContext)_localctx).exp2 = orExpression();
+					newVarDec.setDefaultValue(((VarDecStatementContext)_localctx).exp2.orExprRet);
+					}
+				}
+
+				_localctx.varDecStatementRet.addVar(newVarDec);
+				}
+				}
+				setState(390);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionCallStmtContext extends ParserRuleContext {
+		public FunctionCallStmt functionCallStmtRet;
+		public Expression expr;
+		public FunctionCall fcall;
+		public OtherExpressionContext oth;
+		public Token l;
+		public FunctionArgumentsContext f;
+		public IdentifierContext i;
+		public Token ll;
+		public FunctionArgumentsContext ff;
+		public OtherExpressionContext otherExpression() {
+			return getRuleContext(OtherExpressionContext.class,0);
+		}
+		public List<TerminalNode> RPAR() { return getTokens(CmmSllParser.RPAR); }
+		public TerminalNode RPAR(int i) {
+			return getToken(CmmSllParser.RPAR, i);
+		}
+		public List<TerminalNode> LPAR() { return getTokens(CmmSllParser.LPAR); }
+		public TerminalNode LPAR(int i) {
+			return getToken(CmmSllParser.LPAR, i);
+		}
+		public List<FunctionArgumentsContext> functionArguments() {
+			return getRuleContexts(FunctionArgumentsContext.class);
+		}
+		public FunctionArgumentsContext functionArguments(int i) {
+			return getRuleContext(FunctionArgumentsContext.class,i);
+		}
+		public List<TerminalNode> DOT() { return getTokens(CmmSllParser.DOT); }
+		public TerminalNode DOT(int i) {
+			return getToken(CmmSllParser.DOT, i);
+		}
+		public List<IdentifierContext> identifier() {
+			return getRuleContexts(IdentifierContext.class);
+		}
+		public IdentifierContext identifier(int i) {
+			return getRuleContext(IdentifierContext.class,i);
+		}
+		public FunctionCallStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_functionCallStmt; }
+	}
+
+	public final FunctionCallStmtContext functionCallStmt() throws RecognitionException {
+		FunctionCallStmtContext _localctx = new FunctionCallStmtContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_functionCallStmt);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(391);
+			((FunctionCallStmtContext)_localctx).oth = otherExpression();
+			((FunctionCallStmtContext)_localctx).expr =  ((FunctionCallStmtContext)_localctx).oth.expr;
+			setState(404);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,42,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					setState(402);
+					_errHandler.sync(this);
+					switch (_input.LA(1)) {
+					case LPAR:
+						{
+						{
+						setState(393);
+						((FunctionCallStmtContext)_localctx).l = match(LPAR);
+						setState(394);
+						((FunctionCallStmtContext)_localctx).f = functionArguments();
+						setState(395);
+						match(RPAR);
+						((FunctionCallStmtContext)_localctx).expr =  new FunctionCall(_localctx.expr, ((FunctionCallStmtContext)_localctx).f.funcArgRet);
+						      _localctx.expr.setLine(((FunctionCallStmtContext)_localctx).l.getLine());
+						}
+						}
+						break;
+					case DOT:
+						{
+						{
+						setState(398);
+						match(DOT);
+						setState(399);
+						((FunctionCallStmtContext)_localctx).i = identifier();
+						((FunctionCallStmtContext)_localctx).expr =  new StructAccess(_localctx.expr, ((FunctionCallStmtContext)_localctx).i.identifierRet);
+						       _localctx.expr.setLine(((FunctionCallStmtContext)_localctx).i.line);
+						}
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					} 
+				}
+				setState(406);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,42,_ctx);
+			}
+			{
+			setState(407);
+			((FunctionCallStmtContext)_localctx).ll = match(LPAR);
+			setState(408);
+			((FunctionCallStmtContext)_localctx).ff = functionArguments();
+			setState(409);
+			match(RPAR);
+			((FunctionCallStmtContext)_localctx).fcall =  new FunctionCall(_localctx.expr, ((FunctionCallStmtContext)_localctx).ff.funcArgRet);
+			      _localctx.fcall.setLine(((FunctionCallStmtContext)_localctx).ll.getLine());
+			}
+			((FunctionCallStmtContext)_localctx).functionCallStmtRet =  new FunctionCallStmt(_localctx.fcall);
+			      _localctx.functionCallStmtRet.setLine(_localctx.fcall.getLine());
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ReturnStatementContext extends ParserRuleContext {
+		public ReturnStmt returnStatementRet;
+		public Token r;
+		public ExpressionContext exp;
+		public TerminalNode RETURN() { return getToken(CmmSllParser.RETURN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ReturnStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_returnStatement; }
+	}
+
+	public final ReturnStatementContext returnStatement() throws RecognitionException {
+		ReturnStatementContext _localctx = new ReturnStatementContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_returnStatement);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			((ReturnStatementContext)_localctx).returnStatementRet =  new ReturnStmt();
+			setState(415);
+			((ReturnStatementContext)_localctx).r = match(RETURN);
+			_localctx.returnStatementRet.setLine(((ReturnStatementContext)_localctx).r.getLine());
+			setState(420);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << SIZE) | (1L << APPEND) | (1L << MINUS) | (1L << NOT) | (1L << TRUE) | (1L << FALSE) | (1L << LPAR) | (1L << INT_VALUE) | (1L << IDENTIFIER))) != 0)) {
+				{
+				setState(417);
+				((ReturnStatementContext)_localctx).exp = expression();
+				_localctx.returnStatementRet.setReturnedExpr(((ReturnStatementContext)_localctx).exp.exprRet);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ElseStatementContext extends ParserRuleContext {
+		public Statement stmt;
+		public LoopCondBodyContext bd;
+		public TerminalNode ELSE() { return getToken(CmmSllParser.ELSE, 0); }
+		public LoopCondBodyContext loopCondBody() {
+			return getRuleContext(LoopCondBodyContext.class,0);
+		}
+		public List<TerminalNode> NEWLINE() { return getTokens(CmmSllParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(CmmSllParser.NEWLINE, i);
+		}
+		public ElseStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_elseStatement; }
+	}
+
+	public final ElseStatementContext elseStatement() throws RecognitionException {
+		ElseStatementContext _localctx = new ElseStatementContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_elseStatement);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(425);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==NEWLINE) {
+				{
+				{
+				setState(422);
+				match(NEWLINE);
+				}
+				}
+				setState(427);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(428);
+			match(ELSE);
+			setState(429);
+			((ElseStatementContext)_localctx).bd = loopCondBody();
+			((ElseStatementContext)_localctx).stmt =  ((ElseStatementContext)_localctx).bd.stmtRet;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LoopStatementContext extends ParserRuleContext {
+		public LoopStmt loopStatementRet;
+		public WhileLoopStatementContext st1;
+		public DoWhileLoopStatementContext st2;
+		public WhileLoopStatementContext whileLoopStatement() {
+			return getRuleContext(WhileLoopStatementContext.class,0);
+		}
+		public DoWhileLoopStatementContext doWhileLoopStatement() {
+			return getRuleContext(DoWhileLoopStatementContext.class,0);
+		}
+		public LoopStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_loopStatement; }
+	}
+
+	public final LoopStatementContext loopStatement() throws RecognitionException {
+		LoopStatementContext _localctx = new LoopStatementContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_loopStatement);
+		try {
+			setState(438);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case WHILE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(432);
+				((LoopStatementContext)_localctx).st1 = whileLoopStatement();
+				((LoopStatementContext)_localctx).loopStatementRet =  ((LoopStatementContext)_localctx).st1.stmt;
+				}
+				break;
+			case DO:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(435);
+				((LoopStatementContext)_localctx).st2 = doWhileLoopStatement();
+				((LoopStatementContext)_localctx).loopStatementRet =  ((LoopStatementContext)_localctx).st2.stmt;
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WhileLoopStatementContext extends ParserRuleContext {
+		public LoopStmt stmt;
+		public Token w;
+		public ExpressionContext exp;
+		public LoopCondBodyContext bd;
+		public TerminalNode WHILE() { return getToken(CmmSllParser.WHILE, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public LoopCondBodyContext loopCondBody() {
+			return getRuleContext(LoopCondBodyContext.class,0);
+		}
+		public WhileLoopStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_whileLoopStatement; }
+	}
+
+	public final WhileLoopStatementContext whileLoopStatement() throws RecognitionException {
+		WhileLoopStatementContext _localctx = new WhileLoopStatementContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_whileLoopStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			((WhileLoopStatementContext)_localctx).stmt =  new LoopStmt();
+			setState(441);
+			((WhileLoopStatementContext)_localctx).w = match(WHILE);
+			setState(442);
+			((WhileLoopStatementContext)_localctx).exp = expression();
+			_localctx.stmt.setCondition(((WhileLoopStatementContext)_localctx).exp.exprRet);
+			     _localctx.stmt.setLine(((WhileLoopStatementContext)_localctx).w.getLine());
+			setState(444);
+			((WhileLoopStatementContext)_localctx).bd = loopCondBody();
+			_localctx.stmt.setBody(((WhileLoopStatementContext)_localctx).bd.stmtRet);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DoWhileLoopStatementContext extends ParserRuleContext {
+		public LoopStmt stmt;
+		public Token d;
+		public BodyContext bd;
+		public ExpressionContext exp;
+		public TerminalNode WHILE() { return getToken(CmmSllParser.WHILE, 0); }
+		public TerminalNode DO() { return getToken(CmmSllParser.DO, 0); }
+		public BodyContext body() {
+			return getRuleContext(BodyContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public List<TerminalNode> NEWLINE() { return getTokens(CmmSllParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(CmmSllParser.NEWLINE, i);
+		}
+		public DoWhileLoopStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_doWhileLoopStatement; }
+	}
+
+	public final DoWhileLoopStatementContext doWhileLoopStatement() throws RecognitionException {
+		DoWhileLoopStatementContext _localctx = new DoWhileLoopStatementContext(_ctx, getState());
+		enterRule(_localctx, 44, RULE_doWhileLoopStatement);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			((DoWhileLoopStatementContext)_localctx).stmt =  new LoopStmt();
+			setState(448);
+			((DoWhileLoopStatementContext)_localctx).d = match(DO);
+			setState(449);
+			((DoWhileLoopStatementContext)_localctx).bd = body();
+			_localctx.stmt.setBody(((DoWhileLoopStatementContext)_localctx).bd.bodyRet);
+			     _localctx.stmt.setLine(((DoWhileLoopStatementContext)_localctx).d.getLine());
+			setState(454);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==NEWLINE) {
+				{
+				{
+				setState(451);
+				match(NEWLINE);
+				}
+				}
+				setState(456);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(457);
+			match(WHILE);
+			setState(458);
+			((DoWhileLoopStatementContext)_localctx).exp = expression();
+			_localctx.stmt.setCondition(((DoWhileLoopStatementContext)_localctx).exp.exprRet);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DisplayStatementContext extends ParserRuleContext {
+		public DisplayStmt displayStatementRet;
+		public Token dis;
+		public ExpressionContext exp;
+		public TerminalNode LPAR() { return getToken(CmmSllParser.LPAR, 0); }
+		public TerminalNode RPAR() { return getToken(CmmSllParser.RPAR, 0); }
+		public TerminalNode DISPLAY() { return getToken(CmmSllParser.DISPLAY, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public DisplayStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_displayStatement; }
+	}
+
+	public final DisplayStatementContext displayStatement() throws RecognitionException {
+		DisplayStatementContext _localctx = new DisplayStatementContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_displayStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(461);
+			((DisplayStatementContext)_localctx).dis = match(DISPLAY);
+			setState(462);
+			match(LPAR);
+			setState(463);
+			((DisplayStatementContext)_localctx).exp = expression();
+			((DisplayStatementContext)_localctx).displayStatementRet =  new DisplayStmt(((DisplayStatementContext)_localctx).exp.exprRet);
+			   _localctx.displayStatementRet.setLine(((DisplayStatementContext)_localctx).dis.getLine());
+			setState(465);
+			match(RPAR);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AssignmentStatementContext extends ParserRuleContext {
+		public AssignmentStmt assignmentStatementRet;
+		public OrExpressionContext left;
+		public Token a;
+		public ExpressionContext right;
+		public OrExpressionContext orExpression() {
+			return getRuleContext(OrExpressionContext.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(CmmSllParser.ASSIGN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public AssignmentStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_assignmentStatement; }
+	}
+
+	public final AssignmentStatementContext assignmentStatement() throws RecognitionException {
+		AssignmentStatementContext _localctx = new AssignmentStatementContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_assignmentStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(467);
+			((AssignmentStatementContext)_localctx).left = orExpression();
+			setState(468);
+			((AssignmentStatementContext)_localctx).a = match(ASSIGN);
+			setState(469);
+			((AssignmentStatementContext)_localctx).right = expression();
+			((AssignmentStatementContext)_localctx).assignmentStatementRet =  new AssignmentStmt(((AssignmentStatementContext)_localctx).left.orExprRet, ((AssignmentStatementContext)_localctx).right.exprRet);
+			     _localctx.assignmentStatementRet.setLine(((AssignmentStatementContext)_localctx).a.getLine());
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SingleStatementContext extends ParserRuleContext {
+		public Statement singleStatementRet;
+		public IfStatementContext i;
+		public DisplayStatementContext d;
+		public FunctionCallStmtContext f;
+		public ReturnStatementContext r;
+		public AssignmentStatementContext a;
+		public VarDecStatementContext v;
+		public LoopStatementContext l;
+		public AppendContext ap;
+		public SizeContext s;
+		public IfStatementContext ifStatement() {
+			return getRuleContext(IfStatementContext.class,0);
+		}
+		public DisplayStatementContext displayStatement() {
+			return getRuleContext(DisplayStatementContext.class,0);
+		}
+		public FunctionCallStmtContext functionCallStmt() {
+			return getRuleContext(FunctionCallStmtContext.class,0);
+		}
+		public ReturnStatementContext returnStatement() {
+			return getRuleContext(ReturnStatementContext.class,0);
+		}
+		public AssignmentStatementContext assignmentStatement() {
+			return getRuleContext(AssignmentStatementContext.class,0);
+		}
+		public VarDecStatementContext varDecStatement() {
+			return getRuleContext(VarDecStatementContext.class,0);
+		}
+		public LoopStatementContext loopStatement() {
+			return getRuleContext(LoopStatementContext.class,0);
+		}
+		public AppendContext append() {
+			return getRuleContext(AppendContext.class,0);
+		}
+		public SizeContext size() {
+			return getRuleContext(SizeContext.class,0);
+		}
+		public SingleStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_singleStatement; }
+	}
+
+	public final SingleStatementContext singleStatement() throws RecognitionException {
+		SingleStatementContext _localctx = new SingleStatementContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_singleStatement);
+		try {
+			setState(499);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,47,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(472);
+				((SingleStatementContext)_localctx).i = ifStatement();
+				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).i.ifStatementRet;
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(475);
+				((SingleStatementContext)_localctx).d = displayStatement();
+				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).d.displayStatementRet;
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(478);
+				((SingleStatementContext)_localctx).f = functionCallStmt();
+				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).f.functionCallStmtRet;
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(481);
+				((SingleStatementContext)_localctx).r = returnStatement();
+				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).r.returnStatementRet;
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(484);
+				((SingleStatementContext)_localctx).a = assignmentStatement();
+				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).a.assignmentStatementRet;
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(487);
+				((SingleStatementContext)_localctx).v = varDecStatement();
+				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).v.varDecStatementRet;
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(490);
+				((SingleStatementContext)_localctx).l = loopStatement();
+				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).l.loopStatementRet;
+				}
+				break;
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(493);
+				((SingleStatementContext)_localctx).ap = append();
+				ListAppendStmt listAppend = new ListAppendStmt(((SingleStatementContext)_localctx).ap.appendRet);
+				     listAppend.setLine(((SingleStatementContext)_localctx).ap.line);
+				     ((SingleStatementContext)_localctx).singleStatementRet =  listAppend;
+				}
+				break;
+			case 9:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(496);
+				((SingleStatementContext)_localctx).s = size();
+				ListSizeStmt listSize = new ListSizeStmt(((SingleStatementContext)_localctx).s.sizeRet);
+				     listSize.setLine(((SingleStatementContext)_localctx).s.line);
+				     ((SingleStatementContext)_localctx).singleStatementRet =  listSize;
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionContext extends ParserRuleContext {
+		public Expression exprRet;
+		public OrExpressionContext expl;
+		public Token op;
+		public ExpressionContext expr;
+		public OrExpressionContext orExpression() {
+			return getRuleContext(OrExpressionContext.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(CmmSllParser.ASSIGN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expression; }
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
+		enterRule(_localctx, 52, RULE_expression);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(501);
+			((ExpressionContext)_localctx).expl = orExpression();
+			((ExpressionContext)_localctx).exprRet =  ((ExpressionContext)_localctx).expl.orExprRet;
+			setState(507);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ASSIGN) {
+				{
+				setState(503);
+				((ExpressionContext)_localctx).op = match(ASSIGN);
+				setState(504);
+				((ExpressionContext)_localctx).expr = expression();
+
+				        BinaryOperator opr = BinaryOperator.assign;
+				        ((ExpressionContext)_localctx).exprRet =  new BinaryExpression(((ExpressionContext)_localctx).expl.orExprRet, ((ExpressionContext)_localctx).expr.exprRet, opr);
+				        _localctx.exprRet.setLine(((ExpressionContext)_localctx).op.getLine());
+				    
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OrExpressionContext extends ParserRuleContext {
+		public Expression orExprRet;
+		public AndExpressionContext expl;
+		public Token op;
+		public AndExpressionContext expr;
+		public List<AndExpressionContext> andExpression() {
+			return getRuleContexts(AndExpressionContext.class);
+		}
+		public AndExpressionContext andExpression(int i) {
+			return getRuleContext(AndExpressionContext.class,i);
+		}
+		public List<TerminalNode> OR() { return getTokens(CmmSllParser.OR); }
+		public TerminalNode OR(int i) {
+			return getToken(CmmSllParser.OR, i);
+		}
+		public OrExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_orExpression; }
+	}
+
+	public final OrExpressionContext orExpression() throws RecognitionException {
+		OrExpressionContext _localctx = new OrExpressionContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_orExpression);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(509);
+			((OrExpressionContext)_localctx).expl = andExpression();
+			((OrExpressionContext)_localctx).orExprRet =  ((OrExpressionContext)_localctx).expl.andExprRet;
+			setState(517);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==OR) {
+				{
+				{
+				setState(511);
+				((OrExpressionContext)_localctx).op = match(OR);
+				setState(512);
+				((OrExpressionContext)_localctx).expr = andExpression();
+
+				        BinaryOperator opr = BinaryOperator.or;
+				        ((OrExpressionContext)_localctx).orExprRet =  new BinaryExpression(((OrExpressionContext)_localctx).expl.andExprRet, ((OrExpressionContext)_localctx).expr.andExprRet, opr);
+				        _localctx.orExprRet.setLine(((OrExpressionContext)_localctx).op.getLine());
+				    
+				}
+				}
+				setState(519);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AndExpressionContext extends ParserRuleContext {
+		public Expression andExprRet;
+		public EqualityExpressionContext expl;
+		public Token op;
+		public EqualityExpressionContext expr;
+		public List<EqualityExpressionContext> equalityExpression() {
+			return getRuleContexts(EqualityExpressionContext.class);
+		}
+		public EqualityExpressionContext equalityExpression(int i) {
+			return getRuleContext(EqualityExpressionContext.class,i);
+		}
+		public List<TerminalNode> AND() { return getTokens(CmmSllParser.AND); }
+		public TerminalNode AND(int i) {
+			return getToken(CmmSllParser.AND, i);
+		}
+		public AndExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_andExpression; }
+	}
+
+	public final AndExpressionContext andExpression() throws RecognitionException {
+		AndExpressionContext _localctx = new AndExpressionContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_andExpression);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(520);
+			((AndExpressionContext)_localctx).expl = equalityExpression();
+			((AndExpressionContext)_localctx).andExprRet =  ((AndExpressionContext)_localctx).expl.equalityExprRet;
+			setState(528);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AND) {
+				{
+				{
+				setState(522);
+				((AndExpressionContext)_localctx).op = match(AND);
+				setState(523);
+				((AndExpressionContext)_localctx).expr = equalityExpression();
+
+				        BinaryOperator opr = BinaryOperator.and;
+				        ((AndExpressionContext)_localctx).andExprRet =  new BinaryExpression(_localctx.andExprRet, ((AndExpressionContext)_localctx).expr.equalityExprRet, opr);
+				        _localctx.andExprRet.setLine(((AndExpressionContext)_localctx).op.getLine());
+				    
+				}
+				}
+				setState(530);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EqualityExpressionContext extends ParserRuleContext {
+		public Expression equalityExprRet;
+		public RelationalExpressionContext expl;
+		public Token op;
+		public RelationalExpressionContext expr;
+		public List<RelationalExpressionContext> relationalExpression() {
+			return getRuleContexts(RelationalExpressionContext.class);
+		}
+		public RelationalExpressionContext relationalExpression(int i) {
+			return getRuleContext(RelationalExpressionContext.class,i);
+		}
+		public List<TerminalNode> EQUAL() { return getTokens(CmmSllParser.EQUAL); }
+		public TerminalNode EQUAL(int i) {
+			return getToken(CmmSllParser.EQUAL, i);
+		}
+		public EqualityExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_equalityExpression; }
+	}
+
+	public final EqualityExpressionContext equalityExpression() throws RecognitionException {
+		EqualityExpressionContext _localctx = new EqualityExpressionContext(_ctx, getState());
+		enterRule(_localctx, 58, RULE_equalityExpression);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(531);
+			((EqualityExpressionContext)_localctx).expl = relationalExpression();
+			((EqualityExpressionContext)_localctx).equalityExprRet =  ((EqualityExpressionContext)_localctx).expl.relationalExprRet;
+			setState(539);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==EQUAL) {
+				{
+				{
+				setState(533);
+				((EqualityExpressionContext)_localctx).op = match(EQUAL);
+				setState(534);
+				((EqualityExpressionContext)_localctx).expr = relationalExpression();
+
+				        BinaryOperator opr = BinaryOperator.eq;
+				        ((EqualityExpressionContext)_localctx).equalityExprRet =  new BinaryExpression(_localctx.equalityExprRet, ((EqualityExpressionContext)_localctx).expr.relationalExprRet, opr);
+				        _localctx.equalityExprRet.setLine(((EqualityExpressionContext)_localctx).op.getLine());
+				    
+				}
+				}
+				setState(541);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RelationalExpressionContext extends ParserRuleContext {
+		public Expression relationalExprRet;
+		public BinaryOperator op;
+		public int line;
+		public AdditiveExpressionContext l;
+		public Token op1;
+		public Token op2;
+		public AdditiveExpressionContext r;
+		public List<AdditiveExpressionContext> additiveExpression() {
+			return getRuleContexts(AdditiveExpressionContext.class);
+		}
+		public AdditiveExpressionContext additiveExpression(int i) {
+			return getRuleContext(AdditiveExpressionContext.class,i);
+		}
+		public List<TerminalNode> GREATER_THAN() { return getTokens(CmmSllParser.GREATER_THAN); }
+		public TerminalNode GREATER_THAN(int i) {
+			return getToken(CmmSllParser.GREATER_THAN, i);
+		}
+		public List<TerminalNode> LESS_THAN() { return getTokens(CmmSllParser.LESS_THAN); }
+		public TerminalNode LESS_THAN(int i) {
+			return getToken(CmmSllParser.LESS_THAN, i);
+		}
+		public RelationalExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_relationalExpression; }
+	}
+
+	public final RelationalExpressionContext relationalExpression() throws RecognitionException {
+		RelationalExpressionContext _localctx = new RelationalExpressionContext(_ctx, getState());
+		enterRule(_localctx, 60, RULE_relationalExpression);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(542);
+			((RelationalExpressionContext)_localctx).l = additiveExpression();
+			((RelationalExpressionContext)_localctx).relationalExprRet =  ((RelationalExpressionContext)_localctx).l.expr;
+			setState(555);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==GREATER_THAN || _la==LESS_THAN) {
+				{
+				{
+				setState(548);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case GREATER_THAN:
+					{
+					setState(544);
+					((RelationalExpressionContext)_localctx).op1 = match(GREATER_THAN);
+					((RelationalExpressionContext)_localctx).op =  BinaryOperator.gt;
+					    ((RelationalExpressionContext)_localctx).line =  ((RelationalExpressionContext)_localctx).op1.getLine();
+					}
+					break;
+				case LESS_THAN:
+					{
+					setState(546);
+					((RelationalExpressionContext)_localctx).op2 = match(LESS_THAN);
+					((RelationalExpressionContext)_localctx).op =  BinaryOperator.lt;
+					     ((RelationalExpressionContext)_localctx).line =  ((RelationalExpressionContext)_localctx).op2.getLine();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(550);
+				((RelationalExpressionContext)_localctx).r = additiveExpression();
+				((RelationalExpressionContext)_localctx).relationalExprRet =  new BinaryExpression(_localctx.relationalExprRet,((RelationalExpressionContext)_localctx).r.expr,_localctx.op);
+				     _localctx.relationalExprRet.setLine(_localctx.line);
+				}
+				}
+				setState(557);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AdditiveExpressionContext extends ParserRuleContext {
+		public Expression expr;
+		public BinaryOperator op;
+		public int line;
+		public MultiplicativeExpressionContext l;
+		public Token op1;
+		public Token op2;
+		public MultiplicativeExpressionContext r;
+		public List<MultiplicativeExpressionContext> multiplicativeExpression() {
+			return getRuleContexts(MultiplicativeExpressionContext.class);
+		}
+		public MultiplicativeExpressionContext multiplicativeExpression(int i) {
+			return getRuleContext(MultiplicativeExpressionContext.class,i);
+		}
+		public List<TerminalNode> PLUS() { return getTokens(CmmSllParser.PLUS); }
+		public TerminalNode PLUS(int i) {
+			return getToken(CmmSllParser.PLUS, i);
+		}
+		public List<TerminalNode> MINUS() { return getTokens(CmmSllParser.MINUS); }
+		public TerminalNode MINUS(int i) {
+			return getToken(CmmSllParser.MINUS, i);
+		}
+		public AdditiveExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_additiveExpression; }
+	}
+
+	public final AdditiveExpressionContext additiveExpression() throws RecognitionException {
+		AdditiveExpressionContext _localctx = new AdditiveExpressionContext(_ctx, getState());
+		enterRule(_localctx, 62, RULE_additiveExpression);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(558);
+			((AdditiveExpressionContext)_localctx).l = multiplicativeExpression();
+			((AdditiveExpressionContext)_localctx).expr =  ((AdditiveExpressionContext)_localctx).l.expr;
+			setState(571);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==PLUS || _la==MINUS) {
+				{
+				{
+				setState(564);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case PLUS:
+					{
+					setState(560);
+					((AdditiveExpressionContext)_localctx).op1 = match(PLUS);
+					((AdditiveExpressionContext)_localctx).op =  BinaryOperator.add;
+					     ((AdditiveExpressionContext)_localctx).line =  ((AdditiveExpressionContext)_localctx).op1.getLine();
+					}
+					break;
+				case MINUS:
+					{
+					setState(562);
+					((AdditiveExpressionContext)_localctx).op2 = match(MINUS);
+					((AdditiveExpressionContext)_localctx).op =  BinaryOperator.sub;
+					     ((AdditiveExpressionContext)_localctx).line =  ((AdditiveExpressionContext)_localctx).op2.getLine();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(566);
+				((AdditiveExpressionContext)_localctx).r = multiplicativeExpression();
+				((AdditiveExpressionContext)_localctx).expr =  new BinaryExpression(_localctx.expr,((AdditiveExpressionContext)_localctx).r.expr,_localctx.op);
+				     _localctx.expr.setLine(_localctx.line);
+				}
+				}
+				setState(573);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MultiplicativeExpressionContext extends ParserRuleContext {
+		public Expression expr;
+		public BinaryOperator op;
+		public int line;
+		public PreUnaryExpressionContext l;
+		public Token op1;
+		public Token op2;
+		public PreUnaryExpressionContext r;
+		public List<PreUnaryExpressionContext> preUnaryExpression() {
+			return getRuleContexts(PreUnaryExpressionContext.class);
+		}
+		public PreUnaryExpressionContext preUnaryExpression(int i) {
+			return getRuleContext(PreUnaryExpressionContext.class,i);
+		}
+		public List<TerminalNode> MULT() { return getTokens(CmmSllParser.MULT); }
+		public TerminalNode MULT(int i) {
+			return getToken(CmmSllParser.MULT, i);
+		}
+		public List<TerminalNode> DIVIDE() { return getTokens(CmmSllParser.DIVIDE); }
+		public TerminalNode DIVIDE(int i) {
+			return getToken(CmmSllParser.DIVIDE, i);
+		}
+		public MultiplicativeExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_multiplicativeExpression; }
+	}
+
+	public final MultiplicativeExpressionContext multiplicativeExpression() throws RecognitionException {
+		MultiplicativeExpressionContext _localctx = new MultiplicativeExpressionContext(_ctx, getState());
+		enterRule(_localctx, 64, RULE_multiplicativeExpression);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(574);
+			((MultiplicativeExpressionContext)_localctx).l = preUnaryExpression();
+			((MultiplicativeExpressionContext)_localctx).expr =  ((MultiplicativeExpressionContext)_localctx).l.expr;
+			setState(587);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==MULT || _la==DIVIDE) {
+				{
+				{
+				setState(580);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case MULT:
+					{
+					setState(576);
+					((MultiplicativeExpressionContext)_localctx).op1 = match(MULT);
+					((MultiplicativeExpressionContext)_localctx).op =  BinaryOperator.mult;
+					     ((MultiplicativeExpressionContext)_localctx).line =  ((MultiplicativeExpressionContext)_localctx).op1.getLine();
+					}
+					break;
+				case DIVIDE:
+					{
+					setState(578);
+					((MultiplicativeExpressionContext)_localctx).op2 = match(DIVIDE);
+					((MultiplicativeExpressionContext)_localctx).op =  BinaryOperator.div;
+					     ((MultiplicativeExpressionContext)_localctx).line =  ((MultiplicativeExpressionContext)_localctx).op2.getLine();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(582);
+				((MultiplicativeExpressionContext)_localctx).r = preUnaryExpression();
+				((MultiplicativeExpressionContext)_localctx).expr =  new BinaryExpression(_localctx.expr,((MultiplicativeExpressionContext)_localctx).r.expr,_localctx.op);
+				    _localctx.expr.setLine(_localctx.line);
+				}
+				}
+				setState(589);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PreUnaryExpressionContext extends ParserRuleContext {
+		public Expression expr;
+		public UnaryOperator op;
+		public int line;
+		public Token op1;
+		public Token op2;
+		public PreUnaryExpressionContext pre;
+		public AccessExpressionContext ac;
+		public PreUnaryExpressionContext preUnaryExpression() {
+			return getRuleContext(PreUnaryExpressionContext.class,0);
+		}
+		public TerminalNode NOT() { return getToken(CmmSllParser.NOT, 0); }
+		public TerminalNode MINUS() { return getToken(CmmSllParser.MINUS, 0); }
+		public AccessExpressionContext accessExpression() {
+			return getRuleContext(AccessExpressionContext.class,0);
+		}
+		public PreUnaryExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_preUnaryExpression; }
+	}
+
+	public final PreUnaryExpressionContext preUnaryExpression() throws RecognitionException {
+		PreUnaryExpressionContext _localctx = new PreUnaryExpressionContext(_ctx, getState());
+		enterRule(_localctx, 66, RULE_preUnaryExpression);
+		try {
+			setState(602);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case MINUS:
+			case NOT:
+				enterOuterAlt(_localctx, 1);
+				{
+				{
+				setState(594);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case NOT:
+					{
+					setState(590);
+					((PreUnaryExpressionContext)_localctx).op1 = match(NOT);
+					((PreUnaryExpressionContext)_localctx).op =  UnaryOperator.not;
+					     ((PreUnaryExpressionContext)_localctx).line =  ((PreUnaryExpressionContext)_localctx).op1.getLine();
+					}
+					break;
+				case MINUS:
+					{
+					setState(592);
+					((PreUnaryExpressionContext)_localctx).op2 = match(MINUS);
+					((PreUnaryExpressionContext)_localctx).op =  UnaryOperator.minus;
+					     ((PreUnaryExpressionContext)_localctx).line =  ((PreUnaryExpressionContext)_localctx).op2.getLine();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(596);
+				((PreUnaryExpressionContext)_localctx).pre = preUnaryExpression();
+				((PreUnaryExpressionContext)_localctx).expr =  new UnaryExpression(((PreUnaryExpressionContext)_localctx).pre.expr, _localctx.op);
+				     _localctx.expr.setLine(_localctx.line);
+				}
+				}
+				break;
+			case SIZE:
+			case APPEND:
+			case TRUE:
+			case FALSE:
+			case LPAR:
+			case INT_VALUE:
+			case IDENTIFIER:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(599);
+				((PreUnaryExpressionContext)_localctx).ac = accessExpression();
+				((PreUnaryExpressionContext)_localctx).expr =  ((PreUnaryExpressionContext)_localctx).ac.expr;
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AccessExpressionContext extends ParserRuleContext {
+		public Expression expr;
+		public OtherExpressionContext oth;
+		public Token l;
+		public FunctionArgumentsContext f;
+		public IdentifierContext i;
+		public ExpressionContext ex;
+		public OtherExpressionContext otherExpression() {
+			return getRuleContext(OtherExpressionContext.class,0);
+		}
+		public List<TerminalNode> RPAR() { return getTokens(CmmSllParser.RPAR); }
+		public TerminalNode RPAR(int i) {
+			return getToken(CmmSllParser.RPAR, i);
+		}
+		public List<TerminalNode> DOT() { return getTokens(CmmSllParser.DOT); }
+		public TerminalNode DOT(int i) {
+			return getToken(CmmSllParser.DOT, i);
+		}
+		public List<TerminalNode> RBRACK() { return getTokens(CmmSllParser.RBRACK); }
+		public TerminalNode RBRACK(int i) {
+			return getToken(CmmSllParser.RBRACK, i);
+		}
+		public List<TerminalNode> LPAR() { return getTokens(CmmSllParser.LPAR); }
+		public TerminalNode LPAR(int i) {
+			return getToken(CmmSllParser.LPAR, i);
+		}
+		public List<FunctionArgumentsContext> functionArguments() {
+			return getRuleContexts(FunctionArgumentsContext.class);
+		}
+		public FunctionArgumentsContext functionArguments(int i) {
+			return getRuleContext(FunctionArgumentsContext.class,i);
+		}
+		public List<IdentifierContext> identifier() {
+			return getRuleContexts(IdentifierContext.class);
+		}
+		public IdentifierContext identifier(int i) {
+			return getRuleContext(IdentifierContext.class,i);
+		}
+		public List<TerminalNode> LBRACK() { return getTokens(CmmSllParser.LBRACK); }
+		public TerminalNode LBRACK(int i) {
+			return getToken(CmmSllParser.LBRACK, i);
+		}
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public AccessExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_accessExpression; }
+	}
+
+	public final AccessExpressionContext accessExpression() throws RecognitionException {
+		AccessExpressionContext _localctx = new AccessExpressionContext(_ctx, getState());
+		enterRule(_localctx, 68, RULE_accessExpression);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(604);
+			((AccessExpressionContext)_localctx).oth = otherExpression();
+			((AccessExpressionContext)_localctx).expr =  ((AccessExpressionContext)_localctx).oth.expr;
+			setState(617);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,61,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					setState(615);
+					_errHandler.sync(this);
+					switch (_input.LA(1)) {
+					case LPAR:
+						{
+						{
+						setState(606);
+						((AccessExpressionContext)_localctx).l = match(LPAR);
+						setState(607);
+						((AccessExpressionContext)_localctx).f = functionArguments();
+						((AccessExpressionContext)_localctx).expr =  new FunctionCall(_localctx.expr, ((AccessExpressionContext)_localctx).f.funcArgRet);
+						     _localctx.expr.setLine(((AccessExpressionContext)_localctx).l.getLine());
+						setState(609);
+						match(RPAR);
+						}
+						}
+						break;
+					case DOT:
+						{
+						{
+						setState(611);
+						match(DOT);
+						setState(612);
+						((AccessExpressionContext)_localctx).i = identifier();
+						((AccessExpressionContext)_localctx).expr =  new StructAccess(_localctx.expr, ((AccessExpressionContext)_localctx).i.identifierRet);
+						     _localctx.expr.setLine(((AccessExpressionContext)_localctx).i.line);
+						}
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					} 
+				}
+				setState(619);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,61,_ctx);
+			}
+			setState(631);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==LBRACK || _la==DOT) {
+				{
+				setState(629);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case LBRACK:
+					{
+					{
+					setState(620);
+					((AccessExpressionContext)_localctx).l = match(LBRACK);
+					setState(621);
+					((AccessExpressionContext)_localctx).ex = expression();
+					((AccessExpressionContext)_localctx).expr =  new ListAccessByIndex(_localctx.expr, ((AccessExpressionContext)_localctx).ex.exprRet);
+					     _localctx.expr.setLine(((AccessExpressionContext)_localctx).l.getLine());
+					setState(623);
+					match(RBRACK);
+					}
+					}
+					break;
+				case DOT:
+					{
+					{
+					setState(625);
+					match(DOT);
+					setState(626);
+					((AccessExpressionContext)_localctx).i = identifier();
+					((AccessExpressionContext)_localctx).expr =  new StructAccess(_localctx.expr, ((AccessExpressionContext)_localctx).i.identifierRet);
+					     _localctx.expr.setLine(((AccessExpressionContext)_localctx).i.line);
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				setState(633);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OtherExpressionContext extends ParserRuleContext {
+		public Expression expr;
+		public ValueContext v;
+		public IdentifierContext id;
+		public Token l;
+		public FunctionArgumentsContext f;
+		public SizeContext s;
+		public AppendContext ap;
+		public ValueContext value() {
+			return getRuleContext(ValueContext.class,0);
+		}
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public TerminalNode RPAR() { return getToken(CmmSllParser.RPAR, 0); }
+		public TerminalNode LPAR() { return getToken(CmmSllParser.LPAR, 0); }
+		public FunctionArgumentsContext functionArguments() {
+			return getRuleContext(FunctionArgumentsContext.class,0);
+		}
+		public SizeContext size() {
+			return getRuleContext(SizeContext.class,0);
+		}
+		public AppendContext append() {
+			return getRuleContext(AppendContext.class,0);
+		}
+		public OtherExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_otherExpression; }
+	}
+
+	public final OtherExpressionContext otherExpression() throws RecognitionException {
+		OtherExpressionContext _localctx = new OtherExpressionContext(_ctx, getState());
+		enterRule(_localctx, 70, RULE_otherExpression);
+		try {
+			setState(651);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case TRUE:
+			case FALSE:
+			case INT_VALUE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(634);
+				((OtherExpressionContext)_localctx).v = value();
+				((OtherExpressionContext)_localctx).expr =  ((OtherExpressionContext)_localctx).v.valueRet;
+				}
+				break;
+			case IDENTIFIER:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(637);
+				((OtherExpressionContext)_localctx).id = identifier();
+				((OtherExpressionContext)_localctx).expr =  ((OtherExpressionContext)_localctx).id.identifierRet;
+				}
+				break;
+			case LPAR:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(640);
+				((OtherExpressionContext)_localctx).l = match(LPAR);
+				{
+				setState(641);
+				((OtherExpressionContext)_localctx).f = functionArguments();
+				}
+				setState(642);
+				match(RPAR);
+				ExprInPar ex = new ExprInPar(((OtherExpressionContext)_localctx).f.funcArgRet);
+				     ex.setLine(((OtherExpressionContext)_localctx).l.getLine());
+				     ((OtherExpressionContext)_localctx).expr =  ex;
+				}
+				break;
+			case SIZE:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(645);
+				((OtherExpressionContext)_localctx).s = size();
+				((OtherExpressionContext)_localctx).expr =  ((OtherExpressionContext)_localctx).s.sizeRet;
+				}
+				break;
+			case APPEND:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(648);
+				((OtherExpressionContext)_localctx).ap = append();
+				((OtherExpressionContext)_localctx).expr =  ((OtherExpressionContext)_localctx).ap.appendRet;
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SizeContext extends ParserRuleContext {
+		public ListSize sizeRet;
+		public int line;
+		public Token s;
+		public ExpressionContext ex;
+		public TerminalNode LPAR() { return getToken(CmmSllParser.LPAR, 0); }
+		public TerminalNode RPAR() { return getToken(CmmSllParser.RPAR, 0); }
+		public TerminalNode SIZE() { return getToken(CmmSllParser.SIZE, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public SizeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_size; }
+	}
+
+	public final SizeContext size() throws RecognitionException {
+		SizeContext _localctx = new SizeContext(_ctx, getState());
+		enterRule(_localctx, 72, RULE_size);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(653);
+			((SizeContext)_localctx).s = match(SIZE);
+			setState(654);
+			match(LPAR);
+			setState(655);
+			((SizeContext)_localctx).ex = expression();
+			((SizeContext)_localctx).sizeRet =  new ListSize(((SizeContext)_localctx).ex.exprRet);
+			     _localctx.sizeRet.setLine(((SizeContext)_localctx).s.getLine());
+			     ((SizeContext)_localctx).line =  ((SizeContext)_localctx).s.getLine();
+			setState(657);
+			match(RPAR);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AppendContext extends ParserRuleContext {
+		public ListAppend appendRet;
+		public int line;
+		public Token ap;
+		public ExpressionContext ex1;
+		public ExpressionContext ex2;
+		public TerminalNode LPAR() { return getToken(CmmSllParser.LPAR, 0); }
+		public TerminalNode COMMA() { return getToken(CmmSllParser.COMMA, 0); }
+		public TerminalNode RPAR() { return getToken(CmmSllParser.RPAR, 0); }
+		public TerminalNode APPEND() { return getToken(CmmSllParser.APPEND, 0); }
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public AppendContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_append; }
+	}
+
+	public final AppendContext append() throws RecognitionException {
+		AppendContext _localctx = new AppendContext(_ctx, getState());
+		enterRule(_localctx, 74, RULE_append);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(659);
+			((AppendContext)_localctx).ap = match(APPEND);
+			setState(660);
+			match(LPAR);
+			setState(661);
+			((AppendContext)_localctx).ex1 = expression();
+			setState(662);
+			match(COMMA);
+			setState(663);
+			((AppendContext)_localctx).ex2 = expression();
+			setState(664);
+			match(RPAR);
+			((AppendContext)_localctx).appendRet =  new ListAppend(((AppendContext)_localctx).ex1.exprRet, ((AppendContext)_localctx).ex2.exprRet);
+			     _localctx.appendRet.setLine(((AppendContext)_localctx).ap.getLine());
+			     ((AppendContext)_localctx).line =  ((AppendContext)_localctx).ap.getLine();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ValueContext extends ParserRuleContext {
+		public Value valueRet;
+		public BoolValueContext b;
+		public Token iv;
+		public BoolValueContext boolValue() {
+			return getRuleContext(BoolValueContext.class,0);
+		}
+		public TerminalNode INT_VALUE() { return getToken(CmmSllParser.INT_VALUE, 0); }
+		public ValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_value; }
+	}
+
+	public final ValueContext value() throws RecognitionException {
+		ValueContext _localctx = new ValueContext(_ctx, getState());
+		enterRule(_localctx, 76, RULE_value);
+		try {
+			setState(672);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case TRUE:
+			case FALSE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(667);
+				((ValueContext)_localctx).b = boolValue();
+				((ValueContext)_localctx).valueRet =  ((ValueContext)_localctx).b.boolValueRet;
+				}
+				break;
+			case INT_VALUE:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(670);
+				((ValueContext)_localctx).iv = match(INT_VALUE);
+
+				    ((ValueContext)_localctx).valueRet =  new IntValue((((ValueContext)_localctx).iv!=null?Integer.valueOf(((ValueContext)_localctx).iv.getText()):0));
+				    _localctx.valueRet.setLine(((ValueContext)_localctx).iv.getLine());
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BoolValueContext extends ParserRuleContext {
+		public BoolValue boolValueRet;
+		public Token t;
+		public Token f;
+		public TerminalNode TRUE() { return getToken(CmmSllParser.TRUE, 0); }
+		public TerminalNode FALSE() { return getToken(CmmSllParser.FALSE, 0); }
+		public BoolValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_boolValue; }
+	}
+
+	public final BoolValueContext boolValue() throws RecognitionException {
+		BoolValueContext _localctx = new BoolValueContext(_ctx, getState());
+		enterRule(_localctx, 78, RULE_boolValue);
+		try {
+			setState(678);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case TRUE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(674);
+				((BoolValueContext)_localctx).t = match(TRUE);
+				((BoolValueContext)_localctx).boolValueRet =  new BoolValue(true);
+				     _localctx.boolValueRet.setLine(((BoolValueContext)_localctx).t.getLine());
+				}
+				break;
+			case FALSE:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(676);
+				((BoolValueContext)_localctx).f = match(FALSE);
+				((BoolValueContext)_localctx).boolValueRet =  new BoolValue(false);
+				     _localctx.boolValueRet.setLine(((BoolValueContext)_localctx).f.getLine());
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IdentifierContext extends ParserRuleContext {
+		public Identifier identifierRet;
+		public int line;
+		public Token id;
+		public TerminalNode IDENTIFIER() { return getToken(CmmSllParser.IDENTIFIER, 0); }
+		public IdentifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_identifier; }
+	}
+
+	public final IdentifierContext identifier() throws RecognitionException {
+		IdentifierContext _localctx = new IdentifierContext(_ctx, getState());
+		enterRule(_localctx, 80, RULE_identifier);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(680);
+			((IdentifierContext)_localctx).id = match(IDENTIFIER);
+
+			    ((IdentifierContext)_localctx).identifierRet =  new Identifier((((IdentifierContext)_localctx).id!=null?((IdentifierContext)_localctx).id.getText():null));
+			    _localctx.identifierRet.setLine(((IdentifierContext)_localctx).id.getLine());
+			    ((IdentifierContext)_localctx).line =  ((IdentifierContext)_localctx).id.getLine();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeContext extends ParserRuleContext {
+		public Type typeRet;
+		public TypeContext t;
+		public IdentifierContext id;
+		public FptrTypeContext f;
+		public TerminalNode INT() { return getToken(CmmSllParser.INT, 0); }
+		public TerminalNode BOOL() { return getToken(CmmSllParser.BOOL, 0); }
+		public TerminalNode LIST() { return getToken(CmmSllParser.LIST, 0); }
+		public TerminalNode SHARP() { return getToken(CmmSllParser.SHARP, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public TerminalNode STRUCT() { return getToken(CmmSllParser.STRUCT, 0); }
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public FptrTypeContext fptrType() {
+			return getRuleContext(FptrTypeContext.class,0);
+		}
+		public TypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_type; }
+	}
+
+	public final TypeContext type() throws RecognitionException {
+		TypeContext _localctx = new TypeContext(_ctx, getState());
+		enterRule(_localctx, 82, RULE_type);
+		try {
+			setState(699);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case INT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(683);
+				match(INT);
+				((TypeContext)_localctx).typeRet =  new IntType();
+				}
+				break;
+			case BOOL:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(685);
+				match(BOOL);
+				((TypeContext)_localctx).typeRet =  new BoolType();
+				}
+				break;
+			case LIST:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(687);
+				match(LIST);
+				setState(688);
+				match(SHARP);
+				setState(689);
+				((TypeContext)_localctx).t = type();
+				((TypeContext)_localctx).typeRet =  new ListType(((TypeContext)_localctx).t.typeRet);
+				}
+				break;
+			case STRUCT:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(692);
+				match(STRUCT);
+				setState(693);
+				((TypeContext)_localctx).id = identifier();
+				((TypeContext)_localctx).typeRet =  new StructType(((TypeContext)_localctx).id.identifierRet);
+				}
+				break;
+			case FPTR:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(696);
+				((TypeContext)_localctx).f = fptrType();
+				((TypeContext)_localctx).typeRet =  ((TypeContext)_localctx).f.fptrTypeRet;
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FptrTypeContext extends ParserRuleContext {
+		public FptrType fptrTypeRet;
+		public TypeContext t1;
+		public TypeContext t2;
+		public TypeContext t3;
+		public TerminalNode FPTR() { return getToken(CmmSllParser.FPTR, 0); }
+		public TerminalNode LESS_THAN() { return getToken(CmmSllParser.LESS_THAN, 0); }
+		public TerminalNode ARROW() { return getToken(CmmSllParser.ARROW, 0); }
+		public TerminalNode GREATER_THAN() { return getToken(CmmSllParser.GREATER_THAN, 0); }
+		public List<TerminalNode> VOID() { return getTokens(CmmSllParser.VOID); }
+		public TerminalNode VOID(int i) {
+			return getToken(CmmSllParser.VOID, i);
+		}
+		public List<TypeContext> type() {
+			return getRuleContexts(TypeContext.class);
+		}
+		public TypeContext type(int i) {
+			return getRuleContext(TypeContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(CmmSllParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(CmmSllParser.COMMA, i);
+		}
+		public FptrTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fptrType; }
+	}
+
+	public final FptrTypeContext fptrType() throws RecognitionException {
+		FptrTypeContext _localctx = new FptrTypeContext(_ctx, getState());
+		enterRule(_localctx, 84, RULE_fptrType);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			 ArrayList<Type> args = new ArrayList<>(); 
+			setState(702);
+			match(FPTR);
+			setState(703);
+			match(LESS_THAN);
+			setState(717);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case VOID:
+				{
+				setState(704);
+				match(VOID);
+				 args.add(new VoidType()); 
+				}
+				break;
+			case INT:
+			case BOOL:
+			case LIST:
+			case STRUCT:
+			case FPTR:
+				{
+				{
+				setState(706);
+				((FptrTypeContext)_localctx).t1 = type();
+				 args.add(((FptrTypeContext)_localctx).t1.typeRet); 
+				setState(714);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(708);
+					match(COMMA);
+					setState(709);
+					((FptrTypeContext)_localctx).t2 = type();
+					 args.add(((FptrTypeContext)_localctx).t2.typeRet); 
+					}
+					}
+					setState(716);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(719);
+			match(ARROW);
+			setState(725);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case INT:
+			case BOOL:
+			case LIST:
+			case STRUCT:
+			case FPTR:
+				{
+				setState(720);
+				((FptrTypeContext)_localctx).t3 = type();
+				((FptrTypeContext)_localctx).fptrTypeRet =  new FptrType(args, ((FptrTypeContext)_localctx).t3.typeRet);
+				}
+				break;
+			case VOID:
+				{
+				setState(723);
+				match(VOID);
+				((FptrTypeContext)_localctx).fptrTypeRet =  new FptrType(args, new VoidType());
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(727);
+			match(GREATER_THAN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\60\u02dc\4\2\t\2"+
+		"\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\3\2\3\2\6\2[\n\2\r\2\16\2\\\3\2\3\2\3\2\3\2\3\2\3\2\7\2e\n\2\f\2"+
+		"\16\2h\13\2\3\2\5\2k\n\2\6\2m\n\2\r\2\16\2n\3\3\3\3\3\3\3\3\6\3u\n\3\r"+
+		"\3\16\3v\3\3\3\3\3\3\3\3\3\3\3\3\7\3\177\n\3\f\3\16\3\u0082\13\3\3\3\5"+
+		"\3\u0085\n\3\6\3\u0087\n\3\r\3\16\3\u0088\3\3\6\3\u008c\n\3\r\3\16\3\u008d"+
+		"\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\5\4\u009a\n\4\3\4\6\4\u009d\n"+
+		"\4\r\4\16\4\u009e\3\4\3\4\3\4\5\4\u00a4\n\4\3\4\3\4\3\4\5\4\u00a9\n\4"+
+		"\5\4\u00ab\n\4\3\5\7\5\u00ae\n\5\f\5\16\5\u00b1\13\5\3\5\3\5\3\5\7\5\u00b6"+
+		"\n\5\f\5\16\5\u00b9\13\5\3\5\3\5\3\6\3\6\3\6\3\6\7\6\u00c1\n\6\f\6\16"+
+		"\6\u00c4\13\6\3\6\3\6\3\6\7\6\u00c9\n\6\f\6\16\6\u00cc\13\6\3\6\3\6\3"+
+		"\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\6\b\u00e0"+
+		"\n\b\r\b\16\b\u00e1\3\b\3\b\3\b\6\b\u00e7\n\b\r\b\16\b\u00e8\3\b\3\b\3"+
+		"\b\5\b\u00ee\n\b\5\b\u00f0\n\b\3\b\6\b\u00f3\n\b\r\b\16\b\u00f4\3\t\3"+
+		"\t\3\t\3\t\3\t\3\t\3\t\3\t\6\t\u00ff\n\t\r\t\16\t\u0100\3\t\3\t\3\t\3"+
+		"\t\3\t\3\t\3\n\3\n\3\n\3\n\3\n\3\n\5\n\u010f\n\n\3\13\3\13\3\13\3\13\6"+
+		"\13\u0115\n\13\r\13\16\13\u0116\3\f\3\f\3\f\3\f\6\f\u011d\n\f\r\f\16\f"+
+		"\u011e\3\r\3\r\3\r\3\r\3\r\3\r\5\r\u0127\n\r\3\r\3\r\3\r\3\r\3\r\6\r\u012e"+
+		"\n\r\r\r\16\r\u012f\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16"+
+		"\7\16\u013c\n\16\f\16\16\16\u013f\13\16\5\16\u0141\n\16\3\16\3\16\3\17"+
+		"\3\17\3\17\3\17\3\17\3\17\3\17\7\17\u014c\n\17\f\17\16\17\u014f\13\17"+
+		"\5\17\u0151\n\17\3\20\3\20\3\20\3\20\6\20\u0157\n\20\r\20\16\20\u0158"+
+		"\3\20\3\20\3\20\5\20\u015e\n\20\5\20\u0160\n\20\3\21\3\21\3\21\3\21\6"+
+		"\21\u0166\n\21\r\21\16\21\u0167\3\21\3\21\3\21\5\21\u016d\n\21\3\22\3"+
+		"\22\3\22\3\22\3\22\3\22\3\22\3\22\5\22\u0177\n\22\3\22\3\22\3\22\3\22"+
+		"\3\22\3\22\3\22\3\22\5\22\u0181\n\22\3\22\3\22\7\22\u0185\n\22\f\22\16"+
+		"\22\u0188\13\22\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23"+
+		"\7\23\u0195\n\23\f\23\16\23\u0198\13\23\3\23\3\23\3\23\3\23\3\23\3\23"+
+		"\3\23\3\24\3\24\3\24\3\24\3\24\3\24\5\24\u01a7\n\24\3\25\7\25\u01aa\n"+
+		"\25\f\25\16\25\u01ad\13\25\3\25\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\26"+
+		"\3\26\5\26\u01b9\n\26\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3\30"+
+		"\3\30\3\30\7\30\u01c7\n\30\f\30\16\30\u01ca\13\30\3\30\3\30\3\30\3\30"+
+		"\3\31\3\31\3\31\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3\33"+
+		"\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33"+
+		"\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\5\33\u01f6\n\33\3\34"+
+		"\3\34\3\34\3\34\3\34\3\34\5\34\u01fe\n\34\3\35\3\35\3\35\3\35\3\35\3\35"+
+		"\7\35\u0206\n\35\f\35\16\35\u0209\13\35\3\36\3\36\3\36\3\36\3\36\3\36"+
+		"\7\36\u0211\n\36\f\36\16\36\u0214\13\36\3\37\3\37\3\37\3\37\3\37\3\37"+
+		"\7\37\u021c\n\37\f\37\16\37\u021f\13\37\3 \3 \3 \3 \3 \3 \5 \u0227\n "+
+		"\3 \3 \3 \7 \u022c\n \f \16 \u022f\13 \3!\3!\3!\3!\3!\3!\5!\u0237\n!\3"+
+		"!\3!\3!\7!\u023c\n!\f!\16!\u023f\13!\3\"\3\"\3\"\3\"\3\"\3\"\5\"\u0247"+
+		"\n\"\3\"\3\"\3\"\7\"\u024c\n\"\f\"\16\"\u024f\13\"\3#\3#\3#\3#\5#\u0255"+
+		"\n#\3#\3#\3#\3#\3#\3#\5#\u025d\n#\3$\3$\3$\3$\3$\3$\3$\3$\3$\3$\3$\7$"+
+		"\u026a\n$\f$\16$\u026d\13$\3$\3$\3$\3$\3$\3$\3$\3$\3$\7$\u0278\n$\f$\16"+
+		"$\u027b\13$\3%\3%\3%\3%\3%\3%\3%\3%\3%\3%\3%\3%\3%\3%\3%\3%\3%\5%\u028e"+
+		"\n%\3&\3&\3&\3&\3&\3&\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3(\3(\3(\3(\3(\5"+
+		"(\u02a3\n(\3)\3)\3)\3)\5)\u02a9\n)\3*\3*\3*\3+\3+\3+\3+\3+\3+\3+\3+\3"+
+		"+\3+\3+\3+\3+\3+\3+\3+\5+\u02be\n+\3,\3,\3,\3,\3,\3,\3,\3,\3,\3,\3,\7"+
+		",\u02cb\n,\f,\16,\u02ce\13,\5,\u02d0\n,\3,\3,\3,\3,\3,\3,\5,\u02d8\n,"+
+		"\3,\3,\3,\2\2-\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64"+
+		"\668:<>@BDFHJLNPRTV\2\2\2\u0304\2X\3\2\2\2\4p\3\2\2\2\6\u0091\3\2\2\2"+
+		"\b\u00af\3\2\2\2\n\u00bc\3\2\2\2\f\u00d0\3\2\2\2\16\u00d7\3\2\2\2\20\u00f6"+
+		"\3\2\2\2\22\u010e\3\2\2\2\24\u0110\3\2\2\2\26\u0118\3\2\2\2\30\u0120\3"+
+		"\2\2\2\32\u0131\3\2\2\2\34\u0144\3\2\2\2\36\u015f\3\2\2\2 \u016c\3\2\2"+
+		"\2\"\u016e\3\2\2\2$\u0189\3\2\2\2&\u01a0\3\2\2\2(\u01ab\3\2\2\2*\u01b8"+
+		"\3\2\2\2,\u01ba\3\2\2\2.\u01c1\3\2\2\2\60\u01cf\3\2\2\2\62\u01d5\3\2\2"+
+		"\2\64\u01f5\3\2\2\2\66\u01f7\3\2\2\28\u01ff\3\2\2\2:\u020a\3\2\2\2<\u0215"+
+		"\3\2\2\2>\u0220\3\2\2\2@\u0230\3\2\2\2B\u0240\3\2\2\2D\u025c\3\2\2\2F"+
+		"\u025e\3\2\2\2H\u028d\3\2\2\2J\u028f\3\2\2\2L\u0295\3\2\2\2N\u02a2\3\2"+
+		"\2\2P\u02a8\3\2\2\2R\u02aa\3\2\2\2T\u02bd\3\2\2\2V\u02bf\3\2\2\2Xl\b\2"+
+		"\1\2Y[\7,\2\2ZY\3\2\2\2[\\\3\2\2\2\\Z\3\2\2\2\\]\3\2\2\2]^\3\2\2\2^_\5"+
+		"\22\n\2_f\b\2\1\2`a\7+\2\2ab\5\22\n\2bc\b\2\1\2ce\3\2\2\2d`\3\2\2\2eh"+
+		"\3\2\2\2fd\3\2\2\2fg\3\2\2\2gj\3\2\2\2hf\3\2\2\2ik\7+\2\2ji\3\2\2\2jk"+
+		"\3\2\2\2km\3\2\2\2lZ\3\2\2\2mn\3\2\2\2nl\3\2\2\2no\3\2\2\2o\3\3\2\2\2"+
+		"pq\b\3\1\2qr\7\30\2\2r\u0086\b\3\1\2su\7,\2\2ts\3\2\2\2uv\3\2\2\2vt\3"+
+		"\2\2\2vw\3\2\2\2wx\3\2\2\2xy\5\64\33\2y\u0080\b\3\1\2z{\7+\2\2{|\5\64"+
+		"\33\2|}\b\3\1\2}\177\3\2\2\2~z\3\2\2\2\177\u0082\3\2\2\2\u0080~\3\2\2"+
+		"\2\u0080\u0081\3\2\2\2\u0081\u0084\3\2\2\2\u0082\u0080\3\2\2\2\u0083\u0085"+
+		"\7+\2\2\u0084\u0083\3\2\2\2\u0084\u0085\3\2\2\2\u0085\u0087\3\2\2\2\u0086"+
+		"t\3\2\2\2\u0087\u0088\3\2\2\2\u0088\u0086\3\2\2\2\u0088\u0089\3\2\2\2"+
+		"\u0089\u008b\3\2\2\2\u008a\u008c\7,\2\2\u008b\u008a\3\2\2\2\u008c\u008d"+
+		"\3\2\2\2\u008d\u008b\3\2\2\2\u008d\u008e\3\2\2\2\u008e\u008f\3\2\2\2\u008f"+
+		"\u0090\7\31\2\2\u0090\5\3\2\2\2\u0091\u0092\7\t\2\2\u0092\u0093\5\66\34"+
+		"\2\u0093\u00aa\b\4\1\2\u0094\u0095\5\4\3\2\u0095\u0099\b\4\1\2\u0096\u0097"+
+		"\5(\25\2\u0097\u0098\b\4\1\2\u0098\u009a\3\2\2\2\u0099\u0096\3\2\2\2\u0099"+
+		"\u009a\3\2\2\2\u009a\u00ab\3\2\2\2\u009b\u009d\7,\2\2\u009c\u009b\3\2"+
+		"\2\2\u009d\u009e\3\2\2\2\u009e\u009c\3\2\2\2\u009e\u009f\3\2\2\2\u009f"+
+		"\u00a0\3\2\2\2\u00a0\u00a1\5\64\33\2\u00a1\u00a8\b\4\1\2\u00a2\u00a4\7"+
+		"+\2\2\u00a3\u00a2\3\2\2\2\u00a3\u00a4\3\2\2\2\u00a4\u00a5\3\2\2\2\u00a5"+
+		"\u00a6\5(\25\2\u00a6\u00a7\b\4\1\2\u00a7\u00a9\3\2\2\2\u00a8\u00a3\3\2"+
+		"\2\2\u00a8\u00a9\3\2\2\2\u00a9\u00ab\3\2\2\2\u00aa\u0094\3\2\2\2\u00aa"+
+		"\u009c\3\2\2\2\u00ab\7\3\2\2\2\u00ac\u00ae\7,\2\2\u00ad\u00ac\3\2\2\2"+
+		"\u00ae\u00b1\3\2\2\2\u00af\u00ad\3\2\2\2\u00af\u00b0\3\2\2\2\u00b0\u00b2"+
+		"\3\2\2\2\u00b1\u00af\3\2\2\2\u00b2\u00b3\5\n\6\2\u00b3\u00b7\b\5\1\2\u00b4"+
+		"\u00b6\7,\2\2\u00b5\u00b4\3\2\2\2\u00b6\u00b9\3\2\2\2\u00b7\u00b5\3\2"+
+		"\2\2\u00b7\u00b8\3\2\2\2\u00b8\u00ba\3\2\2\2\u00b9\u00b7\3\2\2\2\u00ba"+
+		"\u00bb\7\2\2\3\u00bb\t\3\2\2\2\u00bc\u00c2\b\6\1\2\u00bd\u00be\5\16\b"+
+		"\2\u00be\u00bf\b\6\1\2\u00bf\u00c1\3\2\2\2\u00c0\u00bd\3\2\2\2\u00c1\u00c4"+
+		"\3\2\2\2\u00c2\u00c0\3\2\2\2\u00c2\u00c3\3\2\2\2\u00c3\u00ca\3\2\2\2\u00c4"+
+		"\u00c2\3\2\2\2\u00c5\u00c6\5\30\r\2\u00c6\u00c7\b\6\1\2\u00c7\u00c9\3"+
+		"\2\2\2\u00c8\u00c5\3\2\2\2\u00c9\u00cc\3\2\2\2\u00ca\u00c8\3\2\2\2\u00ca"+
+		"\u00cb\3\2\2\2\u00cb\u00cd\3\2\2\2\u00cc\u00ca\3\2\2\2\u00cd\u00ce\5\f"+
+		"\7\2\u00ce\u00cf\b\6\1\2\u00cf\13\3\2\2\2\u00d0\u00d1\b\7\1\2\u00d1\u00d2"+
+		"\7\3\2\2\u00d2\u00d3\7%\2\2\u00d3\u00d4\7&\2\2\u00d4\u00d5\5\36\20\2\u00d5"+
+		"\u00d6\b\7\1\2\u00d6\r\3\2\2\2\u00d7\u00d8\b\b\1\2\u00d8\u00d9\7\35\2"+
+		"\2\u00d9\u00da\5R*\2\u00da\u00ef\b\b\1\2\u00db\u00dc\7\30\2\2\u00dc\u00dd"+
+		"\5\2\2\2\u00dd\u00df\b\b\1\2\u00de\u00e0\7,\2\2\u00df\u00de\3\2\2\2\u00e0"+
+		"\u00e1\3\2\2\2\u00e1\u00df\3\2\2\2\u00e1\u00e2\3\2\2\2\u00e2\u00e3\3\2"+
+		"\2\2\u00e3\u00e4\7\31\2\2\u00e4\u00f0\3\2\2\2\u00e5\u00e7\7,\2\2\u00e6"+
+		"\u00e5\3\2\2\2\u00e7\u00e8\3\2\2\2\u00e8\u00e6\3\2\2\2\u00e8\u00e9\3\2"+
+		"\2\2\u00e9\u00ea\3\2\2\2\u00ea\u00eb\5\22\n\2\u00eb\u00ed\b\b\1\2\u00ec"+
+		"\u00ee\7+\2\2\u00ed\u00ec\3\2\2\2\u00ed\u00ee\3\2\2\2\u00ee\u00f0\3\2"+
+		"\2\2\u00ef\u00db\3\2\2\2\u00ef\u00e6\3\2\2\2\u00f0\u00f2\3\2\2\2\u00f1"+
+		"\u00f3\7,\2\2\u00f2\u00f1\3\2\2\2\u00f3\u00f4\3\2\2\2\u00f4\u00f2\3\2"+
+		"\2\2\u00f4\u00f5\3\2\2\2\u00f5\17\3\2\2\2\u00f6\u00f7\b\t\1\2\u00f7\u00f8"+
+		"\5T+\2\u00f8\u00f9\5R*\2\u00f9\u00fa\b\t\1\2\u00fa\u00fb\5\32\16\2\u00fb"+
+		"\u00fc\b\t\1\2\u00fc\u00fe\7\30\2\2\u00fd\u00ff\7,\2\2\u00fe\u00fd\3\2"+
+		"\2\2\u00ff\u0100\3\2\2\2\u0100\u00fe\3\2\2\2\u0100\u0101\3\2\2\2\u0101"+
+		"\u0102\3\2\2\2\u0102\u0103\5\26\f\2\u0103\u0104\b\t\1\2\u0104\u0105\5"+
+		"\24\13\2\u0105\u0106\b\t\1\2\u0106\u0107\7\31\2\2\u0107\21\3\2\2\2\u0108"+
+		"\u0109\5\"\22\2\u0109\u010a\b\n\1\2\u010a\u010f\3\2\2\2\u010b\u010c\5"+
+		"\20\t\2\u010c\u010d\b\n\1\2\u010d\u010f\3\2\2\2\u010e\u0108\3\2\2\2\u010e"+
+		"\u010b\3\2\2\2\u010f\23\3\2\2\2\u0110\u0111\7\37\2\2\u0111\u0112\5\36"+
+		"\20\2\u0112\u0114\b\13\1\2\u0113\u0115\7,\2\2\u0114\u0113\3\2\2\2\u0115"+
+		"\u0116\3\2\2\2\u0116\u0114\3\2\2\2\u0116\u0117\3\2\2\2\u0117\25\3\2\2"+
+		"\2\u0118\u0119\7 \2\2\u0119\u011a\5\36\20\2\u011a\u011c\b\f\1\2\u011b"+
+		"\u011d\7,\2\2\u011c\u011b\3\2\2\2\u011d\u011e\3\2\2\2\u011e\u011c\3\2"+
+		"\2\2\u011e\u011f\3\2\2\2\u011f\27\3\2\2\2\u0120\u0126\b\r\1\2\u0121\u0122"+
+		"\5T+\2\u0122\u0123\b\r\1\2\u0123\u0127\3\2\2\2\u0124\u0125\7\5\2\2\u0125"+
+		"\u0127\b\r\1\2\u0126\u0121\3\2\2\2\u0126\u0124\3\2\2\2\u0127\u0128\3\2"+
+		"\2\2\u0128\u0129\5R*\2\u0129\u012a\5\32\16\2\u012a\u012b\5\36\20\2\u012b"+
+		"\u012d\b\r\1\2\u012c\u012e\7,\2\2\u012d\u012c\3\2\2\2\u012e\u012f\3\2"+
+		"\2\2\u012f\u012d\3\2\2\2\u012f\u0130\3\2\2\2\u0130\31\3\2\2\2\u0131\u0132"+
+		"\b\16\1\2\u0132\u0140\7%\2\2\u0133\u0134\5T+\2\u0134\u0135\5R*\2\u0135"+
+		"\u013d\b\16\1\2\u0136\u0137\7)\2\2\u0137\u0138\5T+\2\u0138\u0139\5R*\2"+
+		"\u0139\u013a\b\16\1\2\u013a\u013c\3\2\2\2\u013b\u0136\3\2\2\2\u013c\u013f"+
+		"\3\2\2\2\u013d\u013b\3\2\2\2\u013d\u013e\3\2\2\2\u013e\u0141\3\2\2\2\u013f"+
+		"\u013d\3\2\2\2\u0140\u0133\3\2\2\2\u0140\u0141\3\2\2\2\u0141\u0142\3\2"+
+		"\2\2\u0142\u0143\7&\2\2\u0143\33\3\2\2\2\u0144\u0150\b\17\1\2\u0145\u0146"+
+		"\5\66\34\2\u0146\u014d\b\17\1\2\u0147\u0148\7)\2\2\u0148\u0149\5\66\34"+
+		"\2\u0149\u014a\b\17\1\2\u014a\u014c\3\2\2\2\u014b\u0147\3\2\2\2\u014c"+
+		"\u014f\3\2\2\2\u014d\u014b\3\2\2\2\u014d\u014e\3\2\2\2\u014e\u0151\3\2"+
+		"\2\2\u014f\u014d\3\2\2\2\u0150\u0145\3\2\2\2\u0150\u0151\3\2\2\2\u0151"+
+		"\35\3\2\2\2\u0152\u0153\5\4\3\2\u0153\u0154\b\20\1\2\u0154\u0160\3\2\2"+
+		"\2\u0155\u0157\7,\2\2\u0156\u0155\3\2\2\2\u0157\u0158\3\2\2\2\u0158\u0156"+
+		"\3\2\2\2\u0158\u0159\3\2\2\2\u0159\u015a\3\2\2\2\u015a\u015b\5\64\33\2"+
+		"\u015b\u015d\b\20\1\2\u015c\u015e\7+\2\2\u015d\u015c\3\2\2\2\u015d\u015e"+
+		"\3\2\2\2\u015e\u0160\3\2\2\2\u015f\u0152\3\2\2\2\u015f\u0156\3\2\2\2\u0160"+
+		"\37\3\2\2\2\u0161\u0162\5\4\3\2\u0162\u0163\b\21\1\2\u0163\u016d\3\2\2"+
+		"\2\u0164\u0166\7,\2\2\u0165\u0164\3\2\2\2\u0166\u0167\3\2\2\2\u0167\u0165"+
+		"\3\2\2\2\u0167\u0168\3\2\2\2\u0168\u0169\3\2\2\2\u0169\u016a\5\64\33\2"+
+		"\u016a\u016b\b\21\1\2\u016b\u016d\3\2\2\2\u016c\u0161\3\2\2\2\u016c\u0165"+
+		"\3\2\2\2\u016d!\3\2\2\2\u016e\u016f\b\22\1\2\u016f\u0170\5T+\2\u0170\u0171"+
+		"\5R*\2\u0171\u0176\b\22\1\2\u0172\u0173\7#\2\2\u0173\u0174\58\35\2\u0174"+
+		"\u0175\b\22\1\2\u0175\u0177\3\2\2\2\u0176\u0172\3\2\2\2\u0176\u0177\3"+
+		"\2\2\2\u0177\u0178\3\2\2\2\u0178\u0186\b\22\1\2\u0179\u017a\7)\2\2\u017a"+
+		"\u017b\5R*\2\u017b\u0180\b\22\1\2\u017c\u017d\7#\2\2\u017d\u017e\58\35"+
+		"\2\u017e\u017f\b\22\1\2\u017f\u0181\3\2\2\2\u0180\u017c\3\2\2\2\u0180"+
+		"\u0181\3\2\2\2\u0181\u0182\3\2\2\2\u0182\u0183\b\22\1\2\u0183\u0185\3"+
+		"\2\2\2\u0184\u0179\3\2\2\2\u0185\u0188\3\2\2\2\u0186\u0184\3\2\2\2\u0186"+
+		"\u0187\3\2\2\2\u0187#\3\2\2\2\u0188\u0186\3\2\2\2\u0189\u018a\5H%\2\u018a"+
+		"\u0196\b\23\1\2\u018b\u018c\7%\2\2\u018c\u018d\5\34\17\2\u018d\u018e\7"+
+		"&\2\2\u018e\u018f\b\23\1\2\u018f\u0195\3\2\2\2\u0190\u0191\7*\2\2\u0191"+
+		"\u0192\5R*\2\u0192\u0193\b\23\1\2\u0193\u0195\3\2\2\2\u0194\u018b\3\2"+
+		"\2\2\u0194\u0190\3\2\2\2\u0195\u0198\3\2\2\2\u0196\u0194\3\2\2\2\u0196"+
+		"\u0197\3\2\2\2\u0197\u0199\3\2\2\2\u0198\u0196\3\2\2\2\u0199\u019a\7%"+
+		"\2\2\u019a\u019b\5\34\17\2\u019b\u019c\7&\2\2\u019c\u019d\b\23\1\2\u019d"+
+		"\u019e\3\2\2\2\u019e\u019f\b\23\1\2\u019f%\3\2\2\2\u01a0\u01a1\b\24\1"+
+		"\2\u01a1\u01a2\7\4\2\2\u01a2\u01a6\b\24\1\2\u01a3\u01a4\5\66\34\2\u01a4"+
+		"\u01a5\b\24\1\2\u01a5\u01a7\3\2\2\2\u01a6\u01a3\3\2\2\2\u01a6\u01a7\3"+
+		"\2\2\2\u01a7\'\3\2\2\2\u01a8\u01aa\7,\2\2\u01a9\u01a8\3\2\2\2\u01aa\u01ad"+
+		"\3\2\2\2\u01ab\u01a9\3\2\2\2\u01ab\u01ac\3\2\2\2\u01ac\u01ae\3\2\2\2\u01ad"+
+		"\u01ab\3\2\2\2\u01ae\u01af\7\n\2\2\u01af\u01b0\5 \21\2\u01b0\u01b1\b\25"+
+		"\1\2\u01b1)\3\2\2\2\u01b2\u01b3\5,\27\2\u01b3\u01b4\b\26\1\2\u01b4\u01b9"+
+		"\3\2\2\2\u01b5\u01b6\5.\30\2\u01b6\u01b7\b\26\1\2\u01b7\u01b9\3\2\2\2"+
+		"\u01b8\u01b2\3\2\2\2\u01b8\u01b5\3\2\2\2\u01b9+\3\2\2\2\u01ba\u01bb\b"+
+		"\27\1\2\u01bb\u01bc\7!\2\2\u01bc\u01bd\5\66\34\2\u01bd\u01be\b\27\1\2"+
+		"\u01be\u01bf\5 \21\2\u01bf\u01c0\b\27\1\2\u01c0-\3\2\2\2\u01c1\u01c2\b"+
+		"\30\1\2\u01c2\u01c3\7\"\2\2\u01c3\u01c4\5\36\20\2\u01c4\u01c8\b\30\1\2"+
+		"\u01c5\u01c7\7,\2\2\u01c6\u01c5\3\2\2\2\u01c7\u01ca\3\2\2\2\u01c8\u01c6"+
+		"\3\2\2\2\u01c8\u01c9\3\2\2\2\u01c9\u01cb\3\2\2\2\u01ca\u01c8\3\2\2\2\u01cb"+
+		"\u01cc\7!\2\2\u01cc\u01cd\5\66\34\2\u01cd\u01ce\b\30\1\2\u01ce/\3\2\2"+
+		"\2\u01cf\u01d0\7\7\2\2\u01d0\u01d1\7%\2\2\u01d1\u01d2\5\66\34\2\u01d2"+
+		"\u01d3\b\31\1\2\u01d3\u01d4\7&\2\2\u01d4\61\3\2\2\2\u01d5\u01d6\58\35"+
+		"\2\u01d6\u01d7\7#\2\2\u01d7\u01d8\5\66\34\2\u01d8\u01d9\b\32\1\2\u01d9"+
+		"\63\3\2\2\2\u01da\u01db\5\6\4\2\u01db\u01dc\b\33\1\2\u01dc\u01f6\3\2\2"+
+		"\2\u01dd\u01de\5\60\31\2\u01de\u01df\b\33\1\2\u01df\u01f6\3\2\2\2\u01e0"+
+		"\u01e1\5$\23\2\u01e1\u01e2\b\33\1\2\u01e2\u01f6\3\2\2\2\u01e3\u01e4\5"+
+		"&\24\2\u01e4\u01e5\b\33\1\2\u01e5\u01f6\3\2\2\2\u01e6\u01e7\5\62\32\2"+
+		"\u01e7\u01e8\b\33\1\2\u01e8\u01f6\3\2\2\2\u01e9\u01ea\5\"\22\2\u01ea\u01eb"+
+		"\b\33\1\2\u01eb\u01f6\3\2\2\2\u01ec\u01ed\5*\26\2\u01ed\u01ee\b\33\1\2"+
+		"\u01ee\u01f6\3\2\2\2\u01ef\u01f0\5L\'\2\u01f0\u01f1\b\33\1\2\u01f1\u01f6"+
+		"\3\2\2\2\u01f2\u01f3\5J&\2\u01f3\u01f4\b\33\1\2\u01f4\u01f6\3\2\2\2\u01f5"+
+		"\u01da\3\2\2\2\u01f5\u01dd\3\2\2\2\u01f5\u01e0\3\2\2\2\u01f5\u01e3\3\2"+
+		"\2\2\u01f5\u01e6\3\2\2\2\u01f5\u01e9\3\2\2\2\u01f5\u01ec\3\2\2\2\u01f5"+
+		"\u01ef\3\2\2\2\u01f5\u01f2\3\2\2\2\u01f6\65\3\2\2\2\u01f7\u01f8\58\35"+
+		"\2\u01f8\u01fd\b\34\1\2\u01f9\u01fa\7#\2\2\u01fa\u01fb\5\66\34\2\u01fb"+
+		"\u01fc\b\34\1\2\u01fc\u01fe\3\2\2\2\u01fd\u01f9\3\2\2\2\u01fd\u01fe\3"+
+		"\2\2\2\u01fe\67\3\2\2\2\u01ff\u0200\5:\36\2\u0200\u0207\b\35\1\2\u0201"+
+		"\u0202\7\24\2\2\u0202\u0203\5:\36\2\u0203\u0204\b\35\1\2\u0204\u0206\3"+
+		"\2\2\2\u0205\u0201\3\2\2\2\u0206\u0209\3\2\2\2\u0207\u0205\3\2\2\2\u0207"+
+		"\u0208\3\2\2\2\u02089\3\2\2\2\u0209\u0207\3\2\2\2\u020a\u020b\5<\37\2"+
+		"\u020b\u0212\b\36\1\2\u020c\u020d\7\23\2\2\u020d\u020e\5<\37\2\u020e\u020f"+
+		"\b\36\1\2\u020f\u0211\3\2\2\2\u0210\u020c\3\2\2\2\u0211\u0214\3\2\2\2"+
+		"\u0212\u0210\3\2\2\2\u0212\u0213\3\2\2\2\u0213;\3\2\2\2\u0214\u0212\3"+
+		"\2\2\2\u0215\u0216\5> \2\u0216\u021d\b\37\1\2\u0217\u0218\7\17\2\2\u0218"+
+		"\u0219\5> \2\u0219\u021a\b\37\1\2\u021a\u021c\3\2\2\2\u021b\u0217\3\2"+
+		"\2\2\u021c\u021f\3\2\2\2\u021d\u021b\3\2\2\2\u021d\u021e\3\2\2\2\u021e"+
+		"=\3\2\2\2\u021f\u021d\3\2\2\2\u0220\u0221\5@!\2\u0221\u022d\b \1\2\u0222"+
+		"\u0223\7\21\2\2\u0223\u0227\b \1\2\u0224\u0225\7\22\2\2\u0225\u0227\b"+
+		" \1\2\u0226\u0222\3\2\2\2\u0226\u0224\3\2\2\2\u0227\u0228\3\2\2\2\u0228"+
+		"\u0229\5@!\2\u0229\u022a\b \1\2\u022a\u022c\3\2\2\2\u022b\u0226\3\2\2"+
+		"\2\u022c\u022f\3\2\2\2\u022d\u022b\3\2\2\2\u022d\u022e\3\2\2\2\u022e?"+
+		"\3\2\2\2\u022f\u022d\3\2\2\2\u0230\u0231\5B\"\2\u0231\u023d\b!\1\2\u0232"+
+		"\u0233\7\13\2\2\u0233\u0237\b!\1\2\u0234\u0235\7\f\2\2\u0235\u0237\b!"+
+		"\1\2\u0236\u0232\3\2\2\2\u0236\u0234\3\2\2\2\u0237\u0238\3\2\2\2\u0238"+
+		"\u0239\5B\"\2\u0239\u023a\b!\1\2\u023a\u023c\3\2\2\2\u023b\u0236\3\2\2"+
+		"\2\u023c\u023f\3\2\2\2\u023d\u023b\3\2\2\2\u023d\u023e\3\2\2\2\u023eA"+
+		"\3\2\2\2\u023f\u023d\3\2\2\2\u0240\u0241\5D#\2\u0241\u024d\b\"\1\2\u0242"+
+		"\u0243\7\r\2\2\u0243\u0247\b\"\1\2\u0244\u0245\7\16\2\2\u0245\u0247\b"+
+		"\"\1\2\u0246\u0242\3\2\2\2\u0246\u0244\3\2\2\2\u0247\u0248\3\2\2\2\u0248"+
+		"\u0249\5D#\2\u0249\u024a\b\"\1\2\u024a\u024c\3\2\2\2\u024b\u0246\3\2\2"+
+		"\2\u024c\u024f\3\2\2\2\u024d\u024b\3\2\2\2\u024d\u024e\3\2\2\2\u024eC"+
+		"\3\2\2\2\u024f\u024d\3\2\2\2\u0250\u0251\7\25\2\2\u0251\u0255\b#\1\2\u0252"+
+		"\u0253\7\f\2\2\u0253\u0255\b#\1\2\u0254\u0250\3\2\2\2\u0254\u0252\3\2"+
+		"\2\2\u0255\u0256\3\2\2\2\u0256\u0257\5D#\2\u0257\u0258\b#\1\2\u0258\u025d"+
+		"\3\2\2\2\u0259\u025a\5F$\2\u025a\u025b\b#\1\2\u025b\u025d\3\2\2\2\u025c"+
+		"\u0254\3\2\2\2\u025c\u0259\3\2\2\2\u025dE\3\2\2\2\u025e\u025f\5H%\2\u025f"+
+		"\u026b\b$\1\2\u0260\u0261\7%\2\2\u0261\u0262\5\34\17\2\u0262\u0263\b$"+
+		"\1\2\u0263\u0264\7&\2\2\u0264\u026a\3\2\2\2\u0265\u0266\7*\2\2\u0266\u0267"+
+		"\5R*\2\u0267\u0268\b$\1\2\u0268\u026a\3\2\2\2\u0269\u0260\3\2\2\2\u0269"+
+		"\u0265\3\2\2\2\u026a\u026d\3\2\2\2\u026b\u0269\3\2\2\2\u026b\u026c\3\2"+
+		"\2\2\u026c\u0279\3\2\2\2\u026d\u026b\3\2\2\2\u026e\u026f\7\'\2\2\u026f"+
+		"\u0270\5\66\34\2\u0270\u0271\b$\1\2\u0271\u0272\7(\2\2\u0272\u0278\3\2"+
+		"\2\2\u0273\u0274\7*\2\2\u0274\u0275\5R*\2\u0275\u0276\b$\1\2\u0276\u0278"+
+		"\3\2\2\2\u0277\u026e\3\2\2\2\u0277\u0273\3\2\2\2\u0278\u027b\3\2\2\2\u0279"+
+		"\u0277\3\2\2\2\u0279\u027a\3\2\2\2\u027aG\3\2\2\2\u027b\u0279\3\2\2\2"+
+		"\u027c\u027d\5N(\2\u027d\u027e\b%\1\2\u027e\u028e\3\2\2\2\u027f\u0280"+
+		"\5R*\2\u0280\u0281\b%\1\2\u0281\u028e\3\2\2\2\u0282\u0283\7%\2\2\u0283"+
+		"\u0284\5\34\17\2\u0284\u0285\7&\2\2\u0285\u0286\b%\1\2\u0286\u028e\3\2"+
+		"\2\2\u0287\u0288\5J&\2\u0288\u0289\b%\1\2\u0289\u028e\3\2\2\2\u028a\u028b"+
+		"\5L\'\2\u028b\u028c\b%\1\2\u028c\u028e\3\2\2\2\u028d\u027c\3\2\2\2\u028d"+
+		"\u027f\3\2\2\2\u028d\u0282\3\2\2\2\u028d\u0287\3\2\2\2\u028d\u028a\3\2"+
+		"\2\2\u028eI\3\2\2\2\u028f\u0290\7\6\2\2\u0290\u0291\7%\2\2\u0291\u0292"+
+		"\5\66\34\2\u0292\u0293\b&\1\2\u0293\u0294\7&\2\2\u0294K\3\2\2\2\u0295"+
+		"\u0296\7\b\2\2\u0296\u0297\7%\2\2\u0297\u0298\5\66\34\2\u0298\u0299\7"+
+		")\2\2\u0299\u029a\5\66\34\2\u029a\u029b\7&\2\2\u029b\u029c\b\'\1\2\u029c"+
+		"M\3\2\2\2\u029d\u029e\5P)\2\u029e\u029f\b(\1\2\u029f\u02a3\3\2\2\2\u02a0"+
+		"\u02a1\7-\2\2\u02a1\u02a3\b(\1\2\u02a2\u029d\3\2\2\2\u02a2\u02a0\3\2\2"+
+		"\2\u02a3O\3\2\2\2\u02a4\u02a5\7\26\2\2\u02a5\u02a9\b)\1\2\u02a6\u02a7"+
+		"\7\27\2\2\u02a7\u02a9\b)\1\2\u02a8\u02a4\3\2\2\2\u02a8\u02a6\3\2\2\2\u02a9"+
+		"Q\3\2\2\2\u02aa\u02ab\7.\2\2\u02ab\u02ac\b*\1\2\u02acS\3\2\2\2\u02ad\u02ae"+
+		"\7\32\2\2\u02ae\u02be\b+\1\2\u02af\u02b0\7\33\2\2\u02b0\u02be\b+\1\2\u02b1"+
+		"\u02b2\7\34\2\2\u02b2\u02b3\7$\2\2\u02b3\u02b4\5T+\2\u02b4\u02b5\b+\1"+
+		"\2\u02b5\u02be\3\2\2\2\u02b6\u02b7\7\35\2\2\u02b7\u02b8\5R*\2\u02b8\u02b9"+
+		"\b+\1\2\u02b9\u02be\3\2\2\2\u02ba\u02bb\5V,\2\u02bb\u02bc\b+\1\2\u02bc"+
+		"\u02be\3\2\2\2\u02bd\u02ad\3\2\2\2\u02bd\u02af\3\2\2\2\u02bd\u02b1\3\2"+
+		"\2\2\u02bd\u02b6\3\2\2\2\u02bd\u02ba\3\2\2\2\u02beU\3\2\2\2\u02bf\u02c0"+
+		"\b,\1\2\u02c0\u02c1\7\36\2\2\u02c1\u02cf\7\22\2\2\u02c2\u02c3\7\5\2\2"+
+		"\u02c3\u02d0\b,\1\2\u02c4\u02c5\5T+\2\u02c5\u02cc\b,\1\2\u02c6\u02c7\7"+
+		")\2\2\u02c7\u02c8\5T+\2\u02c8\u02c9\b,\1\2\u02c9\u02cb\3\2\2\2\u02ca\u02c6"+
+		"\3\2\2\2\u02cb\u02ce\3\2\2\2\u02cc\u02ca\3\2\2\2\u02cc\u02cd\3\2\2\2\u02cd"+
+		"\u02d0\3\2\2\2\u02ce\u02cc\3\2\2\2\u02cf\u02c2\3\2\2\2\u02cf\u02c4\3\2"+
+		"\2\2\u02d0\u02d1\3\2\2\2\u02d1\u02d7\7\20\2\2\u02d2\u02d3\5T+\2\u02d3"+
+		"\u02d4\b,\1\2\u02d4\u02d8\3\2\2\2\u02d5\u02d6\7\5\2\2\u02d6\u02d8\b,\1"+
+		"\2\u02d7\u02d2\3\2\2\2\u02d7\u02d5\3\2\2\2\u02d8\u02d9\3\2\2\2\u02d9\u02da"+
+		"\7\21\2\2\u02daW\3\2\2\2I\\fjnv\u0080\u0084\u0088\u008d\u0099\u009e\u00a3"+
+		"\u00a8\u00aa\u00af\u00b7\u00c2\u00ca\u00e1\u00e8\u00ed\u00ef\u00f4\u0100"+
+		"\u010e\u0116\u011e\u0126\u012f\u013d\u0140\u014d\u0150\u0158\u015d\u015f"+
+		"\u0167\u016c\u0176\u0180\u0186\u0194\u0196\u01a6\u01ab\u01b8\u01c8\u01f5"+
+		"\u01fd\u0207\u0212\u021d\u0226\u022d\u0236\u023d\u0246\u024d\u0254\u025c"+
+		"\u0269\u026b\u0277\u0279\u028d\u02a2\u02a8\u02bd\u02cc\u02cf\u02d7";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file